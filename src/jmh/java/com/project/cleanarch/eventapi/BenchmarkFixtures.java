@@ -0,0 +1,87 @@
+package com.project.cleanarch.eventapi;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+/**
+ * Dados fixos compartilhados pelos benchmarks JMH
+ * Valores determinísticos para que os resultados sejam comparáveis entre versões
+ */
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Event event(int index) {
+        return new Event("Conferência de Tecnologia " + index, "Palestras e workshops sobre arquitetura", "tech-conf-" + index,
+                BASE.plusDays(index), BASE.plusDays(index).plusHours(8), "Centro de Convenções - São Paulo", 500,
+                EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+    }
+
+    public static List<Event> events(int size) {
+        return IntStream.range(0, size).mapToObj(BenchmarkFixtures::event).toList();
+    }
+
+    public static EventEntity entity(int index) {
+        Event event = event(index);
+        EventEntity entity = new EventEntity();
+        entity.setId((long) index + 1);
+        entity.setName(event.name());
+        entity.setDescription(event.description());
+        entity.setIdentifier(event.identifier());
+        entity.setStartAt(event.startAt());
+        entity.setEndAt(event.endAt());
+        entity.setLocation(event.location());
+        entity.setCapacity(event.capacity());
+        entity.setType(event.type());
+        entity.setStatus(event.status());
+        return entity;
+    }
+
+    public static EventDTO dto(int index) {
+        Event event = event(index);
+        return EventDTO.builder()
+                .id((long) index + 1)
+                .name(event.name())
+                .description(event.description())
+                .identifier(event.identifier())
+                .startAt(event.startAt())
+                .endAt(event.endAt())
+                .location(event.location())
+                .capacity(event.capacity())
+                .type(event.type())
+                .status(event.status())
+                .build();
+    }
+
+    /**
+     * Repositório sem I/O: isola o custo da validação do custo do banco
+     * Nenhum identificador existe, exceto os informados em {@code existingIdentifiers}
+     */
+    public static EventRepository inMemoryRepository(Set<String> existingIdentifiers) {
+        return (EventRepository) Proxy.newProxyInstance(EventRepository.class.getClassLoader(), new Class<?>[]{EventRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "existsByIdentifier" -> existingIdentifiers.contains((String) args[0]);
+                    case "findExistingIdentifiers" -> ((Collection<?>) args[0]).stream()
+                            .filter(existingIdentifiers::contains)
+                            .collect(Collectors.toSet());
+                    case "findById" -> Optional.of(entity(((Long) args[0]).intValue()));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
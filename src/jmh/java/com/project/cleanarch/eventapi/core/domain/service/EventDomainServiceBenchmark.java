@@ -0,0 +1,71 @@
+package com.project.cleanarch.eventapi.core.domain.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.project.cleanarch.eventapi.BenchmarkFixtures;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+
+/**
+ * Caminhos de validação do domínio, com um repositório em memória para excluir o custo do banco
+ * O caminho de falha mede também o custo de criar a BusinessException (stack trace incluso)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventDomainServiceBenchmark {
+
+    @Param({"100"})
+    public int batchSize;
+
+    private EventDomainService service;
+    private Event validEvent;
+    private Event duplicatedEvent;
+    private List<Event> batch;
+
+    @Setup
+    public void setUp() {
+        service = new EventDomainService(BenchmarkFixtures.inMemoryRepository(Set.of("tech-conf-0")));
+        validEvent = BenchmarkFixtures.event(1);
+        duplicatedEvent = BenchmarkFixtures.event(0);
+        batch = BenchmarkFixtures.events(batchSize);
+    }
+
+    @Benchmark
+    public Event validateCreation() {
+        service.validateEventCreation(validEvent);
+        return validEvent;
+    }
+
+    @Benchmark
+    public BusinessException validateCreationRejected() {
+        try {
+            service.validateEventCreation(duplicatedEvent);
+            return null;
+        } catch (BusinessException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Event validateUpdate() {
+        service.validateEventUpdate(1L, validEvent);
+        return validEvent;
+    }
+
+    @Benchmark
+    public Map<Integer, BusinessException> validateBatchCreation() {
+        return service.validateEventsCreation(batch);
+    }
+}
@@ -0,0 +1,66 @@
+package com.project.cleanarch.eventapi.infraestruct.dtos;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.BenchmarkFixtures;
+
+/**
+ * Serialização das respostas da API com um ObjectMapper equivalente ao configurado no application.yml
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventJsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private EventDTO event;
+    private Page<EventDTO> page;
+    private byte[] eventJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .build();
+        event = BenchmarkFixtures.dto(1);
+        List<EventDTO> content = IntStream.range(0, pageSize).mapToObj(BenchmarkFixtures::dto).toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+        eventJson = objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] serializeEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public EventDTO deserializeEvent() throws IOException {
+        return objectMapper.readValue(eventJson, EventDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,129 @@
+package com.project.cleanarch.eventapi.infraestruct.logging;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * Custo de log por requisição na thread chamadora, simulando as duas linhas INFO do RetrieverEventByIdUseCaseImpl
+ * SYNC: padrão atual (formata e escreve com flush a cada linha). ASYNC: pipeline do profile prod.
+ * ASYNC_SAMPLED: pipeline do profile prod com amostragem de 1% na categoria.
+ * As escritas vão para um arquivo temporário para incluir o custo real de I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggingPipelineBenchmark {
+
+    private static final String CATEGORY = "com.project.cleanarch.eventapi.core.usecases.RetrieverEventByIdUseCaseImpl";
+    private static final String PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+    @Param({"SYNC", "ASYNC", "ASYNC_SAMPLED"})
+    public String pipeline;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path file;
+    private long id;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+        // Sem adapter o AsyncAppender cai em um caminho lento ao copiar o MDC de cada evento
+        context.setMDCAdapter(new LogbackMDCAdapter());
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        Appender<ILoggingEvent> appender = "SYNC".equals(pipeline) ? syncAppender(encoder) : asyncAppender(encoder);
+        ch.qos.logback.classic.Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+
+        if ("ASYNC_SAMPLED".equals(pipeline)) {
+            SamplingTurboFilter filter = new SamplingTurboFilter();
+            filter.setContext(context);
+            filter.addSample(CATEGORY + "=0.01");
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        logger = context.getLogger(CATEGORY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long request() {
+        long current = ++id;
+        logger.info("Buscando evento por ID: id={}", current);
+        logger.info("Evento encontrado: id={}, identifier={}, name={}", current, "tech-conf-" + current, "Conferência de Tecnologia");
+        return current;
+    }
+
+    private Appender<ILoggingEvent> syncAppender(PatternLayoutEncoder encoder) {
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setFile(file.toString());
+        appender.setEncoder(encoder);
+        appender.setImmediateFlush(true);
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> asyncAppender(PatternLayoutEncoder encoder) {
+        BatchingConsoleAppender<ILoggingEvent> batching = new BatchingConsoleAppender<>() {
+            @Override
+            protected OutputStream target() {
+                try {
+                    return new FileOutputStream(file.toFile(), true);
+                } catch (FileNotFoundException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        batching.setContext(context);
+        batching.setEncoder(encoder);
+        batching.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.addAppender(batching);
+        async.start();
+        return async;
+    }
+}
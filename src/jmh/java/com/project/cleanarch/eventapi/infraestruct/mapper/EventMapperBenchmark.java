@@ -0,0 +1,62 @@
+package com.project.cleanarch.eventapi.infraestruct.mapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import com.project.cleanarch.eventapi.BenchmarkFixtures;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+/**
+ * Conversões geradas pelo MapStruct usadas em toda requisição
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventMapperBenchmark {
+
+    private EventMapper mapper;
+    private EventEntity entity;
+    private Event event;
+    private EventDTO dto;
+
+    @Setup
+    public void setUp() {
+        mapper = new EventMapperImpl();
+        entity = BenchmarkFixtures.entity(1);
+        event = BenchmarkFixtures.event(1);
+        dto = BenchmarkFixtures.dto(1);
+    }
+
+    @Benchmark
+    public Event entityToModel() {
+        return mapper.toModel(entity);
+    }
+
+    @Benchmark
+    public EventDTO modelToDto() {
+        return mapper.fromModel(event);
+    }
+
+    @Benchmark
+    public EventDTO entityToModelToDto() {
+        return mapper.fromModel(mapper.toModel(entity));
+    }
+
+    @Benchmark
+    public Event dtoToModel() {
+        return mapper.toModel(dto);
+    }
+
+    @Benchmark
+    public EventEntity modelToEntity() {
+        return mapper.toEntity(event);
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.sqm.internal.QuerySqmImpl;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Montagem das specifications e renderização da Criteria pelo Hibernate
+ * O render traduz a Criteria para SQL (SQM -> SQL AST -> string) sem abrir conexão nem executar: é o mesmo caminho
+ * que o Hibernate percorre a cada execução, já que Criteria não passa pelo cache de planos
+ * O modo LIKE é usado porque MATCH ... AGAINST só existe no MySQL
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSpecificationBenchmark {
+
+    @Param({"SIMPLE", "FULL"})
+    public String filterShape;
+
+    private SessionFactoryImplementor sessionFactory;
+    private EntityManager entityManager;
+    private EventFilterDTO filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(EventEntity.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .buildSessionFactory()
+                .unwrap(SessionFactoryImplementor.class);
+        entityManager = sessionFactory.createEntityManager();
+
+        filter = "SIMPLE".equals(filterShape)
+                ? EventFilterDTO.builder().type(EventType.CONFERENCE).build()
+                : EventFilterDTO.builder()
+                        .name("tech conf")
+                        .location("São Paulo")
+                        .type(EventType.CONFERENCE)
+                        .status(EventStatusEnum.OPEN)
+                        .startAtFrom(LocalDateTime.of(2030, 1, 1, 0, 0))
+                        .startAtTo(LocalDateTime.of(2030, 12, 31, 0, 0))
+                        .capacityMin(100)
+                        .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Specification<EventEntity> build() {
+        return EventSpecification.of(filter, TextSearchMode.LIKE).build();
+    }
+
+    @Benchmark
+    public EventQueryPlan plan() {
+        return EventQueryPlanner.plan(filter, TextSearchMode.LIKE);
+    }
+
+    @Benchmark
+    public CriteriaQuery<EventEntity> buildCriteria() {
+        return criteria(EventSpecification.of(filter, TextSearchMode.LIKE).build());
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String buildAndRenderCriteria() {
+        QuerySqmImpl<EventEntity> query = entityManager.createQuery(criteria(EventSpecification.of(filter, TextSearchMode.LIKE).build()))
+                .setMaxResults(20)
+                .unwrap(QuerySqmImpl.class);
+        SelectStatement sqlAst = sessionFactory.getQueryEngine().getSqmTranslatorFactory()
+                .createSelectTranslator((SqmSelectStatement<?>) query.getSqmStatement(), query.getQueryOptions(),
+                        query.getDomainParameterXref(), query.getQueryParameterBindings(), query.getLoadQueryInfluencers(),
+                        sessionFactory, true)
+                .translate()
+                .getSqlAst();
+        return sessionFactory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+                .buildSelectTranslator(sessionFactory, sqlAst)
+                .translate(JdbcParameterBindings.NO_BINDINGS, query.getQueryOptions())
+                .getSqlString();
+    }
+
+    private CriteriaQuery<EventEntity> criteria(Specification<EventEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventEntity> query = cb.createQuery(EventEntity.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.converter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.cleanarch.eventapi.BenchmarkFixtures;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+/**
+ * Tamanho do payload e tempo de serialização de uma página de EventDTO em cada representação negociada
+ * Os tamanhos saem como resultados secundários do JMH ({@link PayloadSize} e {@link GzipSize}): serializePage:payloadBytes
+ * e serializePageGzip:gzipBytes, ao lado do tempo, no console e no JSON de resultados
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventRepresentationBenchmark {
+
+    public enum Format {
+        JSON, CBOR, SMILE, PROTOBUF
+    }
+
+    @Param({"20", "100", "1000"})
+    public int pageSize;
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    public Format format;
+
+    private ObjectWriter writer;
+    private Object page;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<EventDTO> content = IntStream.range(0, pageSize).mapToObj(BenchmarkFixtures::dto).toList();
+        PageImpl<EventDTO> eventPage = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        switch (format) {
+            case JSON -> {
+                writer = builder.factory(new JsonFactory()).build().writer();
+                page = eventPage;
+            }
+            case CBOR -> {
+                writer = builder.factory(new CBORFactory()).build().writer();
+                page = eventPage;
+            }
+            case SMILE -> {
+                writer = builder.factory(new SmileFactory()).build().writer();
+                page = eventPage;
+            }
+            case PROTOBUF -> {
+                // Mesmo caminho do EventProtobufHttpMessageConverter: Page convertida em EventPage e schema do contrato
+                page = EventProtobufSchemas.rootOf(eventPage);
+                writer = builder.factory(new ProtobufFactory()).featuresToEnable(JsonGenerator.Feature.IGNORE_UNKNOWN).build()
+                        .writer(EventProtobufSchemas.load().schemaFor(page.getClass()));
+            }
+        }
+
+    }
+
+    @Benchmark
+    public byte[] serializePage(PayloadSize size) throws IOException {
+        byte[] raw = writer.writeValueAsBytes(page);
+        size.payloadBytes = raw.length;
+        return raw;
+    }
+
+    @Benchmark
+    public byte[] serializePageGzip(GzipSize size) throws IOException {
+        byte[] compressed = gzip(writer.writeValueAsBytes(page));
+        size.gzipBytes = compressed.length;
+        return compressed;
+    }
+
+    /**
+     * Tamanho da última resposta serializada, reportado por iteração
+     * Atribuído (não acumulado): com EVENTS o JMH soma as threads, e os benchmarks rodam com uma thread
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+    }
+
+    /**
+     * Tamanho da última resposta comprimida com gzip, nas mesmas condições do {@link PayloadSize}
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class GzipSize {
+
+        public long gzipBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            gzipBytes = 0;
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(raw);
+        }
+        return output.toByteArray();
+    }
+}
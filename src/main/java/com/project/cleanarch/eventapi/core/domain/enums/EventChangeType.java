@@ -0,0 +1,10 @@
+package com.project.cleanarch.eventapi.core.domain.enums;
+
+/**
+ * Tipo de alteração publicada para os sistemas que acompanham os eventos
+ */
+public enum EventChangeType {
+    CREATED,
+    UPDATED,
+    CANCELLED
+}
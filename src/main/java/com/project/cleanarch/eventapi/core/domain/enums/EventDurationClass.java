@@ -0,0 +1,47 @@
+package com.project.cleanarch.eventapi.core.domain.enums;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Faixa de duração do evento, usada como índice de intervalos
+ * Um evento de duração máxima D que termina depois de T começou depois de T - D; por isso a busca por
+ * sobreposição vira um range de start_at por faixa, em vez de um range aberto em start_at e outro em end_at
+ * Persistida pelo ordinal: novas faixas só podem entrar antes de UNBOUNDED, que é o default da coluna
+ */
+public enum EventDurationClass {
+    UP_TO_1_HOUR(Duration.ofHours(1)),
+    UP_TO_4_HOURS(Duration.ofHours(4)),
+    UP_TO_1_DAY(Duration.ofDays(1)),
+    UP_TO_1_WEEK(Duration.ofDays(7)),
+    UP_TO_1_MONTH(Duration.ofDays(31)),
+    UP_TO_1_YEAR(Duration.ofDays(366)),
+    UNBOUNDED(null);
+
+    private final Duration maxDuration;
+
+    EventDurationClass(Duration maxDuration) {
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Duração máxima dos eventos da faixa; null em UNBOUNDED
+     */
+    public Duration maxDuration() {
+        return maxDuration;
+    }
+
+    public static EventDurationClass of(LocalDateTime startAt, LocalDateTime endAt) {
+        if (startAt == null || endAt == null) {
+            return UNBOUNDED;
+        }
+
+        Duration duration = Duration.between(startAt, endAt);
+        for (EventDurationClass durationClass : values()) {
+            if (durationClass.maxDuration == null || duration.compareTo(durationClass.maxDuration) <= 0) {
+                return durationClass;
+            }
+        }
+        return UNBOUNDED;
+    }
+}
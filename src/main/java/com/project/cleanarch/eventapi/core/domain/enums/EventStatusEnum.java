@@ -5,5 +5,9 @@ public enum EventStatusEnum {
     PUBLISHED,
     OPEN,
     COMPLETED,
-    CANCELLED
+    CANCELLED;
+
+    public boolean isOpenForReservation() {
+        return this == PUBLISHED || this == OPEN;
+    }
 }
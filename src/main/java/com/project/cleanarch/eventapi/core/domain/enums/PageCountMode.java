@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.core.domain.enums;
+
+/**
+ * Estratégia de contagem do total de elementos em buscas paginadas
+ * EXACT executa o COUNT, NONE devolve apenas hasNext e ESTIMATED usa um total em cache
+ */
+public enum PageCountMode {
+    EXACT,
+    NONE,
+    ESTIMATED
+}
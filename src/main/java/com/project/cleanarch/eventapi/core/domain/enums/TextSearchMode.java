@@ -0,0 +1,10 @@
+package com.project.cleanarch.eventapi.core.domain.enums;
+
+/**
+ * Estratégia de busca textual para os filtros de nome e localização
+ * LIKE mantém o comportamento de substring; FULL_TEXT usa o índice FULLTEXT do MySQL
+ */
+public enum TextSearchMode {
+    LIKE,
+    FULL_TEXT
+}
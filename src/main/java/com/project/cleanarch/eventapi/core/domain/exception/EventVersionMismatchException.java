@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.core.domain.exception;
+
+/**
+ * A versão que o cliente leu (If-Match) não é mais a atual: respondida com 412 em vez de sobrescrever a outra escrita
+ */
+public class EventVersionMismatchException extends BusinessException {
+
+    public EventVersionMismatchException(Long id, Long expectedVersion) {
+        super("event.version.mismatch", id, expectedVersion);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Fatia de resultados da paginação por cursor
+ * Não possui total de elementos: o cliente segue o nextCursor enquanto hasNext for verdadeiro
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, size, nextCursor, hasNext);
+    }
+}
@@ -34,4 +34,14 @@ public record Event(
     }
 
 
+    public boolean isOpenForReservation() {
+        return status != null && status.isOpenForReservation();
+    }
+
+
+    public boolean isValidSeatRequest(int seats) {
+        return seats > 0 && seats <= capacity;
+    }
+
+
 }
@@ -0,0 +1,25 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+/**
+ * Resultado de um item da criação em lote
+ * Itens criados possuem id; itens rejeitados possuem o código do erro de negócio
+ */
+public record EventBatchItemResult(
+        int index,
+        String identifier,
+        Long id,
+        String errorCode
+) {
+
+    public static EventBatchItemResult created(int index, String identifier, Long id) {
+        return new EventBatchItemResult(index, identifier, id, null);
+    }
+
+    public static EventBatchItemResult rejected(int index, String identifier, String errorCode) {
+        return new EventBatchItemResult(index, identifier, null, errorCode);
+    }
+
+    public boolean isCreated() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.util.List;
+
+/**
+ * Resultado do cancelamento em conjunto por filtro
+ * ids só é preenchido quando solicitado; eventos que já estavam cancelados não entram na contagem
+ */
+public record EventBulkCancellation(
+        int cancelled,
+        List<Long> ids
+) {
+}
@@ -0,0 +1,37 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+
+/**
+ * Posição de continuação da paginação por cursor (keyset)
+ * Guarda a última chave de ordenação (startAt, id) entregue ao cliente
+ * e é trafegada como um token opaco em Base64 URL-safe
+ */
+public record EventCursor(LocalDateTime startAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = startAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            return new EventCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.valueOf(raw.substring(separatorIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException("event.cursor.invalid");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.time.LocalDate;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+
+/**
+ * Quantidade de eventos e capacidade somada por dia de início, tipo e status
+ */
+public record EventDailySummary(
+        LocalDate day,
+        EventType type,
+        EventStatusEnum status,
+        long eventCount,
+        long totalCapacity
+) {
+}
@@ -0,0 +1,14 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Revisão de um evento: muda a cada escrita (version) e identifica a representação atual
+ * Consultada sozinha para decidir se o cliente já tem a versão mais recente sem carregar a linha inteira
+ */
+public record EventRevision(
+        Long id,
+        long version,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reserva de assentos de um evento
+ * Vale a partir da resposta: a gravação em event_seat_reservations acontece depois (write-behind)
+ */
+public record SeatReservation(
+        String id,
+        Long eventId,
+        int seats,
+        LocalDateTime reservedAt
+) {
+}
@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+/**
+ * Evento acompanhado da revisão lida na mesma linha
+ * Mantidos juntos no cache para que o corpo nunca seja servido com a revisão de outra leitura
+ */
+public record VersionedEvent(
+        Event event,
+        EventRevision revision
+) {
+}
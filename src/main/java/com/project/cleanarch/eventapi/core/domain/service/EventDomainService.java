@@ -1,5 +1,11 @@
 package com.project.cleanarch.eventapi.core.domain.service;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +35,32 @@ public class EventDomainService {
         validateBusinessRules(event);
     }
 
+    /**
+     * Valida um lote de criação com uma única consulta de unicidade ({@code identifier IN (...)})
+     * Identificadores repetidos dentro do próprio lote também são rejeitados
+     * Retorna as violações por posição do item no lote; itens ausentes do mapa são válidos
+     */
+    public Map<Integer, BusinessException> validateEventsCreation(List<Event> events) {
+        logger.debug("Validando criação em lote: size={}", events.size());
+
+        Set<String> existing = eventRepository.findExistingIdentifiers(events.stream().map(Event::identifier).toList());
+        Set<String> seen = new HashSet<>();
+        Map<Integer, BusinessException> violations = new LinkedHashMap<>();
+
+        for (int index = 0; index < events.size(); index++) {
+            Event event = events.get(index);
+            try {
+                if (existing.contains(event.identifier()) || !seen.add(event.identifier())) {
+                    throw new BusinessException("event.already.exists", event.identifier());
+                }
+                validateBusinessRules(event);
+            } catch (BusinessException e) {
+                violations.put(index, e);
+            }
+        }
+
+        return violations;
+    }
 
     public void validateEventUpdate(Long id, Event event) {
         logger.debug("Validando atualização do evento: id={}, identifier={}", id, event.identifier());
@@ -44,6 +76,26 @@ public class EventDomainService {
         validateCancelReason(reason);
     }
 
+    public void validateEventsCancellation(String reason) {
+        logger.debug("Validando cancelamento por filtro");
+
+        validateCancelReason(reason);
+    }
+
+
+    public void validateSeatReservation(Event event, int seats) {
+        logger.debug("Validando reserva de assentos: identifier={}, seats={}", event.identifier(), seats);
+
+        if (!event.isOpenForReservation()) {
+            logger.warn("Evento não aceita reservas: identifier={}, status={}", event.identifier(), event.status());
+            throw new BusinessException("event.reservation.closed", event.identifier());
+        }
+
+        if (!event.isValidSeatRequest(seats)) {
+            logger.warn("Quantidade de assentos inválida: seats={}, capacity={}", seats, event.capacity());
+            throw new BusinessException("event.reservation.seats.invalid", event.capacity());
+        }
+    }
 
     public void validateId(Long id) {
         if (id == null || id <= 0) {
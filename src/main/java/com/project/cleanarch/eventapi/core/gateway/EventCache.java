@@ -0,0 +1,16 @@
+package com.project.cleanarch.eventapi.core.gateway;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
+
+/**
+ * Cache de leitura de eventos por ID
+ * Ausências também são cacheadas (Optional vazio) para proteger o banco de IDs inexistentes
+ * O valor guarda a revisão junto com o evento, usada como ETag da resposta
+ */
+public interface EventCache {
+    Optional<VersionedEvent> get(Long id, Function<Long, Optional<VersionedEvent>> loader);
+    void evict(Long id);
+}
@@ -1,16 +1,51 @@
 package com.project.cleanarch.eventapi.core.gateway;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.project.cleanarch.eventapi.core.domain.model.EventCursor;
+import com.project.cleanarch.eventapi.core.domain.model.EventDailySummary;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 
+/**
+ * Gateway de persistência de eventos
+ * As listagens paginadas retornam projeções somente leitura direto no modelo de domínio;
+ * as operações de escrita e a busca por ID continuam trabalhando com a entidade gerenciada
+ * update e cancel são protegidos pela coluna version: uma alteração concorrente no mesmo evento
+ * resulta em BusinessException (event.update.conflict) em vez de sobrescrever a outra;
+ * com expectedVersion, a versão lida pelo cliente também precisa ser a atual (EventVersionMismatchException)
+ * cancelByFilters cancela em blocos de chunkSize, um por transação, entregando os ids de cada bloco confirmado
+ * findOverlapping traz os eventos em andamento na janela [from, to), combinada aos demais filtros
+ * findDailySummaries lê o resumo por (dia, tipo, status) mantido pelas escritas, considerando só type e status dos filtros
+ */
 public interface EventRepository {
     EventEntity save(EventEntity entity);
+    List<EventEntity> saveAll(List<EventEntity> entities);
     Optional<EventEntity> findById(Long id);
-    Page<EventEntity> findAll(Pageable pageable);
+    Optional<EventRevision> findRevisionById(Long id);
+    boolean existsById(Long id);
+    Optional<EventEntity> update(Long id, Long expectedVersion, Consumer<EventEntity> changes);
+    int cancel(Long id, String reason);
+    int cancelByFilters(EventFilterDTO eventFilterDTO, String reason, int chunkSize, Consumer<List<Long>> cancelledChunkConsumer);
+    Page<EventDTO> findAll(Pageable pageable);
     boolean existsByIdentifier(String identifier);
-    Page<EventEntity> findByFilters(EventFilterDTO eventFilterDTO, Pageable pageable);
+    Set<String> findExistingIdentifiers(Collection<String> identifiers);
+    Page<EventDTO> findByFilters(EventFilterDTO eventFilterDTO, Pageable pageable);
+    Slice<EventDTO> findSliceByFilters(EventFilterDTO eventFilterDTO, Pageable pageable);
+    Slice<EventDTO> findOverlapping(LocalDateTime from, LocalDateTime to, EventFilterDTO eventFilterDTO, Pageable pageable);
+    List<EventDailySummary> findDailySummaries(LocalDate from, LocalDate to, EventFilterDTO eventFilterDTO);
+    long estimateCountByFilters(EventFilterDTO eventFilterDTO);
+    List<EventEntity> findByFiltersAfter(EventFilterDTO eventFilterDTO, EventCursor cursor, int limit);
+    long streamByFilters(EventFilterDTO eventFilterDTO, int chunkSize, Consumer<List<EventDTO>> chunkConsumer);
 }
\ No newline at end of file
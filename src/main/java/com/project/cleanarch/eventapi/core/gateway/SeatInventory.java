@@ -0,0 +1,15 @@
+package com.project.cleanarch.eventapi.core.gateway;
+
+import java.util.Optional;
+
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+
+/**
+ * Estoque de assentos por evento, separado da linha do evento
+ * - reserve devolve vazio quando não há assentos suficientes; a soma das reservas nunca passa da capacidade
+ * - release devolve false quando a reserva não existe (ou já foi liberada)
+ */
+public interface SeatInventory {
+    Optional<SeatReservation> reserve(Long eventId, int seats);
+    boolean release(Long eventId, String reservationId);
+}
@@ -2,11 +2,10 @@ package com.project.cleanarch.eventapi.core.usecases;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
 import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
 import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
-import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
 
 public class CancellerEventUseCaseImpl implements CancellerEventUseCase {
 
@@ -14,10 +13,13 @@ public class CancellerEventUseCaseImpl implements CancellerEventUseCase {
 
     private final EventRepository eventRepository;
     private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
 
-    public CancellerEventUseCaseImpl(EventRepository eventRepository, EventDomainService eventDomainService) {
+    public CancellerEventUseCaseImpl(EventRepository eventRepository, EventDomainService eventDomainService,
+                                     EventCache eventCache) {
         this.eventRepository = eventRepository;
         this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
     }
 
     @Override
@@ -27,8 +29,7 @@ public class CancellerEventUseCaseImpl implements CancellerEventUseCase {
         try {
             eventDomainService.validateEventCancellation(id, reason);
             
-            EventEntity entity = findEventById(id);
-            cancelEvent(entity, reason);
+            cancelEvent(id, reason);
             
             logger.info("Evento cancelado com sucesso: id={}, motivo={}", id, reason);
             
@@ -41,17 +42,20 @@ public class CancellerEventUseCaseImpl implements CancellerEventUseCase {
         }
     }
 
-    private EventEntity findEventById(Long id) {
-        return eventRepository.findById(id)
-            .orElseThrow(() -> {
-                logger.warn("Evento não encontrado para cancelamento: id={}", id);
-                return new BusinessException("event.delete.not.found", id);
-            });
+    private void cancelEvent(Long id, String reason) {
+        // Um único UPDATE condicional; só quando nada muda é feita a consulta que explica o motivo
+        if (eventRepository.cancel(id, reason) == 0) {
+            throw notCancelled(id);
+        }
+        eventCache.evict(id);
     }
 
-    private void cancelEvent(EventEntity entity, String reason) {
-        entity.setStatus(EventStatusEnum.CANCELLED);
-        entity.setCancelReason(reason);
-        eventRepository.save(entity);
+    private BusinessException notCancelled(Long id) {
+        if (eventRepository.existsById(id)) {
+            logger.warn("Evento já estava cancelado: id={}", id);
+            return new BusinessException("event.already.cancelled", id);
+        }
+        logger.warn("Evento não encontrado para cancelamento: id={}", id);
+        return new BusinessException("event.delete.not.found", id);
     }
-} 
\ No newline at end of file
+}
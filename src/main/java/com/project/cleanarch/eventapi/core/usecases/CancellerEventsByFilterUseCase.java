@@ -0,0 +1,9 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import com.project.cleanarch.eventapi.core.domain.model.EventBulkCancellation;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+public interface CancellerEventsByFilterUseCase {
+
+    EventBulkCancellation execute(EventFilterDTO filters, String reason, boolean includeIds);
+}
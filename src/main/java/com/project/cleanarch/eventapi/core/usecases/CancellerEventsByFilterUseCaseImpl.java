@@ -0,0 +1,63 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.EventBulkCancellation;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+public class CancellerEventsByFilterUseCaseImpl implements CancellerEventsByFilterUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CancellerEventsByFilterUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+    private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
+    private final int chunkSize;
+
+    public CancellerEventsByFilterUseCaseImpl(EventRepository eventRepository, EventDomainService eventDomainService,
+                                              EventCache eventCache, int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public EventBulkCancellation execute(EventFilterDTO filters, String reason, boolean includeIds) {
+        logger.info("Iniciando cancelamento por filtro: motivo={}, chunkSize={}", reason, chunkSize);
+
+        eventDomainService.validateEventsCancellation(reason);
+        if (filters == null || !filters.hasCriteria()) {
+            // Sem critério o UPDATE alcançaria todos os eventos
+            throw new BusinessException("event.cancel.filter.required");
+        }
+
+        try {
+            List<Long> ids = includeIds ? new ArrayList<>() : null;
+            // Cada bloco é cancelado e confirmado antes do próximo: a falha de um bloco preserva os anteriores
+            int cancelled = eventRepository.cancelByFilters(filters, reason, chunkSize, chunk -> {
+                chunk.forEach(eventCache::evict);
+                if (ids != null) {
+                    ids.addAll(chunk);
+                }
+            });
+
+            logger.info("Cancelamento por filtro finalizado: cancelled={}", cancelled);
+            return new EventBulkCancellation(cancelled, ids);
+        } catch (BusinessException e) {
+            logger.error("Erro de negócio ao cancelar eventos por filtro: error={}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Erro inesperado ao cancelar eventos por filtro: error={}", e.getMessage(), e);
+            throw new BusinessException("event.cancellation.failed");
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import com.project.cleanarch.eventapi.core.domain.model.Event;
 import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
 import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
 import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
@@ -17,11 +18,14 @@ public class CreatorEventUseCaseImpl implements CreatorEventUseCase {
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
 
-    public CreatorEventUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService) {
+    public CreatorEventUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                   EventCache eventCache) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
         this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
     }
 
     @Override
@@ -34,6 +38,8 @@ public class CreatorEventUseCaseImpl implements CreatorEventUseCase {
             
             EventEntity entity = eventMapper.toEntity(event);
             EventEntity savedEntity = eventRepository.save(entity);
+            // Remove uma eventual ausência cacheada para o ID recém-criado
+            eventCache.evict(savedEntity.getId());
             Event savedEvent = eventMapper.toModel(savedEntity);
             
             logger.info("Evento criado com sucesso: identifier={}", savedEvent.identifier());
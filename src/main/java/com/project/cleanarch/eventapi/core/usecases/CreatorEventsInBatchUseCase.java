@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.List;
+
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+
+public interface CreatorEventsInBatchUseCase {
+
+    List<EventBatchItemResult> execute(List<Event> events);
+}
@@ -0,0 +1,100 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+public class CreatorEventsInBatchUseCaseImpl implements CreatorEventsInBatchUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreatorEventsInBatchUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public CreatorEventsInBatchUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                           EventCache eventCache, int chunkSize, int maxItems) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    @Override
+    public List<EventBatchItemResult> execute(List<Event> events) {
+        logger.info("Iniciando criação de eventos em lote: size={}, chunkSize={}", events.size(), chunkSize);
+
+        if (events.size() > maxItems) {
+            throw new BusinessException("event.batch.too.large", maxItems);
+        }
+
+        EventBatchItemResult[] results = new EventBatchItemResult[events.size()];
+        Map<Integer, BusinessException> violations = eventDomainService.validateEventsCreation(events);
+        violations.forEach((index, e) ->
+                results[index] = EventBatchItemResult.rejected(index, events.get(index).identifier(), e.getCode()));
+
+        List<Integer> pending = new ArrayList<>(events.size());
+        for (int index = 0; index < events.size(); index++) {
+            if (results[index] == null) {
+                pending.add(index);
+            }
+        }
+
+        // Cada chunk é uma transação: uma falha rejeita apenas os itens daquele chunk
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            saveChunk(events, chunk, results);
+        }
+
+        long created = Arrays.stream(results).filter(EventBatchItemResult::isCreated).count();
+        logger.info("Criação em lote finalizada: size={}, created={}, rejected={}",
+                    events.size(), created, events.size() - created);
+        return Arrays.asList(results);
+    }
+
+    private void saveChunk(List<Event> events, List<Integer> chunk, EventBatchItemResult[] results) {
+        try {
+            List<EventEntity> entities = chunk.stream().map(index -> eventMapper.toEntity(events.get(index))).toList();
+            List<EventEntity> saved = eventRepository.saveAll(entities);
+
+            for (int position = 0; position < chunk.size(); position++) {
+                int index = chunk.get(position);
+                EventEntity entity = saved.get(position);
+                // Remove uma eventual ausência cacheada para o ID recém-criado
+                eventCache.evict(entity.getId());
+                results[index] = EventBatchItemResult.created(index, entity.getIdentifier(), entity.getId());
+            }
+
+        } catch (BusinessException e) {
+            logger.error("Erro de negócio ao criar chunk do lote: firstIndex={}, size={}, error={}",
+                         chunk.get(0), chunk.size(), e.getMessage());
+            reject(events, chunk, results, e.getCode());
+        } catch (Exception e) {
+            logger.error("Erro inesperado ao criar chunk do lote: firstIndex={}, size={}, error={}",
+                         chunk.get(0), chunk.size(), e.getMessage(), e);
+            reject(events, chunk, results, "event.creation.failed");
+        }
+    }
+
+    private void reject(List<Event> events, List<Integer> chunk, EventBatchItemResult[] results, String errorCode) {
+        chunk.forEach(index -> results[index] = EventBatchItemResult.rejected(index, events.get(index).identifier(), errorCode));
+    }
+}
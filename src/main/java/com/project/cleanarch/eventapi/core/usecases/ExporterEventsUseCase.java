@@ -0,0 +1,16 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+public interface ExporterEventsUseCase {
+
+    /**
+     * Entrega todos os eventos do filtro em blocos, na ordem em que são lidos do banco
+     * Retorna o total de eventos exportados
+     */
+    long execute(EventFilterDTO filterDTO, Consumer<List<EventDTO>> chunkConsumer);
+}
@@ -0,0 +1,44 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+public class ExporterEventsUseCaseImpl implements ExporterEventsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExporterEventsUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+    private final int chunkSize;
+
+    public ExporterEventsUseCaseImpl(EventRepository eventRepository, int chunkSize) {
+        this.eventRepository = eventRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public long execute(EventFilterDTO filterDTO, Consumer<List<EventDTO>> chunkConsumer) {
+        logger.info("Iniciando exportação de eventos: name={}, location={}, type={}, status={}, chunkSize={}",
+                    filterDTO.getName(), filterDTO.getLocation(), filterDTO.getType(), filterDTO.getStatus(), chunkSize);
+
+        long start = System.nanoTime();
+        try {
+            long exported = eventRepository.streamByFilters(filterDTO, chunkSize, chunkConsumer);
+
+            logger.info("Exportação de eventos finalizada: exported={}, elapsedMs={}",
+                        exported, (System.nanoTime() - start) / 1_000_000);
+            return exported;
+
+        } catch (Exception e) {
+            // A resposta já pode ter sido parcialmente enviada: quem escreve a resposta decide entre responder com erro e abortar
+            logger.error("Erro ao exportar eventos: error={}", e.getMessage(), e);
+            throw new BusinessException("event.export.failed");
+        }
+    }
+}
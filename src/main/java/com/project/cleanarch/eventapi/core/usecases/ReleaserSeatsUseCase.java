@@ -0,0 +1,5 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+public interface ReleaserSeatsUseCase {
+    void execute(Long eventId, String reservationId);
+}
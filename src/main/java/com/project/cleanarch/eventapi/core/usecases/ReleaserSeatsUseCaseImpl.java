@@ -0,0 +1,44 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+
+public class ReleaserSeatsUseCaseImpl implements ReleaserSeatsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReleaserSeatsUseCaseImpl.class);
+
+    private final EventDomainService eventDomainService;
+    private final SeatInventory seatInventory;
+
+    public ReleaserSeatsUseCaseImpl(EventDomainService eventDomainService, SeatInventory seatInventory) {
+        this.eventDomainService = eventDomainService;
+        this.seatInventory = seatInventory;
+    }
+
+    @Override
+    public void execute(Long eventId, String reservationId) {
+        logger.debug("Liberando reserva: eventId={}, reservationId={}", eventId, reservationId);
+
+        try {
+            eventDomainService.validateId(eventId);
+
+            if (reservationId == null || reservationId.isBlank() || !seatInventory.release(eventId, reservationId)) {
+                logger.warn("Reserva não encontrada: eventId={}, reservationId={}", eventId, reservationId);
+                throw new BusinessException("event.reservation.not.found", reservationId);
+            }
+
+            logger.debug("Reserva liberada: eventId={}, reservationId={}", eventId, reservationId);
+
+        } catch (BusinessException e) {
+            logger.error("Erro de negócio ao liberar reserva: eventId={}, error={}", eventId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Erro inesperado ao liberar reserva: eventId={}, error={}", eventId, e.getMessage(), e);
+            throw new BusinessException("event.reservation.release.failed");
+        }
+    }
+}
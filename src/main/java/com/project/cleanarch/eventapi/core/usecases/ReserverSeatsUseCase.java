@@ -0,0 +1,7 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+
+public interface ReserverSeatsUseCase {
+    SeatReservation execute(Long eventId, int seats);
+}
@@ -0,0 +1,77 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+
+public class ReserverSeatsUseCaseImpl implements ReserverSeatsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReserverSeatsUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
+    private final SeatInventory seatInventory;
+
+    public ReserverSeatsUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                    EventCache eventCache, SeatInventory seatInventory) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
+        this.seatInventory = seatInventory;
+    }
+
+    @Override
+    public SeatReservation execute(Long eventId, int seats) {
+        logger.debug("Reservando assentos: eventId={}, seats={}", eventId, seats);
+
+        try {
+            eventDomainService.validateId(eventId);
+            // O evento vem do cache por ID: a capacidade em si é garantida pelo estoque, não por esta leitura
+            eventDomainService.validateSeatReservation(findEvent(eventId), seats);
+
+            SeatReservation reservation = seatInventory.reserve(eventId, seats)
+                    .orElseThrow(() -> {
+                        logger.warn("Assentos esgotados: eventId={}, seats={}", eventId, seats);
+                        return new BusinessException("event.reservation.sold.out", eventId);
+                    });
+
+            logger.debug("Assentos reservados: eventId={}, reservationId={}, seats={}", eventId, reservation.id(), seats);
+            return reservation;
+
+        } catch (BusinessException e) {
+            logger.error("Erro de negócio ao reservar assentos: eventId={}, error={}", eventId, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Erro inesperado ao reservar assentos: eventId={}, error={}", eventId, e.getMessage(), e);
+            throw new BusinessException("event.reservation.failed");
+        }
+    }
+
+    private Event findEvent(Long eventId) {
+        return eventCache.get(eventId, this::loadEvent)
+                .map(VersionedEvent::event)
+                .orElseThrow(() -> {
+                    logger.warn("Evento não encontrado para reserva: eventId={}", eventId);
+                    return new BusinessException("event.not.found", eventId);
+                });
+    }
+
+    private Optional<VersionedEvent> loadEvent(Long id) {
+        return eventRepository.findById(id)
+                .map(entity -> new VersionedEvent(eventMapper.toModel(entity), eventMapper.toRevision(entity)));
+    }
+}
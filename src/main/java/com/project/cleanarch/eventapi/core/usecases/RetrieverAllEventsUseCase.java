@@ -2,8 +2,8 @@ package com.project.cleanarch.eventapi.core.usecases;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 
 public interface RetrieverAllEventsUseCase {
-    Page<Event> execute(Pageable pageable);
+    Page<EventDTO> execute(Pageable pageable);
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.project.cleanarch.eventapi.core.usecases;
 
-import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
 
 public interface RetrieverEventByIdUseCase {
-    Event execute(Long id);
-}
\ No newline at end of file
+    VersionedEvent execute(Long id);
+}
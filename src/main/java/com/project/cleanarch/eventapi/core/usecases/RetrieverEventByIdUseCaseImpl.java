@@ -1,14 +1,16 @@
 package com.project.cleanarch.eventapi.core.usecases;
 
+import java.util.Optional;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
 import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
 import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
 import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
-import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
 
 public class RetrieverEventByIdUseCaseImpl implements RetrieverEventByIdUseCase {
 
@@ -17,25 +19,27 @@ public class RetrieverEventByIdUseCaseImpl implements RetrieverEventByIdUseCase
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
 
-    public RetrieverEventByIdUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService) {
+    public RetrieverEventByIdUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                         EventCache eventCache) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
         this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
     }
 
     @Override
-    public Event execute(Long id) {
+    public VersionedEvent execute(Long id) {
         logger.info("Buscando evento por ID: id={}", id);
 
         try {
             eventDomainService.validateId(id);
             
-            EventEntity entity = findEventById(id);
-            Event event = eventMapper.toModel(entity);
+            VersionedEvent found = findEventById(id);
             
-            logger.info("Evento encontrado: id={}, identifier={}", id, event.identifier());
-            return event;
+            logger.info("Evento encontrado: id={}, identifier={}", id, found.event().identifier());
+            return found;
 
         } catch (BusinessException e) {
             logger.error("Erro de negócio ao buscar evento: id={}, error={}", id, e.getMessage());
@@ -46,11 +50,16 @@ public class RetrieverEventByIdUseCaseImpl implements RetrieverEventByIdUseCase
         }
     }
 
-    private EventEntity findEventById(Long id) {
-        return eventRepository.findById(id)
+    private VersionedEvent findEventById(Long id) {
+        return eventCache.get(id, this::loadEvent)
                 .orElseThrow(() -> {
                     logger.warn("Evento não encontrado: id={}", id);
                     return new BusinessException("event.not.found", id);
                 });
     }
+
+    private Optional<VersionedEvent> loadEvent(Long id) {
+        return eventRepository.findById(id)
+                .map(entity -> new VersionedEvent(eventMapper.toModel(entity), eventMapper.toRevision(entity)));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
+
+public interface RetrieverEventRevisionUseCase {
+    EventRevision execute(Long id);
+}
@@ -0,0 +1,48 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+
+/**
+ * Consulta apenas id, version e updated_at do evento (sem cache: a resposta precisa ser a revisão atual)
+ * Usado nos GETs condicionais para responder 304 sem carregar nem serializar o evento
+ */
+public class RetrieverEventRevisionUseCaseImpl implements RetrieverEventRevisionUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetrieverEventRevisionUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+    private final EventDomainService eventDomainService;
+
+    public RetrieverEventRevisionUseCaseImpl(EventRepository eventRepository, EventDomainService eventDomainService) {
+        this.eventRepository = eventRepository;
+        this.eventDomainService = eventDomainService;
+    }
+
+    @Override
+    public EventRevision execute(Long id) {
+        logger.debug("Buscando revisão do evento: id={}", id);
+
+        try {
+            eventDomainService.validateId(id);
+
+            return eventRepository.findRevisionById(id)
+                    .orElseThrow(() -> {
+                        logger.warn("Evento não encontrado: id={}", id);
+                        return new BusinessException("event.not.found", id);
+                    });
+
+        } catch (BusinessException e) {
+            logger.error("Erro de negócio ao buscar revisão do evento: id={}, error={}", id, e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Erro inesperado ao buscar revisão do evento: id={}, error={}", id, e.getMessage(), e);
+            throw new BusinessException("event.retrieval.failed");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.project.cleanarch.eventapi.core.domain.model.EventDailySummary;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+public interface RetrieverEventSummariesUseCase {
+    List<EventDailySummary> execute(LocalDate from, LocalDate to, EventFilterDTO filterDTO);
+}
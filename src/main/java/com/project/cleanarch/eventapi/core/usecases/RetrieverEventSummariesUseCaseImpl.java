@@ -0,0 +1,48 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.EventDailySummary;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+/**
+ * Contagens por dia de início, tipo e status, lidas do resumo pré-agregado em vez de um COUNT por combinação
+ */
+public class RetrieverEventSummariesUseCaseImpl implements RetrieverEventSummariesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetrieverEventSummariesUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+    private final int maxRangeDays;
+
+    public RetrieverEventSummariesUseCaseImpl(EventRepository eventRepository, int maxRangeDays) {
+        this.eventRepository = eventRepository;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    @Override
+    public List<EventDailySummary> execute(LocalDate from, LocalDate to, EventFilterDTO filterDTO) {
+        logger.info("Buscando resumo diário de eventos: from={}, to={}, type={}, status={}",
+                    from, to, filterDTO.getType(), filterDTO.getStatus());
+
+        if (from == null || to == null || to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new BusinessException("event.summary.range.invalid", maxRangeDays);
+        }
+
+        try {
+            List<EventDailySummary> summaries = eventRepository.findDailySummaries(from, to, filterDTO);
+            logger.info("Resumo diário encontrado: rows={}", summaries.size());
+            return summaries;
+
+        } catch (Exception e) {
+            logger.error("Erro ao buscar resumo diário de eventos: error={}", e.getMessage(), e);
+            throw new BusinessException("event.filter.retrieval.failed");
+        }
+    }
+}
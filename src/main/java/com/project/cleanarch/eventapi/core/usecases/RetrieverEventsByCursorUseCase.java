@@ -0,0 +1,9 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import com.project.cleanarch.eventapi.core.domain.model.CursorPage;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+public interface RetrieverEventsByCursorUseCase {
+    CursorPage<Event> execute(EventFilterDTO filterDTO, String cursor, int size);
+}
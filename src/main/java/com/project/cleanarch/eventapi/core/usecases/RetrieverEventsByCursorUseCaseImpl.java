@@ -0,0 +1,61 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.CursorPage;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventCursor;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+public class RetrieverEventsByCursorUseCaseImpl implements RetrieverEventsByCursorUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetrieverEventsByCursorUseCaseImpl.class);
+
+    private static final int MAX_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+
+    public RetrieverEventsByCursorUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+    }
+
+    @Override
+    public CursorPage<Event> execute(EventFilterDTO filterDTO, String cursor, int size) {
+        logger.info("Buscando eventos por cursor: cursor={}, size={}", cursor, size);
+
+        try {
+            int pageSize = Math.clamp(size, 1, MAX_SIZE);
+            EventCursor after = EventCursor.decode(cursor);
+
+            // Busca um registro a mais para saber se existe próxima página sem executar COUNT
+            List<EventEntity> entities = eventRepository.findByFiltersAfter(filterDTO, after, pageSize + 1);
+            boolean hasNext = entities.size() > pageSize;
+            List<EventEntity> content = hasNext ? entities.subList(0, pageSize) : entities;
+
+            String nextCursor = hasNext ? toCursor(content.get(content.size() - 1)) : null;
+            List<Event> events = content.stream().map(eventMapper::toModel).toList();
+
+            logger.info("Eventos encontrados por cursor: returned={}, hasNext={}", events.size(), hasNext);
+            return new CursorPage<>(events, pageSize, nextCursor, hasNext);
+
+        } catch (BusinessException e) {
+            logger.error("Erro de negócio ao buscar eventos por cursor: error={}", e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            logger.error("Erro ao buscar eventos por cursor: error={}", e.getMessage(), e);
+            throw new BusinessException("event.retrieval.failed");
+        }
+    }
+
+    private String toCursor(EventEntity last) {
+        return new EventCursor(last.getStartAt(), last.getId()).encode();
+    }
+}
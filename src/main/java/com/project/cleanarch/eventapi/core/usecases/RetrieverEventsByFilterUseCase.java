@@ -2,9 +2,12 @@ package com.project.cleanarch.eventapi.core.usecases;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import com.project.cleanarch.eventapi.core.domain.model.Event;
+import org.springframework.data.domain.Slice;
+import com.project.cleanarch.eventapi.core.domain.enums.PageCountMode;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 
 public interface RetrieverEventsByFilterUseCase {
-    Page<Event> execute(EventFilterDTO filterDTO, Pageable pageable);
+    Page<EventDTO> execute(EventFilterDTO filterDTO, Pageable pageable);
+    Slice<EventDTO> execute(EventFilterDTO filterDTO, Pageable pageable, PageCountMode countMode);
 }
\ No newline at end of file
@@ -3,37 +3,45 @@ package com.project.cleanarch.eventapi.core.usecases;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import com.project.cleanarch.eventapi.core.domain.model.Event;
+import org.springframework.data.domain.Slice;
+import com.project.cleanarch.eventapi.core.domain.enums.PageCountMode;
 import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
-import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
-import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 
 public class RetrieverEventsByFilterUseCaseImpl implements RetrieverEventsByFilterUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(RetrieverEventsByFilterUseCaseImpl.class);
 
     private final EventRepository eventRepository;
-    private final EventMapper eventMapper;
 
-    public RetrieverEventsByFilterUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper) {
+    public RetrieverEventsByFilterUseCaseImpl(EventRepository eventRepository) {
         this.eventRepository = eventRepository;
-        this.eventMapper = eventMapper;
     }
 
     @Override
-    public Page<Event> execute(EventFilterDTO filterDTO, Pageable pageable) {
-        logger.info("Buscando eventos por filtros: name={}, location={}, type={}, status={}, page={}, size={}",
+    public Page<EventDTO> execute(EventFilterDTO filterDTO, Pageable pageable) {
+        return (Page<EventDTO>) execute(filterDTO, pageable, PageCountMode.EXACT);
+    }
+
+    @Override
+    public Slice<EventDTO> execute(EventFilterDTO filterDTO, Pageable pageable, PageCountMode countMode) {
+        logger.info("Buscando eventos por filtros: name={}, location={}, type={}, status={}, page={}, size={}, countMode={}",
                     filterDTO.getName(), filterDTO.getLocation(), filterDTO.getType(), filterDTO.getStatus(),
-                    pageable.getPageNumber(), pageable.getPageSize());
+                    pageable.getPageNumber(), pageable.getPageSize(), countMode);
 
         try {
-            Page<EventEntity> entities = eventRepository.findByFilters(filterDTO, pageable);
-            Page<Event> events = entities.map(eventMapper::toModel);
-            
-            logger.info("Eventos encontrados com filtros: total={}, page={}", events.getTotalElements(), events.getNumber());
+            Slice<EventDTO> events = switch (countMode) {
+                case EXACT -> findPage(filterDTO, pageable);
+                case NONE -> findSlice(filterDTO, pageable);
+                case ESTIMATED -> findPageWithEstimatedTotal(filterDTO, pageable);
+            };
+
+            logger.info("Eventos encontrados com filtros: returned={}, hasNext={}, page={}",
+                        events.getNumberOfElements(), events.hasNext(), events.getNumber());
 
             return events;
 
@@ -42,4 +50,21 @@ public class RetrieverEventsByFilterUseCaseImpl implements RetrieverEventsByFilt
             throw new BusinessException("event.filter.retrieval.failed");
         }
     }
-}
\ No newline at end of file
+
+    private Page<EventDTO> findPage(EventFilterDTO filterDTO, Pageable pageable) {
+        return eventRepository.findByFilters(filterDTO, pageable);
+    }
+
+    private Slice<EventDTO> findSlice(EventFilterDTO filterDTO, Pageable pageable) {
+        return eventRepository.findSliceByFilters(filterDTO, pageable);
+    }
+
+    private Page<EventDTO> findPageWithEstimatedTotal(EventFilterDTO filterDTO, Pageable pageable) {
+        Slice<EventDTO> slice = findSlice(filterDTO, pageable);
+        long estimatedTotal = eventRepository.estimateCountByFilters(filterDTO);
+
+        // O total em cache pode estar defasado; nunca informa menos do que a própria fatia comprova existir
+        long minimumTotal = pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(estimatedTotal, minimumTotal));
+    }
+}
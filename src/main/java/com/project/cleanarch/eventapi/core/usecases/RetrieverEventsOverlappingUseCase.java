@@ -0,0 +1,12 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+public interface RetrieverEventsOverlappingUseCase {
+    Slice<EventDTO> execute(LocalDateTime from, LocalDateTime to, EventFilterDTO filterDTO, Pageable pageable);
+}
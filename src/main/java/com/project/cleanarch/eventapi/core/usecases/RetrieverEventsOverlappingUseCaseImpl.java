@@ -0,0 +1,49 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+/**
+ * Eventos em andamento em algum instante da janela [from, to), sem contagem do total
+ */
+public class RetrieverEventsOverlappingUseCaseImpl implements RetrieverEventsOverlappingUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetrieverEventsOverlappingUseCaseImpl.class);
+
+    private final EventRepository eventRepository;
+
+    public RetrieverEventsOverlappingUseCaseImpl(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    @Override
+    public Slice<EventDTO> execute(LocalDateTime from, LocalDateTime to, EventFilterDTO filterDTO, Pageable pageable) {
+        logger.info("Buscando eventos na janela: from={}, to={}, type={}, status={}, page={}, size={}",
+                    from, to, filterDTO.getType(), filterDTO.getStatus(), pageable.getPageNumber(), pageable.getPageSize());
+
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new BusinessException("event.overlap.window.invalid");
+        }
+
+        try {
+            Slice<EventDTO> events = eventRepository.findOverlapping(from, to, filterDTO, pageable);
+
+            logger.info("Eventos encontrados na janela: returned={}, hasNext={}, page={}",
+                        events.getNumberOfElements(), events.hasNext(), events.getNumber());
+
+            return events;
+
+        } catch (Exception e) {
+            logger.error("Erro ao buscar eventos na janela: error={}", e.getMessage(), e);
+            throw new BusinessException("event.filter.retrieval.failed");
+        }
+    }
+}
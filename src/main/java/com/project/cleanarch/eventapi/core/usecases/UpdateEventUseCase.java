@@ -1,8 +1,17 @@
 package com.project.cleanarch.eventapi.core.usecases;
 
+import java.util.function.UnaryOperator;
+
 import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
 
 public interface UpdateEventUseCase {
 
     Event execute(Long id, Event event);
-} 
\ No newline at end of file
+
+    /**
+     * Aplica changes sobre o estado atual do evento, lido na mesma transação da escrita
+     * expectedVersion é a versão que o cliente leu (If-Match) e vira a condição do UPDATE; null aceita qualquer versão
+     */
+    VersionedEvent execute(Long id, UnaryOperator<Event> changes, Long expectedVersion);
+}
@@ -1,11 +1,15 @@
 package com.project.cleanarch.eventapi.core.usecases;
 
+import java.util.function.UnaryOperator;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
 import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
 import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
 import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
@@ -17,29 +21,34 @@ public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
     private final EventDomainService eventDomainService;
+    private final EventCache eventCache;
 
-    public UpdateEventUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService) {
+    public UpdateEventUseCaseImpl(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                  EventCache eventCache) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
         this.eventDomainService = eventDomainService;
+        this.eventCache = eventCache;
     }
 
     @Override
     public Event execute(Long id, Event event) {
-        logger.info("Iniciando atualização de evento: id={}, identifier={}, name={}",
-                    id, event.identifier(), event.name());
+        return execute(id, current -> event, null).event();
+    }
+
+    @Override
+    public VersionedEvent execute(Long id, UnaryOperator<Event> changes, Long expectedVersion) {
+        logger.info("Iniciando atualização de evento: id={}, expectedVersion={}", id, expectedVersion);
 
         try {
-            eventDomainService.validateEventUpdate(id, event);
-            
-            EventEntity entity = findEventById(id);
-            updateEventEntity(entity, event);
-            
-            EventEntity updatedEntity = eventRepository.save(entity);
+            eventDomainService.validateId(id);
+
+            EventEntity updatedEntity = updateEvent(id, changes, expectedVersion);
+            eventCache.evict(id);
             Event updatedEvent = eventMapper.toModel(updatedEntity);
-            
+
             logger.info("Evento atualizado com sucesso: id={}, identifier={}", id, updatedEvent.identifier());
-            return updatedEvent;
+            return new VersionedEvent(updatedEvent, eventMapper.toRevision(updatedEntity));
 
         } catch (BusinessException e) {
             logger.error("Erro de negócio ao atualizar evento: id={}, error={}", id, e.getMessage());
@@ -50,15 +59,16 @@ public class UpdateEventUseCaseImpl implements UpdateEventUseCase {
         }
     }
 
-    private EventEntity findEventById(Long id) {
-        return eventRepository.findById(id)
+    private EventEntity updateEvent(Long id, UnaryOperator<Event> changes, Long expectedVersion) {
+        return eventRepository.update(id, expectedVersion, entity -> {
+                // Validado depois de aplicado ao estado atual: numa alteração parcial os campos ausentes vêm do banco
+                Event updated = changes.apply(eventMapper.toModel(entity));
+                eventDomainService.validateEventUpdate(id, updated);
+                eventMapper.updateEntity(entity, updated);
+            })
             .orElseThrow(() -> {
                 logger.warn("Evento não encontrado para atualização: id={}", id);
                 return new BusinessException("event.update.not.found", id);
             });
     }
-
-    private void updateEventEntity(EventEntity entity, Event event) {
-        eventMapper.updateEntity(entity, event);
-    }
-} 
\ No newline at end of file
+}
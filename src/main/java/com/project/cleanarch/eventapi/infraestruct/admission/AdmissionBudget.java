@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+/**
+ * Orçamentos de admissão por origem
+ * - SEARCH: listagens, buscas por filtro, cursor, janela, resumos e exportação (consultas caras, varrem índices)
+ * - BY_ID: leitura por ID (barata, normalmente servida pelo cache)
+ */
+public enum AdmissionBudget {
+    SEARCH,
+    BY_ID
+}
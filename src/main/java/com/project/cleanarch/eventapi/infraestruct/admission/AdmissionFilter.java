@@ -0,0 +1,167 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.Admission;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.RejectReason;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+import com.project.cleanarch.eventapi.infraestruct.presentation.handler.ErrorMessage;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Aplica o {@link OriginAdmissionControl} às leituras de eventos antes de qualquer trabalho no controller
+ * Recusa com 429 e Retry-After; escritas e rotas fora dos orçamentos passam direto, assim como requisições sem
+ * x-app-origin quando exemptAnonymous está ligado
+ * A permissão de concorrência é devolvida quando a resposta termina, inclusive nas respostas assíncronas (exportação)
+ */
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private static final String EVENTS_PATH = "/api/events";
+    private static final Set<String> SEARCH_PATHS = Set.of(EVENTS_PATH, EVENTS_PATH + "/search", EVENTS_PATH + "/cursor",
+            EVENTS_PATH + "/search/cursor", EVENTS_PATH + "/overlapping", EVENTS_PATH + "/summaries", EVENTS_PATH + "/export");
+
+    private final OriginAdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+    private final MessageSource messageSource;
+    private final boolean exemptAnonymous;
+
+    public AdmissionFilter(OriginAdmissionControl admissionControl, ObjectMapper objectMapper, MessageSource messageSource,
+                           boolean exemptAnonymous) {
+        this.admissionControl = admissionControl;
+        this.objectMapper = objectMapper;
+        this.messageSource = messageSource;
+        this.exemptAnonymous = exemptAnonymous;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdmissionBudget budget = budgetOf(request);
+        String origin = request.getHeader(ApiConstants.Headers.X_APP_ORIGIN);
+        if (budget == null || exemptAnonymous && (origin == null || origin.isBlank())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Admission admission = admissionControl.tryAdmit(origin, budget);
+        if (!admission.admitted()) {
+            reject(response, OriginAdmissionControl.normalize(origin), admission);
+            return;
+        }
+
+        ReleaseOnce release = new ReleaseOnce(admission);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(release);
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    static AdmissionBudget budgetOf(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return null;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (SEARCH_PATHS.contains(path)) {
+            return AdmissionBudget.SEARCH;
+        }
+        if (path.startsWith(EVENTS_PATH + "/") && isId(path.substring(EVENTS_PATH.length() + 1))) {
+            return AdmissionBudget.BY_ID;
+        }
+        return null;
+    }
+
+    private void reject(HttpServletResponse response, String origin, Admission admission) throws IOException {
+        long retryAfterSeconds = Math.max(1, (admission.retryAfterNanos() + TimeUnit.SECONDS.toNanos(1) - 1)
+                / TimeUnit.SECONDS.toNanos(1));
+        String code = admission.rejected() == RejectReason.RATE ? "request.rate.limited" : "request.concurrency.limited";
+
+        ErrorMessage body = ErrorMessage.builder()
+                .timestamp(LocalDateTime.now().toString())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .code(code)
+                .message(messageSource.getMessage(code, new Object[]{origin, retryAfterSeconds}, code, Locale.getDefault()))
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static boolean isId(String segment) {
+        if (segment.isEmpty() || segment.length() > 19) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Devolve a permissão uma única vez: numa resposta assíncrona com erro o container chama onError e onComplete
+     */
+    private static final class ReleaseOnce implements Runnable, AsyncListener {
+
+        private final Admission admission;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleaseOnce(Admission admission) {
+            this.admission = admission;
+        }
+
+        @Override
+        public void run() {
+            if (released.compareAndSet(false, true)) {
+                admission.release();
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Um novo ciclo assíncrono remove os listeners: registra de novo para não perder a devolução
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
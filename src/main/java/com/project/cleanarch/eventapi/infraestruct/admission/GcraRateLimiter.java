@@ -0,0 +1,42 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket no formato GCRA (generic cell rate algorithm)
+ * O estado é um único instante teórico de chegada (TAT) atualizado por CAS: não há lock nem thread de recarga
+ * - cada requisição admitida empurra o TAT um intervalo (1/rate) para frente
+ * - a requisição é recusada se o TAT, depois de empurrado, ficar mais que burst intervalos à frente de agora
+ */
+public class GcraRateLimiter {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public GcraRateLimiter(double permitsPerSecond, int burst) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("rate e burst devem ser positivos");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * burst;
+    }
+
+    /**
+     * Consome uma permissão em {@code now} (System.nanoTime)
+     * Devolve 0 se admitida; senão, quantos nanos faltam para a próxima permissão
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = (tat == Long.MIN_VALUE ? now : Math.max(tat, now)) + intervalNanos;
+            long allowedAt = next - toleranceNanos;
+            if (now < allowedAt) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admissão de requisições por origem (x-app-origin) e orçamento
+ * Cada par origem/orçamento tem seu próprio token bucket ({@link GcraRateLimiter}) e teto de concorrência;
+ * uma origem que estoura o seu não consome o pool JDBC das demais
+ * - A concorrência é verificada antes da taxa: uma recusa por concorrência não gasta permissão do bucket
+ * - Nenhuma requisição espera: a recusa é imediata e informa quando tentar de novo
+ * - Os buckets ficam num Caffeine limitado a maxOrigins por orçamento e expiram após idleExpiry sem uso;
+ *   um bucket expirado volta cheio, o que é equivalente a uma origem que ficou esse tempo parada
+ * - A concorrência fica fora do cache, num contador por origem que só existe enquanto há requisições em andamento:
+ *   despejar o bucket não zera o teto de quem ainda está em voo
+ * - Métricas: só as origens de knownOrigins viram tag; as demais somam em "other", para o número de séries
+ *   não crescer com o header, que vem do cliente. As séries de uma origem conhecida saem do registry junto com o bucket
+ */
+public class OriginAdmissionControl {
+
+    static final String ANONYMOUS = "anonymous";
+    static final String OTHER = "other";
+    static final int MAX_ORIGIN_LENGTH = 64;
+    private static final String METRIC_PREFIX = "events.admission";
+    private static final long CONCURRENCY_RETRY_NANOS = Duration.ofSeconds(1).toNanos();
+
+    public enum RejectReason { RATE, CONCURRENCY }
+
+    public record Limits(double permitsPerSecond, int burst, int maxConcurrent) {
+    }
+
+    /**
+     * Resultado da admissão; uma requisição admitida deve chamar {@link #release()} ao terminar
+     */
+    public record Admission(RejectReason rejected, long retryAfterNanos, Runnable permit) {
+
+        public boolean admitted() {
+            return rejected == null;
+        }
+
+        public void release() {
+            if (permit != null) {
+                permit.run();
+            }
+        }
+    }
+
+    private record Key(String origin, AdmissionBudget budget) {
+    }
+
+    private record Bucket(GcraRateLimiter limiter, Counter admitted, Counter rejectedByRate, Counter rejectedByConcurrency) {
+    }
+
+    private final Map<AdmissionBudget, Limits> limits;
+    private final Set<String> knownOrigins;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoTime;
+    private final Cache<Key, Bucket> buckets;
+    private final ConcurrentMap<Key, Integer> inFlight = new ConcurrentHashMap<>();
+
+    public OriginAdmissionControl(Map<AdmissionBudget, Limits> limits, Set<String> knownOrigins, long maxOrigins,
+                                  Duration idleExpiry, MeterRegistry meterRegistry) {
+        this(limits, knownOrigins, maxOrigins, idleExpiry, meterRegistry, System::nanoTime);
+    }
+
+    OriginAdmissionControl(Map<AdmissionBudget, Limits> limits, Set<String> knownOrigins, long maxOrigins,
+                           Duration idleExpiry, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.limits = Map.copyOf(limits);
+        this.knownOrigins = Set.copyOf(knownOrigins);
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxOrigins * AdmissionBudget.values().length)
+                .expireAfterAccess(idleExpiry)
+                .ticker(nanoTime::getAsLong)
+                // Manutenção na própria thread: o despejo (e a remoção das séries) acontece na requisição que o provoca
+                .executor(Runnable::run)
+                // Síncrono e atômico com o despejo: um bucket novo da mesma origem não tem suas séries removidas
+                .evictionListener((Key key, Bucket bucket, RemovalCause cause) -> removeMeters(key, bucket))
+                .build();
+    }
+
+    public Admission tryAdmit(String origin, AdmissionBudget budget) {
+        Key key = new Key(normalize(origin), budget);
+        Bucket bucket = buckets.get(key, this::newBucket);
+
+        if (!enter(key, limits.get(budget).maxConcurrent())) {
+            bucket.rejectedByConcurrency().increment();
+            return new Admission(RejectReason.CONCURRENCY, CONCURRENCY_RETRY_NANOS, null);
+        }
+        long wait = bucket.limiter().tryAcquire(nanoTime.getAsLong());
+        if (wait > 0) {
+            leave(key);
+            bucket.rejectedByRate().increment();
+            return new Admission(RejectReason.RATE, wait, null);
+        }
+
+        bucket.admitted().increment();
+        return new Admission(null, 0, () -> leave(key));
+    }
+
+    static String normalize(String origin) {
+        if (origin == null || origin.isBlank()) {
+            return ANONYMOUS;
+        }
+        String trimmed = origin.strip();
+        return trimmed.length() > MAX_ORIGIN_LENGTH ? trimmed.substring(0, MAX_ORIGIN_LENGTH) : trimmed;
+    }
+
+    private boolean enter(Key key, int maxConcurrent) {
+        boolean[] entered = new boolean[1];
+        inFlight.compute(key, (k, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxConcurrent) {
+                return count;
+            }
+            entered[0] = true;
+            return current + 1;
+        });
+        return entered[0];
+    }
+
+    private void leave(Key key) {
+        // A entrada some com a última requisição: o mapa nunca passa do número de requisições em andamento
+        inFlight.computeIfPresent(key, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    private String metricOrigin(String origin) {
+        return origin.equals(ANONYMOUS) || knownOrigins.contains(origin) ? origin : OTHER;
+    }
+
+    private Bucket newBucket(Key key) {
+        Limits budgetLimits = limits.get(key.budget());
+        String origin = metricOrigin(key.origin());
+        String budget = key.budget().name().toLowerCase();
+        return new Bucket(
+                new GcraRateLimiter(budgetLimits.permitsPerSecond(), budgetLimits.burst()),
+                Counter.builder(METRIC_PREFIX + ".admitted")
+                        .description("Requisições admitidas por origem e orçamento")
+                        .tag("origin", origin).tag("budget", budget)
+                        .register(meterRegistry),
+                rejected(origin, budget, RejectReason.RATE),
+                rejected(origin, budget, RejectReason.CONCURRENCY));
+    }
+
+    private void removeMeters(Key key, Bucket bucket) {
+        // "other" é compartilhada por todas as origens desconhecidas e fica no registry
+        if (bucket != null && !metricOrigin(key.origin()).equals(OTHER)) {
+            meterRegistry.remove(bucket.admitted());
+            meterRegistry.remove(bucket.rejectedByRate());
+            meterRegistry.remove(bucket.rejectedByConcurrency());
+        }
+    }
+
+    private Counter rejected(String origin, String budget, RejectReason reason) {
+        return Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Requisições recusadas com 429 por origem, orçamento e motivo")
+                .tag("origin", origin).tag("budget", budget).tag("reason", reason.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.DataSourceRoutingContext;
+
+/**
+ * Carregamento de caches Caffeine sem executar I/O dentro do lock do mapa
+ * O {@code Cache.get(key, loader)} roda o loader dentro de {@code ConcurrentHashMap.compute}, que usa um monitor:
+ * em virtual threads isso prende a carrier thread durante toda a consulta ao banco.
+ * Aqui o compute apenas publica um future vazio; quem o publicou executa o loader na própria thread
+ * (preservando transação e contexto) e as demais chamadas para a mesma chave aguardam o mesmo future.
+ * O loader segue o roteamento da chamada: dentro de um use case de leitura a carga vai a uma réplica e a entrada
+ * guarda essa origem, para que {@link #expiry} limite o ttl dela ao atraso de replicação tolerado
+ */
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    /**
+     * Valor em cache e se foi lido com o roteamento para réplicas ligado
+     */
+    record Loaded<V>(V value, boolean fromReplica) {
+    }
+
+    static <K, V> V getOrLoad(AsyncCache<K, Loaded<V>> cache, K key, Function<K, V> loader) {
+        CompletableFuture<Loaded<V>> created = new CompletableFuture<>();
+        CompletableFuture<Loaded<V>> future = cache.get(key, (k, executor) -> created);
+
+        if (future == created) {
+            try {
+                created.complete(new Loaded<>(loader.apply(key), DataSourceRoutingContext.isReadOnly()));
+            } catch (RuntimeException | Error e) {
+                // Futures com falha são removidos pelo Caffeine; quem aguardava recebe a mesma exceção
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        Loaded<V> loaded = join(future);
+        if (loaded.fromReplica() && !DataSourceRoutingContext.isReadOnly()) {
+            // Leitura presa ao primário (read-your-writes) não aceita o valor de réplica: recarrega e o substitui
+            V value = loader.apply(key);
+            cache.put(key, CompletableFuture.completedFuture(new Loaded<>(value, false)));
+            return value;
+        }
+        return loaded.value();
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    /**
+     * ttl por valor; entradas carregadas de réplica vivem no máximo {@code maxLag}, o atraso que a réplica pode ter
+     */
+    static <K, V> Expiry<K, Loaded<V>> expiry(Function<V, Duration> ttl, Duration maxLag) {
+        return new LoadedExpiry<>(ttl, maxLag);
+    }
+
+    private record LoadedExpiry<K, V>(Function<V, Duration> ttl, Duration maxLag) implements Expiry<K, Loaded<V>> {
+
+        @Override
+        public long expireAfterCreate(K key, Loaded<V> loaded, long currentTime) {
+            Duration duration = ttl.apply(loaded.value());
+            return (loaded.fromReplica() && maxLag.compareTo(duration) < 0 ? maxLag : duration).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(K key, Loaded<V> loaded, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, loaded, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(K key, Loaded<V> loaded, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.infraestruct.config.EventByIdCacheProperties;
+import com.project.cleanarch.eventapi.infraestruct.config.ReadReplicaProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Implementação do {@link EventCache} com Caffeine (limite de tamanho + TTL)
+ * Expõe hits, misses e evictions como métricas {@code cache.*{cache=events.by-id}}
+ * A invalidação acontece após o commit quando há transação ativa
+ * Entradas carregadas de uma réplica vivem no máximo {@code events.read-replicas.max-lag}
+ */
+@Component
+public class CaffeineEventCache implements EventCache {
+
+    static final String CACHE_NAME = "events.by-id";
+
+    private final AsyncCache<Long, CacheLoads.Loaded<Optional<VersionedEvent>>> cache;
+
+    public CaffeineEventCache(EventByIdCacheProperties properties, ReadReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(CacheLoads.<Long, Optional<VersionedEvent>>expiry(
+                        value -> value.isPresent() ? properties.ttl() : properties.negativeTtl(), replicaProperties.maxLag()))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<VersionedEvent> get(Long id, Function<Long, Optional<VersionedEvent>> loader) {
+        return CacheLoads.getOrLoad(cache, id, loader);
+    }
+
+    @Override
+    public void evict(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.synchronous().invalidate(id);
+                }
+            });
+            return;
+        }
+        cache.synchronous().invalidate(id);
+    }
+}
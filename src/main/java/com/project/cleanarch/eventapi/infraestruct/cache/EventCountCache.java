@@ -0,0 +1,31 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.cleanarch.eventapi.infraestruct.config.EventCountCacheProperties;
+import com.project.cleanarch.eventapi.infraestruct.config.ReadReplicaProperties;
+
+/**
+ * Cache limitado (tamanho + TTL) de totais por filtro
+ * Usado pelas buscas em modo ESTIMATED para evitar um COUNT a cada página
+ * Totais contados numa réplica vivem no máximo {@code events.read-replicas.max-lag}
+ */
+@Component
+public class EventCountCache {
+
+    private final AsyncCache<EventFilterKey, CacheLoads.Loaded<Long>> cache;
+
+    public EventCountCache(EventCountCacheProperties properties, ReadReplicaProperties replicaProperties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(CacheLoads.<EventFilterKey, Long>expiry(total -> properties.ttl(), replicaProperties.maxLag()))
+                .buildAsync();
+    }
+
+    public long get(EventFilterKey key, Function<EventFilterKey, Long> counter) {
+        return CacheLoads.getOrLoad(cache, key, counter);
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+/**
+ * Forma canônica e imutável de um {@link EventFilterDTO} para uso como chave de cache
+ * Textos são normalizados da mesma forma que a busca (trim + maiúsculas), então
+ * filtros equivalentes compartilham a mesma entrada
+ */
+public record EventFilterKey(
+        String name,
+        String location,
+        EventType type,
+        EventStatusEnum status,
+        LocalDateTime startAtFrom,
+        LocalDateTime startAtTo,
+        LocalDateTime endAtFrom,
+        LocalDateTime endAtTo,
+        Integer capacityMin,
+        Integer capacityMax,
+        String identifier
+) {
+
+    public static EventFilterKey of(EventFilterDTO filter) {
+        return new EventFilterKey(
+                normalizeText(filter.getName()),
+                normalizeText(filter.getLocation()),
+                filter.getType(),
+                filter.getStatus(),
+                filter.getStartAtFrom(),
+                filter.getStartAtTo(),
+                filter.getEndAtFrom(),
+                filter.getEndAtTo(),
+                filter.getCapacityMin(),
+                filter.getCapacityMax(),
+                isBlank(filter.getIdentifier()) ? null : filter.getIdentifier());
+    }
+
+    private static String normalizeText(String value) {
+        return isBlank(value) ? null : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
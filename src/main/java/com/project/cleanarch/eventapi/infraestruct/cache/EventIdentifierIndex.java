@@ -0,0 +1,117 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.project.cleanarch.eventapi.infraestruct.config.IdentifierFilterProperties;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.StreamingFetchSize;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Índice em memória dos identificadores existentes, baseado em {@link IdentifierBloomFilter}
+ * Construído após o startup com uma leitura em streaming e alimentado a cada evento salvo
+ * Enquanto não está pronto (ou se desabilitado) responde "talvez", mantendo a consulta ao banco
+ * A constraint unique da tabela continua sendo a autoridade final
+ */
+@Slf4j
+@Component
+public class EventIdentifierIndex {
+
+    private static final String METRIC_PREFIX = "events.identifier.filter";
+
+    private final IdentifierFilterProperties properties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer rebuildTimer;
+    private final Counter definitelyAbsent;
+    private final Counter possiblyPresent;
+
+    private volatile IdentifierBloomFilter filter;
+    private volatile IdentifierBloomFilter building;
+
+    public EventIdentifierIndex(IdentifierFilterProperties properties, EntityManager entityManager,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+
+        this.rebuildTimer = Timer.builder(METRIC_PREFIX + ".rebuild").register(meterRegistry);
+        this.definitelyAbsent = Counter.builder(METRIC_PREFIX + ".checks").tag("result", "absent").register(meterRegistry);
+        this.possiblyPresent = Counter.builder(METRIC_PREFIX + ".checks").tag("result", "maybe").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".bits", this, index -> index.filter == null ? 0 : index.filter.bitCount()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".insertions", this, index -> index.filter == null ? 0 : index.filter.insertions()).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".false.positive.rate", this,
+                index -> index.filter == null ? 1 : index.filter.expectedFalsePositiveRate()).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (properties.enabled()) {
+            Thread.ofVirtual().name("identifier-filter-rebuild").start(this::rebuild);
+        }
+    }
+
+    public void rebuild() {
+        try {
+            rebuildTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                long existing = entityManager.createQuery("select count(e) from EventEntity e", Long.class).getSingleResult();
+                IdentifierBloomFilter next = new IdentifierBloomFilter(
+                        Math.max(properties.expectedInsertions(), existing * 2), properties.falsePositiveRate());
+
+                // Identificadores salvos durante a leitura também entram no filtro em construção
+                building = next;
+                try (Stream<String> identifiers = entityManager
+                        .createQuery("select e.identifier from EventEntity e", String.class)
+                        .setHint(HibernateHints.HINT_FETCH_SIZE, StreamingFetchSize.of(entityManager, properties.fetchSize()))
+                        .setHint(HibernateHints.HINT_READ_ONLY, true)
+                        .getResultStream()) {
+                    identifiers.forEach(next::put);
+                }
+
+                filter = next;
+                log.info("m=rebuild filtro de identificadores pronto: insertions={}, bits={}, hashFunctions={}",
+                         next.insertions(), next.bitCount(), next.hashFunctions());
+            }));
+        } catch (Exception e) {
+            log.error("m=rebuild falha ao construir filtro de identificadores, mantendo consulta ao banco: error={}", e.getMessage(), e);
+        } finally {
+            building = null;
+        }
+    }
+
+    /**
+     * {@code false} significa que o identificador certamente não existe e a consulta ao banco pode ser evitada
+     */
+    public boolean mightContain(String identifier) {
+        IdentifierBloomFilter current = filter;
+        if (current == null || current.mightContain(identifier)) {
+            possiblyPresent.increment();
+            return true;
+        }
+        definitelyAbsent.increment();
+        return false;
+    }
+
+    public void register(String identifier) {
+        IdentifierBloomFilter current = filter;
+        if (current != null) {
+            current.put(identifier);
+        }
+        IdentifierBloomFilter next = building;
+        if (next != null) {
+            next.put(identifier);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.project.cleanarch.eventapi.infraestruct.config.EventCoalescingProperties;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.DataSourceRoutingContext;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Leituras idênticas e simultâneas de eventos compartilham uma única consulta ({@link SingleFlight})
+ * - Por ID: mesma chave; cada chamada recebe uma cópia destacada da entidade, que pertence ao
+ *   contexto de persistência de quem consultou
+ * - Por filtros: filtro normalizado ({@link EventFilterKey}) + Pageable (página, tamanho e ordenação) + versão de
+ *   mutação lida pelo {@link EventSearchResultCache}; uma consulta iniciada antes de uma escrita não atende
+ *   quem já enxerga a versão seguinte
+ * - O destino da conexão faz parte da chave: quem precisa ler do primário (read-your-writes) não recebe
+ *   o resultado de uma consulta feita na réplica
+ * - Dentro de uma transação não há coalescência: a leitura precisa enxergar as escritas da própria transação
+ */
+@Component
+public class EventReadCoalescer {
+
+    private record ByIdKey(Long id, boolean readOnly) {
+    }
+
+    private record SearchKey(EventFilterKey filter, Pageable pageable, long version, boolean readOnly) {
+    }
+
+    private final boolean enabled;
+    private final SingleFlight<ByIdKey, Optional<EventEntity>> byId;
+    private final SingleFlight<SearchKey, Page<EventDTO>> pages;
+    private final SingleFlight<SearchKey, Slice<EventDTO>> slices;
+
+    public EventReadCoalescer(EventCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.byId = new SingleFlight<>("events.by-id", properties.maxWaiters(), meterRegistry);
+        this.pages = new SingleFlight<>("events.search.page", properties.maxWaiters(), meterRegistry);
+        this.slices = new SingleFlight<>("events.search.slice", properties.maxWaiters(), meterRegistry);
+    }
+
+    public Optional<EventEntity> findById(Long id, Supplier<Optional<EventEntity>> loader) {
+        if (!coalescing()) {
+            return loader.get();
+        }
+        return byId.execute(new ByIdKey(id, DataSourceRoutingContext.isReadOnly()), loader)
+                .map(entity -> entity.toBuilder().build());
+    }
+
+    public Page<EventDTO> findByFilters(EventFilterDTO filters, Pageable pageable, long version, Supplier<Page<EventDTO>> loader) {
+        return coalescing() ? pages.execute(searchKey(filters, pageable, version), loader) : loader.get();
+    }
+
+    public Slice<EventDTO> findSliceByFilters(EventFilterDTO filters, Pageable pageable, long version, Supplier<Slice<EventDTO>> loader) {
+        return coalescing() ? slices.execute(searchKey(filters, pageable, version), loader) : loader.get();
+    }
+
+    private boolean coalescing() {
+        return enabled && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    private static SearchKey searchKey(EventFilterDTO filters, Pageable pageable, long version) {
+        return new SearchKey(EventFilterKey.of(filters), pageable, version, DataSourceRoutingContext.isReadOnly());
+    }
+}
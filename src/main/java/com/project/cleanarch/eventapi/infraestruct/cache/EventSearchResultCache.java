@@ -0,0 +1,199 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.config.EventSearchCacheProperties;
+import com.project.cleanarch.eventapi.infraestruct.config.ReadReplicaProperties;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.DataSourceRoutingContext;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache de resultados das buscas por filtro (página com total e fatia sem total)
+ * Chave: filtro normalizado ({@link EventFilterKey}) + Pageable; limitado por tamanho e por ttl
+ * A invalidação é por versão de mutação, sem percorrer chaves:
+ * - cada tipo de evento é uma partição com sua versão, e há uma versão global
+ * - toda escrita incrementa, após o commit, a global e as partições dos tipos que tocou (antes e depois)
+ * - uma busca com tipo depende só da versão daquele tipo; sem tipo, da global
+ * - a versão é lida antes da consulta: uma escrita confirmada durante a consulta deixa o resultado já velho
+ * - o loader recebe essa versão e a repassa ao {@link EventReadCoalescer}: quem leu uma versão mais nova
+ *   não pega carona numa consulta iniciada antes da escrita
+ * Com maxStaleness, um resultado de versão anterior ainda é servido até essa idade
+ * As cargas seguem o roteamento da chamada; um resultado lido de réplica vive no máximo
+ * {@code events.read-replicas.max-lag} (em vez do ttl), o atraso que a réplica pode ter
+ */
+@Component
+public class EventSearchResultCache {
+
+    private static final String METRIC_PREFIX = "events.search.cache";
+
+    private enum Kind { PAGE, SLICE }
+
+    private record Key(Kind kind, EventFilterKey filter, Pageable pageable) {
+    }
+
+    private record Entry(long version, long loadedAt, boolean fromReplica, Slice<EventDTO> result) {
+    }
+
+    private final boolean enabled;
+    private final long maxStalenessNanos;
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final Map<EventType, AtomicLong> typeVersions = new EnumMap<>(EventType.class);
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+
+    public EventSearchResultCache(EventSearchCacheProperties properties, ReadReplicaProperties replicaProperties,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.maxStalenessNanos = properties.maxStaleness().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfter(new EntryExpiry(properties.ttl(), replicaProperties.maxLag()))
+                .build();
+        for (EventType type : EventType.values()) {
+            typeVersions.put(type, new AtomicLong());
+        }
+
+        this.hits = requests(meterRegistry, "hit");
+        this.staleHits = requests(meterRegistry, "stale");
+        this.misses = requests(meterRegistry, "miss");
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, EventSearchResultCache::hitRatio)
+                .description("Fração das buscas atendidas pelo cache (incluindo resultados defasados dentro do limite)")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".size", cache, Cache::estimatedSize)
+                .description("Resultados de busca em cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * O loader recebe a versão de mutação que o resultado precisa refletir
+     */
+    public Page<EventDTO> findByFilters(EventFilterDTO filters, Pageable pageable, LongFunction<Page<EventDTO>> loader) {
+        return (Page<EventDTO>) get(Kind.PAGE, filters, pageable, loader);
+    }
+
+    public Slice<EventDTO> findSliceByFilters(EventFilterDTO filters, Pageable pageable, LongFunction<Slice<EventDTO>> loader) {
+        return get(Kind.SLICE, filters, pageable, loader);
+    }
+
+    /**
+     * Marca como velhos os resultados que podem conter eventos dos tipos informados; null em types vale por todos
+     * Com transação ativa, só após o commit: antes dele as outras leituras ainda não enxergam a escrita
+     */
+    public void invalidate(Collection<EventType> types) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(types);
+                }
+            });
+            return;
+        }
+        bump(types);
+    }
+
+    private Slice<EventDTO> get(Kind kind, EventFilterDTO filters, Pageable pageable, LongFunction<? extends Slice<EventDTO>> loader) {
+        long version = versionOf(filters.getType());
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(version);
+        }
+
+        Key key = new Key(kind, EventFilterKey.of(filters), pageable);
+        boolean onReplica = DataSourceRoutingContext.isReadOnly();
+        Entry cached = cache.getIfPresent(key);
+        // Leitura presa ao primário (read-your-writes) não aceita um resultado lido de réplica
+        if (cached != null && (onReplica || !cached.fromReplica())) {
+            if (cached.version() == version) {
+                hits.increment();
+                return cached.result();
+            }
+            if (System.nanoTime() - cached.loadedAt() <= maxStalenessNanos) {
+                staleHits.increment();
+                return cached.result();
+            }
+        }
+
+        misses.increment();
+        Slice<EventDTO> result = loader.apply(version);
+        Entry loaded = new Entry(version, System.nanoTime(), onReplica, result);
+        // Duas consultas concorrentes para a mesma chave: fica a da versão mais nova e, na mesma versão, a do primário
+        cache.asMap().merge(key, loaded, (current, candidate) -> supersedes(candidate, current) ? candidate : current);
+        return loaded.result();
+    }
+
+    private static boolean supersedes(Entry candidate, Entry current) {
+        if (candidate.version() != current.version()) {
+            return candidate.version() > current.version();
+        }
+        return current.fromReplica() || !candidate.fromReplica();
+    }
+
+    private long versionOf(EventType type) {
+        return type == null ? globalVersion.get() : typeVersions.get(type).get();
+    }
+
+    private void bump(Collection<EventType> types) {
+        globalVersion.incrementAndGet();
+        if (types.stream().anyMatch(type -> type == null)) {
+            typeVersions.values().forEach(AtomicLong::incrementAndGet);
+            return;
+        }
+        types.stream().distinct().forEach(type -> typeVersions.get(type).incrementAndGet());
+    }
+
+    private double hitRatio() {
+        double served = hits.count() + staleHits.count();
+        double total = served + misses.count();
+        return total == 0 ? 0 : served / total;
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".requests")
+                .description("Buscas por filtro por resultado no cache")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * ttl para resultados do primário; maxLag (se menor) para os lidos de réplica
+     */
+    private record EntryExpiry(Duration ttl, Duration maxLag) implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+            return (entry.fromReplica() && maxLag.compareTo(ttl) < 0 ? maxLag : ttl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter thread-safe e sem locks para identificadores de eventos
+ * Um resultado negativo de {@link #mightContain(String)} é definitivo; um positivo pode ser falso
+ * Dimensionado a partir da quantidade esperada de elementos e da taxa de falso positivo desejada
+ */
+public class IdentifierBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public IdentifierBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+    }
+
+    public void put(String identifier) {
+        long hash = hash(identifier);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            setBit(index(h1, h2, i));
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(String identifier) {
+        long hash = hash(identifier);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            if (!isBitSet(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Taxa de falso positivo estimada para a quantidade atual de inserções
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashFunctions * (double) insertions.get() / bitCount), hashFunctions);
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long insertions() {
+        return insertions.get();
+    }
+
+    // Double hashing (Kirsch-Mitzenmacher): gi(x) = h1(x) + i * h2(x)
+    private long index(int h1, int h2, int i) {
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean isBitSet(long bitIndex) {
+        return (words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    // FNV-1a 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
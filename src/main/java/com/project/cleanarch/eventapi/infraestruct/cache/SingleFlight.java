@@ -0,0 +1,95 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalescência de chamadas idênticas em andamento (single-flight)
+ * A primeira chamada para uma chave executa o loader na própria thread (mantendo transação e roteamento);
+ * as que chegam enquanto ela roda aguardam o mesmo resultado, ou a mesma exceção
+ * - Não é cache: a chave sai do mapa assim que a execução termina, e a chamada seguinte consulta de novo
+ * - Cada execução aceita até maxWaiters carona; as excedentes executam o próprio loader em vez de formar
+ *   uma fila sem limite atrás de uma consulta lenta
+ * - Sem monitor: a publicação é um putIfAbsent, e a espera num future não prende a carrier de uma virtual thread
+ */
+public class SingleFlight<K, V> {
+
+    private static final String METRIC_PREFIX = "events.singleflight";
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final int maxWaiters;
+    private final Counter executions;
+    private final Counter coalesced;
+    private final Counter overflow;
+
+    public SingleFlight(String name, int maxWaiters, MeterRegistry meterRegistry) {
+        this.maxWaiters = maxWaiters;
+        this.executions = Counter.builder(METRIC_PREFIX + ".executions")
+                .description("Execuções do loader (consultas de fato feitas)")
+                .tag("flight", name)
+                .register(meterRegistry);
+        this.coalesced = Counter.builder(METRIC_PREFIX + ".coalesced")
+                .description("Chamadas atendidas pelo resultado de uma execução já em andamento")
+                .tag("flight", name)
+                .register(meterRegistry);
+        this.overflow = Counter.builder(METRIC_PREFIX + ".overflow")
+                .description("Chamadas que encontraram a fila de espera cheia e executaram o próprio loader")
+                .tag("flight", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in.flight", flights, ConcurrentMap::size)
+                .description("Chaves com execução em andamento")
+                .tag("flight", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        Flight<V> created = new Flight<>();
+        Flight<V> flight = flights.putIfAbsent(key, created);
+        if (flight == null) {
+            return lead(key, created, loader);
+        }
+
+        if (flight.waiters.incrementAndGet() > maxWaiters) {
+            overflow.increment();
+            executions.increment();
+            return loader.get();
+        }
+
+        coalesced.increment();
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        executions.increment();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+        // Sai do mapa antes de publicar: só compartilha o resultado quem chegou enquanto a consulta rodava
+        flights.remove(key, flight);
+        flight.result.complete(value);
+        return value;
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.infraestruct.admission.AdmissionBudget;
+import com.project.cleanarch.eventapi.infraestruct.admission.AdmissionFilter;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.Limits;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Admissão por x-app-origin à frente dos filtros de ETag: uma requisição recusada não chega a consultar o banco
+ * Desligada por padrão: ligar sem que os clientes mandem x-app-origin põe todos no mesmo orçamento "anonymous"
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "events.admission", name = "enabled", havingValue = "true")
+public class AdmissionConfig {
+
+    @Bean
+    public OriginAdmissionControl originAdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        return new OriginAdmissionControl(Map.of(
+                AdmissionBudget.SEARCH, limits(properties.search()),
+                AdmissionBudget.BY_ID, limits(properties.byId())),
+                Set.copyOf(properties.knownOrigins()), properties.maxOrigins(), properties.idleExpiry(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<AdmissionFilter> eventAdmissionFilter(OriginAdmissionControl originAdmissionControl,
+                                                                        ObjectMapper objectMapper, MessageSource messageSource,
+                                                                        AdmissionProperties properties) {
+        FilterRegistrationBean<AdmissionFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionFilter(originAdmissionControl, objectMapper, messageSource, properties.exemptAnonymous()));
+        registration.setName("eventAdmissionFilter");
+        registration.addUrlPatterns("/api/events", "/api/events/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+
+    private static Limits limits(AdmissionProperties.Budget budget) {
+        return new Limits(budget.permitsPerSecond(), budget.burst(), budget.maxConcurrent());
+    }
+}
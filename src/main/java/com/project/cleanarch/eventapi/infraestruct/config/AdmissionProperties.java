@@ -0,0 +1,37 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração da admissão por x-app-origin
+ * - enabled: desligada por padrão
+ * - exempt-anonymous: requisições sem x-app-origin passam sem admissão, em vez de dividirem o orçamento "anonymous";
+ *   ligado por padrão, para a admissão poder entrar antes de todos os clientes mandarem o header
+ * - search / by-id: taxa (permissões por segundo), rajada e teto de requisições simultâneas de cada origem;
+ *   os padrões do record são os da busca, o application.yml dá folga maior à leitura por ID
+ * - a soma dos max-concurrent das origens ativas em buscas deve caber no maximum-pool-size do Hikari
+ * - max-origins limita quantas origens têm bucket ao mesmo tempo; idle-expiry descarta as paradas
+ * - known-origins: origens que viram tag nas métricas; as demais aparecem como "other" (vazio: todas em "other")
+ */
+@ConfigurationProperties(prefix = "events.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("true") boolean exemptAnonymous,
+        @DefaultValue Budget search,
+        @DefaultValue Budget byId,
+        @DefaultValue("1000") long maxOrigins,
+        @DefaultValue("10m") Duration idleExpiry,
+        @DefaultValue List<String> knownOrigins
+) {
+
+    public record Budget(
+            @DefaultValue("50") double permitsPerSecond,
+            @DefaultValue("100") int burst,
+            @DefaultValue("4") int maxConcurrent
+    ) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ConnectionGateDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Envolve o pool Hikari primário no {@link ConnectionGateDataSource} quando {@code events.connection-gate.enabled=true}
+ * Ativado pelo profile {@code virtual-threads}
+ * O gate é aplicado antes do roteamento de réplicas, então fica abaixo do LazyConnectionDataSourceProxy:
+ * LazyConnectionDataSourceProxy -> roteamento -> gate -> primário | réplicas (sem gate)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "events.connection-gate", name = "enabled", havingValue = "true")
+public class ConnectionGateConfig {
+
+    private static final String METRIC_PREFIX = "events.connection.gate";
+
+    @Bean
+    public static GatePostProcessor connectionGatePostProcessor(ObjectProvider<ConnectionGateProperties> properties) {
+        return new GatePostProcessor(properties);
+    }
+
+    /**
+     * Recebe o {@link DataSource} apenas para garantir que o pool primário (e o gate) já foi criado
+     */
+    @Bean
+    public MeterBinder connectionGateMetrics(DataSource dataSource, GatePostProcessor postProcessor) {
+        return registry -> {
+            ConnectionGateDataSource gate = postProcessor.gate();
+            if (gate == null) {
+                return;
+            }
+            Gauge.builder(METRIC_PREFIX + ".available", gate, ConnectionGateDataSource::availablePermits)
+                    .description("Permissões livres no connection gate")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".waiting", gate, ConnectionGateDataSource::waitingThreads)
+                    .description("Threads aguardando uma conexão no connection gate")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Só envolve o {@link HikariDataSource} do Spring Boot (o primário); proxies e pools de réplica ficam de fora
+     * Roda antes do roteamento de réplicas ({@link ReadReplicaConfig}), que então recebe o primário já com o gate
+     */
+    public static final class GatePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ConnectionGateProperties> properties;
+        private volatile ConnectionGateDataSource gate;
+
+        private GatePostProcessor(ObjectProvider<ConnectionGateProperties> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource primary) {
+                ConnectionGateProperties config = properties.getObject();
+                gate = new ConnectionGateDataSource(primary, config.maxConcurrent(), config.acquireTimeout());
+                return gate;
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        ConnectionGateDataSource gate() {
+            return gate;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do limitador de conexões JDBC simultâneas
+ * maxConcurrent deve ser menor ou igual ao maximum-pool-size do Hikari
+ */
+@ConfigurationProperties(prefix = "events.connection-gate")
+public record ConnectionGateProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int maxConcurrent,
+        @DefaultValue("5s") Duration acquireTimeout
+) {
+}
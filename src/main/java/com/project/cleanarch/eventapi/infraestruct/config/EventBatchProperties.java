@@ -0,0 +1,15 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração da criação de eventos em lote
+ * O chunkSize deve acompanhar hibernate.jdbc.batch_size para que cada chunk vire um único batch JDBC
+ */
+@ConfigurationProperties(prefix = "events.batch")
+public record EventBatchProperties(
+        @DefaultValue("50") int chunkSize,
+        @DefaultValue("1000") int maxItems
+) {
+}
@@ -0,0 +1,18 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Configuração do cancelamento por filtro
+ * O chunkSize limita quantas linhas cada transação bloqueia e atualiza; precisa ser positivo
+ */
+@Validated
+@ConfigurationProperties(prefix = "events.bulk-cancel")
+public record EventBulkCancelProperties(
+        @DefaultValue("500") @Positive int chunkSize
+) {
+}
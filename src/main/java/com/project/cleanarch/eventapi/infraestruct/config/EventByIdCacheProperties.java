@@ -0,0 +1,18 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do cache de leitura de eventos por ID
+ * negativeTtl controla por quanto tempo um ID inexistente fica cacheado
+ */
+@ConfigurationProperties(prefix = "events.cache.by-id")
+public record EventByIdCacheProperties(
+        @DefaultValue("10000") long maxSize,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue("30s") Duration negativeTtl
+) {
+}
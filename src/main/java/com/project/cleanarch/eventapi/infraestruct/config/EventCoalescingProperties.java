@@ -0,0 +1,15 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração da coalescência de leituras idênticas em andamento (busca por ID e por filtros)
+ * maxWaiters limita quantas chamadas aguardam uma mesma consulta; as excedentes consultam o banco por conta própria
+ */
+@ConfigurationProperties(prefix = "events.coalescing")
+public record EventCoalescingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("256") int maxWaiters
+) {
+}
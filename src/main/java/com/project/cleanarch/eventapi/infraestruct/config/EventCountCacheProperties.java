@@ -0,0 +1,16 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do cache de totais estimados por filtro
+ */
+@ConfigurationProperties(prefix = "events.cache.filter-count")
+public record EventCountCacheProperties(
+        @DefaultValue("1000") long maxSize,
+        @DefaultValue("60s") Duration ttl
+) {
+}
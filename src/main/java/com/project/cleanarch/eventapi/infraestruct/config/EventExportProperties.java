@@ -0,0 +1,14 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do export em streaming
+ * O chunkSize é também o fetch size do cursor: define quantas linhas ficam em memória e a cada quantas a resposta é descarregada
+ */
+@ConfigurationProperties(prefix = "events.export")
+public record EventExportProperties(
+        @DefaultValue("1000") int chunkSize
+) {
+}
@@ -0,0 +1,58 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.infraestruct.outbox.EventChangeSink;
+import com.project.cleanarch.eventapi.infraestruct.outbox.EventOutboxLeaderLease;
+import com.project.cleanarch.eventapi.infraestruct.outbox.EventOutboxRelay;
+import com.project.cleanarch.eventapi.infraestruct.outbox.FileEventChangeSink;
+import com.project.cleanarch.eventapi.infraestruct.outbox.InMemoryEventChangeSink;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventOutboxJpaRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Relay da outbox e sink embutido
+ * Um bean {@link EventChangeSink} da aplicação substitui o sink embutido
+ */
+@Configuration
+public class EventOutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(EventChangeSink.class)
+    public EventChangeSink eventChangeSink(EventOutboxProperties properties, ObjectMapper objectMapper) throws IOException {
+        return switch (properties.sink()) {
+            case IN_MEMORY -> new InMemoryEventChangeSink(properties.inMemoryCapacity());
+            case FILE -> new FileEventChangeSink(Path.of(properties.file()), objectMapper);
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public EventOutboxRelay eventOutboxRelay(EventOutboxJpaRepository outboxRepository, JdbcTemplate jdbcTemplate,
+                                             EventChangeSink sink, TransactionOperations transactionOperations,
+                                             EventOutboxProperties properties, MeterRegistry meterRegistry) {
+        // Dono novo a cada execução: a liderança é liberada no close, então um restart não espera o prazo vencer
+        EventOutboxLeaderLease leader = new EventOutboxLeaderLease(jdbcTemplate, "event-outbox-relay",
+                UUID.randomUUID().toString(), properties.leaderTtl());
+        return new EventOutboxRelay(outboxRepository, leader, sink, transactionOperations, properties.batchSize(),
+                properties.pollInterval(), properties.maxBackoff(), properties.leaderTtl(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "events.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public ApplicationListener<ApplicationReadyEvent> eventOutboxRelayStarter(EventOutboxRelay relay) {
+        // Só começa a drenar com a aplicação pronta, depois das migrations e do aquecimento dos caches
+        return event -> relay.start();
+    }
+}
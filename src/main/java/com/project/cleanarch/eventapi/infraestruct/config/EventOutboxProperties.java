@@ -0,0 +1,27 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import com.project.cleanarch.eventapi.infraestruct.outbox.EventChangeSinkType;
+
+/**
+ * Configuração da outbox de alterações de eventos
+ * - relayEnabled: liga o relay que drena a outbox; desligado, as alterações só acumulam na tabela
+ * - pollInterval: espera com a outbox vazia, ou seja, a latência máxima de entrega em repouso
+ * - leaderTtl: prazo da liderança do relay; se o líder cai sem liberar, outra instância assume depois dele
+ * - sink / file / inMemoryCapacity: sink embutido usado quando a aplicação não registra um {@code EventChangeSink}
+ */
+@ConfigurationProperties(prefix = "events.outbox")
+public record EventOutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("100ms") Duration pollInterval,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("15s") Duration leaderTtl,
+        @DefaultValue("IN_MEMORY") EventChangeSinkType sink,
+        @DefaultValue("outbox/events.ndjson") String file,
+        @DefaultValue("10000") int inMemoryCapacity
+) {
+}
@@ -0,0 +1,77 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+import com.project.cleanarch.eventapi.infraestruct.reservation.DisabledSeatInventory;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatLeaseEndpoint;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationJournal;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationStore;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationWriteBehind;
+import com.project.cleanarch.eventapi.infraestruct.reservation.StripedSeatInventory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Estoque de assentos: contadores em memória, journal local e write-behind para o banco
+ * Só liga com {@code events.reservations.enabled=true}, quando node-id e journal passam a ser obrigatórios;
+ * desligado, as reservas respondem {@code event.reservation.disabled}
+ */
+@Configuration
+public class EventReservationConfig {
+
+    /**
+     * Sempre presente: a alteração de capacidade confere os leases mesmo com o estoque desligado
+     */
+    @Bean
+    public SeatReservationStore seatReservationStore(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                                                     EventReservationProperties properties) {
+        return new SeatReservationStore(jdbcTemplate, transactionOperations, properties.leaseTtl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "events.reservations", name = "enabled", havingValue = "true")
+    public SeatLeaseEndpoint seatLeaseEndpoint(SeatReservationStore store) {
+        return new SeatLeaseEndpoint(store);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "events.reservations", name = "enabled", havingValue = "true")
+    public StripedSeatInventory seatInventory(SeatReservationStore store, EventReservationProperties properties,
+                                              MeterRegistry meterRegistry) throws IOException {
+        // Um nodeId que muda a cada restart (hostname de container) abandona os leases e o journal da execução anterior
+        if (properties.nodeId() == null || properties.nodeId().isBlank()) {
+            throw new IllegalStateException("events.reservations.node-id é obrigatório e deve ser estável entre restarts");
+        }
+        if (properties.journal() == null || !Path.of(properties.journal()).isAbsolute()) {
+            throw new IllegalStateException("events.reservations.journal deve ser um caminho absoluto em um volume persistente");
+        }
+
+        SeatReservationWriteBehind writeBehind = new SeatReservationWriteBehind(
+                new SeatReservationJournal(Path.of(properties.journal())), store, properties.nodeId(),
+                properties.batchSize(), properties.flushInterval(), properties.maxBackoff(), meterRegistry);
+
+        // Antes da primeira reserva: o saldo de cada evento é lido do banco e precisa incluir o que ficou no journal
+        writeBehind.recover();
+        writeBehind.start();
+
+        int stripes = properties.stripes() > 0 ? properties.stripes() : Runtime.getRuntime().availableProcessors();
+        StripedSeatInventory inventory = new StripedSeatInventory(store, writeBehind, properties.nodeId(), stripes,
+                properties.leaseBlock(), properties.soldOutRecheck(), properties.durableTimeout(), properties.leaseTtl(),
+                meterRegistry);
+        inventory.start();
+        return inventory;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "events.reservations", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public SeatInventory disabledSeatInventory() {
+        return new DisabledSeatInventory();
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do estoque de assentos
+ * - enabled: liga o estoque; desligado (padrão), as reservas são recusadas e nodeId/journal não são exigidos
+ * - nodeId: identifica a instância em event_seat_leases/event_seat_reservations; obrigatório (com enabled) e estável entre restarts
+ *   (não o hostname de um container), junto com o journal, para que a instância recupere o próprio saldo
+ * - journal: caminho absoluto em um volume persistente; obrigatório com enabled
+ * - leaseTtl: lease sem renovação há mais que isso pode ser cercado pelo operador; a instância para de vender na metade
+ * - stripes: faixas do contador por evento; 0 usa a quantidade de processadores
+ * - leaseBlock: assentos pedidos ao banco de cada vez (uma trava na linha do evento por bloco)
+ * - soldOutRecheck: depois que o banco recusa um lease, por quanto tempo a instância responde "esgotado" sem consultá-lo
+ * - flushInterval / batchSize: atraso máximo e tamanho do lote do write-behind
+ * - durableTimeout: espera máxima pela gravação no journal antes de recusar a operação
+ */
+@ConfigurationProperties(prefix = "events.reservations")
+public record EventReservationProperties(
+        @DefaultValue("false") boolean enabled,
+        String nodeId,
+        String journal,
+        @DefaultValue("0") int stripes,
+        @DefaultValue("100") int leaseBlock,
+        @DefaultValue("1s") Duration soldOutRecheck,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration flushInterval,
+        @DefaultValue("30s") Duration maxBackoff,
+        @DefaultValue("5s") Duration durableTimeout,
+        @DefaultValue("60s") Duration leaseTtl
+) {
+}
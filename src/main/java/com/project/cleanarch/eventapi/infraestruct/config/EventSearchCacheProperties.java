@@ -0,0 +1,21 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do cache de resultados das buscas por filtro
+ * - ttl: idade máxima de qualquer resultado; limita a defasagem para escritas feitas em outras instâncias
+ *   (a versão de mutação é local) e para o atraso das réplicas
+ * - maxStaleness: por quanto tempo um resultado de uma versão anterior ainda pode ser servido (0 = nunca)
+ */
+@ConfigurationProperties(prefix = "events.cache.search")
+public record EventSearchCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000") long maxSize,
+        @DefaultValue("30s") Duration ttl,
+        @DefaultValue("0s") Duration maxStaleness
+) {
+}
@@ -0,0 +1,16 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+
+/**
+ * Configuração da busca textual por nome e localização
+ * O padrão LIKE preserva a semântica de substring; FULL_TEXT muda o casamento (prefixos por palavra) e é opt-in
+ */
+@ConfigurationProperties(prefix = "events.search")
+public record EventSearchProperties(
+        @DefaultValue("LIKE") TextSearchMode textMode
+) {
+}
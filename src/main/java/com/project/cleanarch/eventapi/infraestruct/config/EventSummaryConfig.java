@@ -0,0 +1,33 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.infraestruct.summary.EventDailySummaryRebuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rebuild periódico do resumo diário
+ */
+@Configuration
+public class EventSummaryConfig {
+
+    @Bean(destroyMethod = "close")
+    public EventDailySummaryRebuilder eventDailySummaryRebuilder(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                                                                 EventSummaryProperties properties, MeterRegistry meterRegistry) {
+        return new EventDailySummaryRebuilder(jdbcTemplate, transactionOperations, properties.rebuildWindow(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "events.summaries", name = "rebuild-enabled", havingValue = "true", matchIfMissing = true)
+    public ApplicationListener<ApplicationReadyEvent> eventDailySummaryRebuildStarter(EventDailySummaryRebuilder rebuilder,
+                                                                                      EventSummaryProperties properties) {
+        // A primeira execução fica para depois de um intervalo: o resumo já sai correto da migration
+        return event -> rebuilder.start(properties.rebuildInterval());
+    }
+}
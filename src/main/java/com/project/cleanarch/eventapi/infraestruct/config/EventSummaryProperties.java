@@ -0,0 +1,21 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do resumo diário de eventos
+ * - rebuildInterval: intervalo do rebuild que corrige desvios do resumo mantido incrementalmente
+ * - rebuildWindow: dias recalculados por transação; janelas menores seguram os locks por menos tempo
+ * - maxRange: maior intervalo de dias aceito pelo endpoint de resumo
+ */
+@ConfigurationProperties(prefix = "events.summaries")
+public record EventSummaryProperties(
+        @DefaultValue("true") boolean rebuildEnabled,
+        @DefaultValue("6h") Duration rebuildInterval,
+        @DefaultValue("31d") Duration rebuildWindow,
+        @DefaultValue("366") int maxRange
+) {
+}
@@ -3,19 +3,39 @@ package com.project.cleanarch.eventapi.infraestruct.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
 import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
 import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventsInBatchUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventsInBatchUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.ExporterEventsUseCase;
+import com.project.cleanarch.eventapi.core.usecases.ExporterEventsUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.ReleaserSeatsUseCase;
+import com.project.cleanarch.eventapi.core.usecases.ReleaserSeatsUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.ReserverSeatsUseCase;
+import com.project.cleanarch.eventapi.core.usecases.ReserverSeatsUseCaseImpl;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverAllEventsUseCase;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverAllEventsUseCaseImpl;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverEventByIdUseCase;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverEventByIdUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventRevisionUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventRevisionUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsByCursorUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsByCursorUseCaseImpl;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsByFilterUseCase;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsByFilterUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsOverlappingUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsOverlappingUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventSummariesUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventSummariesUseCaseImpl;
 import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
 import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCaseImpl;
 import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCase;
 import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCaseImpl;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventsByFilterUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventsByFilterUseCaseImpl;
 import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
 
 /**
@@ -27,32 +47,85 @@ import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
 public class EventUseCaseConfig {
 
     @Bean
-    public CreatorEventUseCase creatorEventUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService) {
-        return new CreatorEventUseCaseImpl(eventRepository, eventMapper, eventDomainService);
+    public CreatorEventUseCase creatorEventUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                                   EventCache eventCache) {
+        return new CreatorEventUseCaseImpl(eventRepository, eventMapper, eventDomainService, eventCache);
     }
 
     @Bean
-    public UpdateEventUseCase updateEventUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService) {
-        return new UpdateEventUseCaseImpl(eventRepository, eventMapper, eventDomainService);
+    public CreatorEventsInBatchUseCase creatorEventsInBatchUseCase(EventRepository eventRepository, EventMapper eventMapper,
+                                                                   EventDomainService eventDomainService, EventCache eventCache,
+                                                                   EventBatchProperties properties) {
+        return new CreatorEventsInBatchUseCaseImpl(eventRepository, eventMapper, eventDomainService, eventCache,
+                                                   properties.chunkSize(), properties.maxItems());
     }
 
     @Bean
-    public RetrieverEventByIdUseCase retrieverEventByIdUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService) {
-        return new RetrieverEventByIdUseCaseImpl(eventRepository, eventMapper, eventDomainService);
+    public UpdateEventUseCase updateEventUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                                 EventCache eventCache) {
+        return new UpdateEventUseCaseImpl(eventRepository, eventMapper, eventDomainService, eventCache);
     }
 
     @Bean
-    public RetrieverEventsByFilterUseCase retrieverEventsByFilterUseCase(EventRepository eventRepository, EventMapper eventMapper) {
-        return new RetrieverEventsByFilterUseCaseImpl(eventRepository, eventMapper);
+    public RetrieverEventByIdUseCase retrieverEventByIdUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                                               EventCache eventCache) {
+        return new RetrieverEventByIdUseCaseImpl(eventRepository, eventMapper, eventDomainService, eventCache);
     }
 
     @Bean
-    public RetrieverAllEventsUseCase retrieverAllEventsUseCase(EventRepository eventRepository, EventMapper eventMapper) {
-        return new RetrieverAllEventsUseCaseImpl(eventRepository, eventMapper);
+    public RetrieverEventRevisionUseCase retrieverEventRevisionUseCase(EventRepository eventRepository, EventDomainService eventDomainService) {
+        return new RetrieverEventRevisionUseCaseImpl(eventRepository, eventDomainService);
     }
 
     @Bean
-    public CancellerEventUseCase cancelEventUseCase(EventRepository eventRepository, EventDomainService eventDomainService) {
-        return new CancellerEventUseCaseImpl(eventRepository, eventDomainService);
+    public RetrieverEventsByFilterUseCase retrieverEventsByFilterUseCase(EventRepository eventRepository) {
+        return new RetrieverEventsByFilterUseCaseImpl(eventRepository);
     }
-}
\ No newline at end of file
+
+    @Bean
+    public RetrieverEventsOverlappingUseCase retrieverEventsOverlappingUseCase(EventRepository eventRepository) {
+        return new RetrieverEventsOverlappingUseCaseImpl(eventRepository);
+    }
+
+    @Bean
+    public RetrieverEventSummariesUseCase retrieverEventSummariesUseCase(EventRepository eventRepository, EventSummaryProperties properties) {
+        return new RetrieverEventSummariesUseCaseImpl(eventRepository, properties.maxRange());
+    }
+
+    @Bean
+    public RetrieverAllEventsUseCase retrieverAllEventsUseCase(EventRepository eventRepository) {
+        return new RetrieverAllEventsUseCaseImpl(eventRepository);
+    }
+
+    @Bean
+    public RetrieverEventsByCursorUseCase retrieverEventsByCursorUseCase(EventRepository eventRepository, EventMapper eventMapper) {
+        return new RetrieverEventsByCursorUseCaseImpl(eventRepository, eventMapper);
+    }
+
+    @Bean
+    public ExporterEventsUseCase exporterEventsUseCase(EventRepository eventRepository, EventExportProperties properties) {
+        return new ExporterEventsUseCaseImpl(eventRepository, properties.chunkSize());
+    }
+
+    @Bean
+    public CancellerEventUseCase cancelEventUseCase(EventRepository eventRepository, EventDomainService eventDomainService, EventCache eventCache) {
+        return new CancellerEventUseCaseImpl(eventRepository, eventDomainService, eventCache);
+    }
+
+    @Bean
+    public CancellerEventsByFilterUseCase cancellerEventsByFilterUseCase(EventRepository eventRepository, EventDomainService eventDomainService,
+                                                                         EventCache eventCache, EventBulkCancelProperties properties) {
+        return new CancellerEventsByFilterUseCaseImpl(eventRepository, eventDomainService, eventCache, properties.chunkSize());
+    }
+
+    @Bean
+    public ReserverSeatsUseCase reserverSeatsUseCase(EventRepository eventRepository, EventMapper eventMapper, EventDomainService eventDomainService,
+                                                     EventCache eventCache, SeatInventory seatInventory) {
+        return new ReserverSeatsUseCaseImpl(eventRepository, eventMapper, eventDomainService, eventCache, seatInventory);
+    }
+
+    @Bean
+    public ReleaserSeatsUseCase releaserSeatsUseCase(EventDomainService eventDomainService, SeatInventory seatInventory) {
+        return new ReleaserSeatsUseCaseImpl(eventDomainService, seatInventory);
+    }
+}
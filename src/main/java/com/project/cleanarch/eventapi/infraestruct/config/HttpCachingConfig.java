@@ -0,0 +1,41 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * GETs condicionais nas listagens: ETag forte calculado pelo hash do corpo de cada página
+ * O 304 evita reenviar a página, mas a consulta e a serialização ainda acontecem
+ * A busca por ID tem ETag próprio derivado da revisão (ver EventController#findById);
+ * a exportação fica de fora porque o filtro precisaria bufferizar o stream inteiro
+ * Como a mesma URL tem representações JSON, CBOR, Smile e Protobuf, as respostas variam pelo Accept
+ */
+@Configuration
+public class HttpCachingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> eventListETagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration = new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.setName("eventListETagFilter");
+        registration.addUrlPatterns("/api/events", "/api/events/search", "/api/events/cursor", "/api/events/search/cursor");
+        return registration;
+    }
+
+    @Bean
+    public FilterRegistrationBean<Filter> eventVaryByAcceptFilter() {
+        Filter varyByAccept = (request, response, chain) -> {
+            ((HttpServletResponse) response).addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            chain.doFilter(request, response);
+        };
+        FilterRegistrationBean<Filter> registration = new FilterRegistrationBean<>(varyByAccept);
+        registration.setName("eventVaryByAcceptFilter");
+        registration.addUrlPatterns("/api/events", "/api/events/*");
+        return registration;
+    }
+}
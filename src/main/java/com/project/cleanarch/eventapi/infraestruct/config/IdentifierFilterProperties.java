@@ -0,0 +1,16 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do Bloom filter de identificadores usado na validação de unicidade
+ */
+@ConfigurationProperties(prefix = "events.identifier-filter")
+public record IdentifierFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("1000") int fetchSize
+) {
+}
@@ -0,0 +1,117 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReadReplicaRoutingAspect;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReadWriteRoutingDataSource;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReadYourWritesTracker;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReplicaNode;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Roteamento de leituras para réplicas quando {@code events.read-replicas.enabled=true}
+ * O DataSource do Spring Boot continua sendo o primário; ele é envolvido em
+ * LazyConnectionDataSourceProxy -> {@link ReadWriteRoutingDataSource} -> primário | réplicas
+ * Com o connection gate ligado, o gate envolve só o primário (ele é aplicado antes do roteamento);
+ * as réplicas têm pools próprios e não passam pelo gate
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "events.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String METRIC_PREFIX = "events.datasource.replica";
+    private static final long MIN_CONNECTION_TIMEOUT_MS = 250;
+
+    @Bean
+    public static BeanPostProcessor readReplicaRoutingPostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+        return new RoutingPostProcessor(replicaPool);
+    }
+
+    @Bean(destroyMethod = "close")
+    public static ReplicaPool replicaPool(ReadReplicaProperties properties) {
+        List<ReplicaNode> nodes = new ArrayList<>();
+        for (int i = 0; i < properties.nodes().size(); i++) {
+            String name = "replica-" + (i + 1);
+            nodes.add(new ReplicaNode(name, replicaDataSource(name, properties.nodes().get(i), properties)));
+        }
+
+        ReplicaPool pool = new ReplicaPool(nodes, properties.selection(), properties.healthCheckTimeout());
+        pool.start(properties.healthCheckInterval());
+        return pool;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.stickiness());
+    }
+
+    @Bean
+    public ReadReplicaRoutingAspect readReplicaRoutingAspect(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadReplicaRoutingAspect(readYourWritesTracker);
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReplicaPool replicaPool) {
+        return registry -> replicaPool.nodes().forEach(node -> {
+            Gauge.builder(METRIC_PREFIX + ".healthy", node, n -> n.isHealthy() ? 1 : 0)
+                    .description("1 se a réplica está recebendo leituras, 0 se foi ejetada")
+                    .tag("replica", node.name())
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".latency", node, ReplicaNode::latencyMillis)
+                    .description("Latência média para obter uma conexão válida da réplica")
+                    .baseUnit("milliseconds")
+                    .tag("replica", node.name())
+                    .register(registry);
+        });
+    }
+
+    private static DataSource replicaDataSource(String name, ReadReplicaProperties.Replica replica, ReadReplicaProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(replica.url());
+        dataSource.setUsername(replica.username());
+        dataSource.setPassword(replica.password());
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        // Réplica fora do ar não deve impedir a subida nem segurar a leitura por muito tempo antes do fallback
+        dataSource.setInitializationFailTimeout(-1);
+        dataSource.setConnectionTimeout(Math.max(MIN_CONNECTION_TIMEOUT_MS, properties.healthCheckTimeout().toMillis()));
+        return dataSource;
+    }
+
+    private static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ReplicaPool> replicaPool;
+
+        private RoutingPostProcessor(ObjectProvider<ReplicaPool> replicaPool) {
+            this.replicaPool = replicaPool;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(dataSource, replicaPool.getObject()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
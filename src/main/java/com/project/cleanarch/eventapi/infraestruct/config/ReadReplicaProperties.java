@@ -0,0 +1,34 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReplicaSelection;
+
+/**
+ * Configuração do roteamento de leituras para réplicas
+ * stickiness: janela após uma escrita em que as leituras do mesmo x-app-origin continuam no primário (0 desliga)
+ * maxLag: atraso de replicação tolerado; é o ttl máximo das entradas de cache carregadas de uma réplica
+ * Uma réplica que falha no health check (ou ao abrir conexão) sai da seleção até passar novamente no check
+ */
+@ConfigurationProperties(prefix = "events.read-replicas")
+public record ReadReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("ROUND_ROBIN") ReplicaSelection selection,
+        @DefaultValue("5s") Duration stickiness,
+        @DefaultValue("5s") Duration maxLag,
+        @DefaultValue("5s") Duration healthCheckInterval,
+        @DefaultValue("1s") Duration healthCheckTimeout,
+        @DefaultValue List<Replica> nodes
+) {
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {
+    }
+}
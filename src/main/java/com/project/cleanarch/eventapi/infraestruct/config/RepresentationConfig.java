@@ -0,0 +1,71 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+import com.project.cleanarch.eventapi.infraestruct.presentation.converter.EventProtobufHttpMessageConverter;
+import com.project.cleanarch.eventapi.infraestruct.presentation.converter.EventProtobufSchemas;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Representações binárias da API negociadas pelo header Accept, ao lado do application/vnd.pags.v1+json
+ * Os ObjectMappers partem do builder do Spring Boot: spring.jackson.* (non_null, datas ISO) vale para todos
+ * Os conversores entram depois do JSON, que continua sendo a resposta para Accept ausente ou curinga
+ */
+@Configuration
+@RequiredArgsConstructor
+public class RepresentationConfig implements WebMvcConfigurer {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Substitui os conversores CBOR/Smile padrão na mesma posição para não antecipá-los ao JSON
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(cborConverter());
+        converters.add(smileConverter());
+        converters.add(protobufConverter());
+    }
+
+    private MappingJackson2CborHttpMessageConverter cborConverter() {
+        MappingJackson2CborHttpMessageConverter converter =
+                new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.getObject().factory(new CBORFactory()).build());
+        converter.setSupportedMediaTypes(List.of(
+                MediaType.parseMediaType(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_CBOR), MediaType.APPLICATION_CBOR));
+        return converter;
+    }
+
+    private MappingJackson2SmileHttpMessageConverter smileConverter() {
+        MappingJackson2SmileHttpMessageConverter converter =
+                new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.getObject().factory(new SmileFactory()).build());
+        converter.setSupportedMediaTypes(List.of(
+                MediaType.parseMediaType(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_SMILE), SMILE));
+        return converter;
+    }
+
+    private EventProtobufHttpMessageConverter protobufConverter() {
+        // Datas como string ISO (o contrato declara string) e propriedades sem campo no .proto descartadas
+        return new EventProtobufHttpMessageConverter(objectMapperBuilder.getObject()
+                .factory(new ProtobufFactory())
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToEnable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+                .build(), EventProtobufSchemas.load());
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.cleanarch.eventapi.infraestruct.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Requisição do cancelamento por filtro: os mesmos critérios da busca e o motivo aplicado a todos os eventos
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class EventBulkCancelDTO {
+
+    @JsonProperty("filter")
+    private EventFilterDTO filter;
+
+    @JsonProperty("cancelReason")
+    private String cancelReason;
+}
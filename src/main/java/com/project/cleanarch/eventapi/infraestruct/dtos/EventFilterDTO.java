@@ -2,6 +2,7 @@ package com.project.cleanarch.eventapi.infraestruct.dtos;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
 import com.project.cleanarch.eventapi.core.domain.enums.EventType;
 
@@ -28,4 +29,14 @@ public class EventFilterDTO {
     private Integer capacityMin;
     private Integer capacityMax;
     private String identifier;
+
+    /**
+     * Indica se ao menos um critério foi informado
+     */
+    @JsonIgnore
+    public boolean hasCriteria() {
+        return name != null || location != null || type != null || status != null
+                || startAtFrom != null || startAtTo != null || endAtFrom != null || endAtTo != null
+                || capacityMin != null || capacityMax != null || identifier != null;
+    }
 } 
\ No newline at end of file
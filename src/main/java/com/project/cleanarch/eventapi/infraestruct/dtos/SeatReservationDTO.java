@@ -0,0 +1,27 @@
+package com.project.cleanarch.eventapi.infraestruct.dtos;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Requisição de reserva: quantos assentos do evento reservar de uma vez
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class SeatReservationDTO {
+
+    @NotNull(message = "Quantidade de assentos é obrigatória")
+    @Min(value = 1, message = "Quantidade de assentos deve ser pelo menos 1")
+    @JsonProperty("seats")
+    private Integer seats;
+}
@@ -1,46 +1,318 @@
 package com.project.cleanarch.eventapi.infraestruct.gateway;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.core.domain.enums.EventChangeType;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.exception.EventVersionMismatchException;
+import com.project.cleanarch.eventapi.core.domain.model.EventCursor;
+import com.project.cleanarch.eventapi.core.domain.model.EventDailySummary;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
 import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.cache.EventCountCache;
+import com.project.cleanarch.eventapi.infraestruct.cache.EventFilterKey;
+import com.project.cleanarch.eventapi.infraestruct.cache.EventIdentifierIndex;
+import com.project.cleanarch.eventapi.infraestruct.cache.EventReadCoalescer;
+import com.project.cleanarch.eventapi.infraestruct.cache.EventSearchResultCache;
+import com.project.cleanarch.eventapi.infraestruct.config.EventSearchProperties;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.outbox.EventOutbox;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventCancelChunk;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventDailySummaryJpaRepository;
 import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventJpaRepository;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventQueryPlan;
 import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSpecification;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSpecifications;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSummaryState;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationStore;
+import com.project.cleanarch.eventapi.infraestruct.summary.EventDailySummaries;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Toda escrita grava a alteração na outbox ({@link EventOutbox}) e atualiza o resumo diário ({@link EventDailySummaries})
+ * na mesma transação; os use cases do core não conhecem transações, por isso a fronteira transacional das escritas fica aqui
+ * Fora de transação, leituras idênticas e simultâneas por ID e por filtros passam pelo {@link EventReadCoalescer}
+ * e as buscas por filtro pelo {@link EventSearchResultCache}, invalidado por versão a cada escrita confirmada
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class EventRepositoryImpl implements EventRepository {
 
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.asc("startAt"), Sort.Order.asc("id"));
+    private static final Sort EXPORT_SORT = Sort.by(Sort.Order.asc("id"));
+
     private final EventJpaRepository jpaRepository;
+    private final EventCountCache countCache;
+    private final EventSearchProperties searchProperties;
+    private final EventIdentifierIndex identifierIndex;
+    private final EventOutbox outbox;
+    private final TransactionOperations transactionOperations;
+    private final EventDailySummaries dailySummaries;
+    private final EventDailySummaryJpaRepository dailySummaryRepository;
+    private final EventReadCoalescer readCoalescer;
+    private final EventSearchResultCache searchCache;
+    private final SeatReservationStore seatReservationStore;
 
     @Override
+    @Transactional
     public EventEntity save(EventEntity entity) {
-        return jpaRepository.save(entity);
+        try {
+            EventEntity saved = jpaRepository.save(entity);
+            // Flush ainda dentro do try: a violação da unique de identifier só aparece no INSERT
+            jpaRepository.flush();
+            // A outbox grava por JDBC, fora do contexto de persistência: só depois do flush a linha do evento existe
+            outbox.record(EventChangeType.CREATED, List.of(saved));
+            dailySummaries.apply(List.of(), List.of(EventSummaryState.of(saved)));
+            searchCache.invalidate(List.of(saved.getType()));
+            identifierIndex.register(saved.getIdentifier());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, entity.getIdentifier());
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<EventEntity> saveAll(List<EventEntity> entities) {
+        try {
+            List<EventEntity> saved = jpaRepository.saveAll(entities);
+            jpaRepository.flush();
+            outbox.record(EventChangeType.CREATED, saved);
+            dailySummaries.apply(List.of(), saved.stream().map(EventSummaryState::of).toList());
+            searchCache.invalidate(saved.stream().map(EventEntity::getType).toList());
+            saved.forEach(entity -> identifierIndex.register(entity.getIdentifier()));
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, null);
+        }
     }
 
     @Override
     public Optional<EventEntity> findById(Long id) {
-        return jpaRepository.findById(id);
+        return readCoalescer.findById(id, () -> jpaRepository.findById(id));
+    }
+
+    @Override
+    public Optional<EventRevision> findRevisionById(Long id) {
+        return jpaRepository.findRevisionById(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return jpaRepository.existsById(id);
+    }
+
+    @Override
+    @Transactional
+    public Optional<EventEntity> update(Long id, Long expectedVersion, Consumer<EventEntity> changes) {
+        Optional<EventEntity> found = jpaRepository.findById(id);
+        if (found.isEmpty()) {
+            return found;
+        }
+
+        EventEntity entity = found.get();
+        // O flush usa a versão carregada no WHERE version = ?: exigir que seja a do cliente faz dela a condição do UPDATE
+        if (expectedVersion != null && !expectedVersion.equals(entity.getVersion())) {
+            throw new EventVersionMismatchException(id, expectedVersion);
+        }
+        EventSummaryState before = EventSummaryState.of(entity);
+        changes.accept(entity);
+        try {
+            // Entidade gerenciada: o flush emite só as colunas alteradas com WHERE version = ?, ainda dentro do método
+            jpaRepository.flush();
+        } catch (OptimisticLockingFailureException e) {
+            throw expectedVersion != null
+                    ? new EventVersionMismatchException(id, expectedVersion)
+                    : new BusinessException("event.update.conflict", id);
+        } catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e, entity.getIdentifier());
+        }
+        // Com a linha já bloqueada pelo flush, nenhuma instância recebe lease novo até o commit
+        if (entity.getCapacity() < before.capacity()) {
+            long leased = seatReservationStore.leasedSeats(id);
+            if (entity.getCapacity() < leased) {
+                throw new BusinessException("event.capacity.below.leased", entity.getCapacity(), leased);
+            }
+        }
+        // Depois do flush: a linha do evento já está bloqueada, então a ordem dos ids da outbox segue a dos commits
+        outbox.record(EventChangeType.UPDATED, List.of(entity));
+        dailySummaries.apply(List.of(before), List.of(EventSummaryState.of(entity)));
+        searchCache.invalidate(Arrays.asList(before.type(), entity.getType()));
+        identifierIndex.register(entity.getIdentifier());
+        return found;
     }
 
     @Override
-    public Page<EventEntity> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable);
+    @Transactional
+    public int cancel(Long id, String reason) {
+        // O UPDATE condicional não devolve o status anterior, que o resumo diário precisa descontar:
+        // a leitura com FOR UPDATE vem antes e decide sozinha entre concorrentes
+        Optional<EventSummaryState> before = jpaRepository.findSummaryStateForUpdate(id, EventStatusEnum.CANCELLED);
+        if (before.isEmpty()) {
+            return 0;
+        }
+
+        int updated = jpaRepository.cancel(id, reason, EventStatusEnum.CANCELLED, LocalDateTime.now());
+        if (updated > 0) {
+            outbox.recordCancelled(List.of(id), reason);
+            dailySummaries.apply(List.of(before.get()), List.of(before.get().withStatus(EventStatusEnum.CANCELLED)));
+            searchCache.invalidate(Arrays.asList(before.get().type()));
+        }
+        return updated;
+    }
+
+    @Override
+    public int cancelByFilters(EventFilterDTO filters, String reason, int chunkSize, Consumer<List<Long>> cancelledChunkConsumer) {
+        if (chunkSize <= 0) {
+            // Com chunk vazio o keyset nunca avança e o laço não termina
+            throw new IllegalArgumentException("chunkSize deve ser positivo: " + chunkSize);
+        }
+        Specification<EventEntity> spec = specificationOf(filters);
+        int cancelled = 0;
+        Long afterId = null;
+        EventCancelChunk chunk;
+        do {
+            Long from = afterId;
+            // Um chunk por transação: o UPDATE e as linhas da outbox são confirmados juntos
+            chunk = transactionOperations.execute(status -> {
+                EventCancelChunk next = jpaRepository.cancelNextChunk(spec, from, chunkSize, reason, LocalDateTime.now());
+                List<EventSummaryState> states = next.cancelled();
+                if (!states.isEmpty()) {
+                    outbox.recordCancelled(states.stream().map(EventSummaryState::id).toList(), reason);
+                    dailySummaries.apply(states, states.stream().map(state -> state.withStatus(EventStatusEnum.CANCELLED)).toList());
+                    searchCache.invalidate(states.stream().map(EventSummaryState::type).toList());
+                }
+                return next;
+            });
+            afterId = chunk.lastScannedId();
+            if (!chunk.cancelled().isEmpty()) {
+                cancelled += chunk.cancelled().size();
+                cancelledChunkConsumer.accept(chunk.cancelled().stream().map(EventSummaryState::id).toList());
+            }
+        } while (chunk.scanned() == chunkSize);
+        return cancelled;
+    }
+
+    @Override
+    public Page<EventDTO> findAll(Pageable pageable) {
+        List<EventDTO> content = jpaRepository.findEvents(null, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, jpaRepository::count);
     }
 
     @Override
     public boolean existsByIdentifier(String identifier) {
-        return jpaRepository.existsByIdentifier(identifier);
+        return identifierIndex.mightContain(identifier) && jpaRepository.existsByIdentifier(identifier);
+    }
+
+    @Override
+    public Set<String> findExistingIdentifiers(Collection<String> identifiers) {
+        // Só consulta o banco pelos identificadores que o filtro não descarta
+        List<String> candidates = identifiers.stream().filter(identifierIndex::mightContain).toList();
+        return candidates.isEmpty() ? Set.of() : jpaRepository.findExistingIdentifiers(candidates);
     }
 
     @Override
-    public Page<EventEntity> findByFilters(EventFilterDTO filters, Pageable pageable) {
-        return jpaRepository.findAll(EventSpecification.of(filters).build(), pageable);
+    public Page<EventDTO> findByFilters(EventFilterDTO filters, Pageable pageable) {
+        return searchCache.findByFilters(filters, pageable, version -> readCoalescer.findByFilters(filters, pageable, version, () -> {
+            Specification<EventEntity> spec = specificationOf(filters);
+            List<EventDTO> content = jpaRepository.findEvents(spec, pageable, pageable.getPageSize());
+            return PageableExecutionUtils.getPage(content, pageable, () -> jpaRepository.countEvents(spec));
+        }));
+    }
+
+    @Override
+    public Slice<EventDTO> findSliceByFilters(EventFilterDTO filters, Pageable pageable) {
+        return searchCache.findSliceByFilters(filters, pageable,
+                version -> readCoalescer.findSliceByFilters(filters, pageable, version, () -> findSlice(specificationOf(filters), pageable)));
+    }
+
+    @Override
+    public Slice<EventDTO> findOverlapping(LocalDateTime from, LocalDateTime to, EventFilterDTO filters, Pageable pageable) {
+        Specification<EventEntity> spec = specificationOf(filters).and(EventSpecifications.overlaps(from, to));
+        Pageable sorted = pageable.getSort().isSorted() ? pageable : withSort(pageable, KEYSET_SORT);
+        return findSlice(spec, sorted);
+    }
+
+    @Override
+    public List<EventDailySummary> findDailySummaries(LocalDate from, LocalDate to, EventFilterDTO filters) {
+        return dailySummaryRepository.findSummaries(from, to, filters.getType(), filters.getStatus());
+    }
+
+    @Override
+    public long estimateCountByFilters(EventFilterDTO filters) {
+        return countCache.get(EventFilterKey.of(filters),
+                key -> jpaRepository.countEvents(specificationOf(filters)));
+    }
+
+    @Override
+    public List<EventEntity> findByFiltersAfter(EventFilterDTO filters, EventCursor cursor, int limit) {
+        Specification<EventEntity> spec = specificationOf(filters).and(EventSpecifications.isAfter(cursor));
+        return jpaRepository.findBy(spec, query -> query.sortBy(KEYSET_SORT).limit(limit).all());
+    }
+
+    @Override
+    public long streamByFilters(EventFilterDTO filters, int chunkSize, Consumer<List<EventDTO>> chunkConsumer) {
+        // Ordena pela chave primária: estável e sem o custo da ordenação por relevância do FULL_TEXT
+        return jpaRepository.scrollEvents(specificationOf(filters), EXPORT_SORT, chunkSize, chunkConsumer);
+    }
+
+    private Slice<EventDTO> findSlice(Specification<EventEntity> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(jpaRepository.findEvents(spec, pageable, 0), pageable, false);
+        }
+
+        // Busca um registro a mais apenas para saber se existe próxima fatia
+        List<EventDTO> content = jpaRepository.findEvents(spec, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private static Pageable withSort(Pageable pageable, Sort sort) {
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort) : Pageable.unpaged(sort);
+    }
+
+    private Specification<EventEntity> specificationOf(EventFilterDTO filters) {
+        EventSpecification specification = EventSpecification.of(filters, searchProperties.textMode());
+        if (log.isDebugEnabled()) {
+            EventQueryPlan plan = specification.plan();
+            log.debug("Plano de consulta por filtros: shape={}, index={}, hint={}", plan.shape(), plan.indexName(), plan.indexHint());
+        }
+        return specification.build();
+    }
+
+    private RuntimeException translateIntegrityViolation(DataIntegrityViolationException e, String identifier) {
+        // A constraint unique de identifier é a autoridade final: cobre corridas e falsos negativos da validação
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+            return new BusinessException("event.already.exists", identifier);
+        }
+        return e;
     }
-} 
\ No newline at end of file
+}
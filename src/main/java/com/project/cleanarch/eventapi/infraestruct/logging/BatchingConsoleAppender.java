@@ -0,0 +1,100 @@
+package com.project.cleanarch.eventapi.infraestruct.logging;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.util.Duration;
+import ch.qos.logback.core.util.FileSize;
+
+/**
+ * Console appender com escrita em lote: os eventos vão para um buffer e são descarregados no stdout
+ * quando o buffer enche ou a cada {@code flushInterval}, o que vier primeiro
+ * Pensado para ficar atrás de um AsyncAppender, de modo que só a thread do worker de log escreve aqui
+ * O {@code System.out} padrão faz flush a cada escrita, o que transforma cada linha em uma syscall
+ */
+public class BatchingConsoleAppender<E> extends OutputStreamAppender<E> {
+
+    private FileSize bufferSize = new FileSize(64 * FileSize.KB_COEFFICIENT);
+    private Duration flushInterval = Duration.buildByMilliseconds(200);
+    private ScheduledExecutorService flusher;
+
+    public void setBufferSize(FileSize bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public void start() {
+        setOutputStream(new BufferedOutputStream(target(), (int) bufferSize.getSize()));
+        setImmediateFlush(false);
+        super.start();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable ->
+                Thread.ofPlatform().daemon().name("log-batch-flusher").unstarted(runnable));
+        long interval = flushInterval.getMilliseconds();
+        flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flush();
+        super.stop();
+    }
+
+    /**
+     * Destino final das escritas; o stdout do processo por padrão
+     */
+    protected OutputStream target() {
+        return new StdoutStream();
+    }
+
+    private void flush() {
+        OutputStream outputStream = getOutputStream();
+        if (outputStream == null) {
+            return;
+        }
+
+        streamWriteLock.lock();
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            addError("Falha ao descarregar o buffer de log", e);
+        } finally {
+            streamWriteLock.unlock();
+        }
+    }
+
+    /**
+     * Escreve direto no descritor do stdout; o close do appender não deve fechar o stdout do processo
+     */
+    private static final class StdoutStream extends FilterOutputStream {
+
+        StdoutStream() {
+            super(new FileOutputStream(FileDescriptor.out));
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
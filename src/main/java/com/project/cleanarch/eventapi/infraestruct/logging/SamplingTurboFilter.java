@@ -0,0 +1,58 @@
+package com.project.cleanarch.eventapi.infraestruct.logging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Amostragem de logs por categoria, decidida antes da formatação da mensagem
+ * Cada {@code <sample>categoria=taxa</sample>} mantém apenas a fração informada das linhas abaixo de WARN
+ * da categoria (e subcategorias); WARN e ERROR nunca são descartados
+ * Exemplo: {@code com.project.cleanarch.eventapi.core.usecases.RetrieverEventByIdUseCaseImpl=0.01}
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final Map<String, Double> rates = new ConcurrentHashMap<>();
+
+    public void addSample(String sample) {
+        int separator = sample.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Amostragem inválida, esperado categoria=taxa: " + sample);
+            return;
+        }
+        rates.put(sample.substring(0, separator).trim(), Double.parseDouble(sample.substring(separator + 1).trim()));
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || t != null) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Double rate = rateFor(logger.getName());
+        if (rate == null || rate >= 1.0) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextDouble() < rate ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Double rateFor(String loggerName) {
+        // Chamado antes de toda linha: poucas comparações de prefixo, vence a categoria mais específica
+        String matched = null;
+        for (String category : rates.keySet()) {
+            if (loggerName.startsWith(category)
+                    && (loggerName.length() == category.length() || loggerName.charAt(category.length()) == '.')
+                    && (matched == null || category.length() > matched.length())) {
+                matched = category;
+            }
+        }
+        return matched == null ? null : rates.get(matched);
+    }
+}
@@ -6,6 +6,7 @@ import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
 
@@ -22,10 +23,17 @@ public interface EventMapper {
      */
     Event toModel(EventEntity entity);
 
+    /**
+     * Extrai a revisão (id, version, updatedAt) da Entity
+     */
+    EventRevision toRevision(EventEntity entity);
+
     /**
      * Converte de Domain Model para Entity (para criação)
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "durationClass", ignore = true)
     EventEntity toEntity(Event event);
 
     /**
@@ -51,5 +59,18 @@ public interface EventMapper {
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "durationClass", ignore = true)
     void updateEntity(@MappingTarget EventEntity entity, Event event);
+
+    /**
+     * Aplica sobre o DTO atual só os campos preenchidos da alteração parcial (PATCH)
+     * Status e motivo de cancelamento têm rota própria
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "cancelReason", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void patchDto(@MappingTarget EventDTO target, EventDTO changes);
 }
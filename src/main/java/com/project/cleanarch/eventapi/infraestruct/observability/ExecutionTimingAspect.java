@@ -0,0 +1,99 @@
+package com.project.cleanarch.eventapi.infraestruct.observability;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mede a latência de cada {@code execute} dos use cases e de cada método do {@code EventRepository}
+ * Tags: componente, método, outcome (success, business_error, unexpected_error) e code da BusinessException
+ * Os use cases embrulham falhas inesperadas em BusinessException com code {@code *.failed}: essas (e as que carregam
+ * uma causa) contam como unexpected_error, mantendo o code para identificar a operação
+ * Os histogramas de percentis são habilitados por nome de métrica em {@code management.metrics.distribution}
+ * Os timers ficam em cache por combinação de tags: após o aquecimento o custo por chamada é um lookup e dois nanoTime
+ */
+@Aspect
+@Component
+public class ExecutionTimingAspect {
+
+    static final String USE_CASE_METRIC = "events.usecase";
+    static final String REPOSITORY_METRIC = "events.repository";
+
+    private static final String NO_CODE = "none";
+    private static final String FAILURE_SUFFIX = ".failed";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public ExecutionTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.project.cleanarch.eventapi.core.usecases.*UseCase.execute(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(USE_CASE_METRIC, joinPoint);
+    }
+
+    @Around("execution(* com.project.cleanarch.eventapi.core.gateway.EventRepository.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_METRIC, joinPoint);
+    }
+
+    private Object time(String metric, ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.SUCCESS;
+        String code = NO_CODE;
+        try {
+            return joinPoint.proceed();
+        } catch (BusinessException e) {
+            outcome = isWrappedFailure(e) ? Outcome.UNEXPECTED_ERROR : Outcome.BUSINESS_ERROR;
+            code = e.getCode();
+            throw e;
+        } catch (Throwable e) {
+            outcome = Outcome.UNEXPECTED_ERROR;
+            throw e;
+        } finally {
+            TimerKey key = new TimerKey(metric, joinPoint.getSignature().getDeclaringType(), joinPoint.getSignature().getName(), outcome, code);
+            timer(key).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static boolean isWrappedFailure(BusinessException e) {
+        return e.getCause() != null || e.getCode().endsWith(FAILURE_SUFFIX);
+    }
+
+    private Timer timer(TimerKey key) {
+        Timer timer = timers.get(key);
+        return timer != null ? timer : timers.computeIfAbsent(key, this::register);
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(key.metric())
+                .tag("component", key.component().getSimpleName())
+                .tag("method", key.method())
+                .tag("outcome", key.outcome().tagValue())
+                .tag("code", key.code())
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String metric, Class<?> component, String method, Outcome outcome, String code) {
+    }
+
+    private enum Outcome {
+        SUCCESS, BUSINESS_ERROR, UNEXPECTED_ERROR;
+
+        String tagValue() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
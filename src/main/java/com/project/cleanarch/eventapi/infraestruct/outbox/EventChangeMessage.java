@@ -0,0 +1,25 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.project.cleanarch.eventapi.core.domain.enums.EventChangeType;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventOutboxEntity;
+
+/**
+ * Alteração entregue aos sinks
+ * A entrega é at-least-once: o id é único por alteração e serve para o consumidor descartar repetições
+ * payload é o EventDTO em JSON (o mesmo da API); em CANCELLED traz só id, status e cancelReason
+ */
+public record EventChangeMessage(
+        long id,
+        long eventId,
+        EventChangeType type,
+        LocalDateTime occurredAt,
+        @JsonRawValue String payload
+) {
+
+    public static EventChangeMessage of(EventOutboxEntity entry) {
+        return new EventChangeMessage(entry.getId(), entry.getEventId(), entry.getChangeType(), entry.getOccurredAt(), entry.getPayload());
+    }
+}
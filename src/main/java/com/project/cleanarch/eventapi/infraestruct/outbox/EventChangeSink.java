@@ -0,0 +1,14 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.util.List;
+
+/**
+ * Destino das alterações drenadas da outbox
+ * Recebe cada lote em ordem de id; só deve retornar depois que o lote estiver durável no destino
+ * Uma exceção mantém o lote na outbox para nova tentativa, então o mesmo lote pode ser entregue mais de uma vez
+ * Para publicar em um broker, basta registrar um bean que implemente esta interface
+ */
+public interface EventChangeSink {
+
+    void publish(List<EventChangeMessage> messages);
+}
@@ -0,0 +1,9 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+/**
+ * Sinks embutidos, usados quando nenhum bean {@link EventChangeSink} é registrado
+ */
+public enum EventChangeSinkType {
+    IN_MEMORY,
+    FILE
+}
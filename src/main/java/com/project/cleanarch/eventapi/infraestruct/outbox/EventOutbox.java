@@ -0,0 +1,78 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.core.domain.enums.EventChangeType;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registra as alterações de eventos na outbox
+ * Exige uma transação ativa (MANDATORY): a linha da outbox é confirmada ou desfeita junto com a alteração
+ * Grava por JdbcTemplate em um único batch: o id IDENTITY de EventOutboxEntity desliga o batch do Hibernate,
+ * que faria um INSERT por evento e anularia o ganho da criação em lote
+ */
+@Component
+@RequiredArgsConstructor
+public class EventOutbox {
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO event_outbox (event_id, change_type, payload, occurred_at)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(EventChangeType type, List<EventEntity> events) {
+        Timestamp occurredAt = Timestamp.valueOf(LocalDateTime.now());
+        insert(events.stream()
+                .map(event -> row(event.getId(), type, eventMapper.fromModel(event), occurredAt))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCancelled(List<Long> ids, String reason) {
+        // O cancelamento é um UPDATE sem carregar a entidade: o payload traz só o que mudou
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp occurredAt = Timestamp.valueOf(now);
+        insert(ids.stream()
+                .map(id -> row(id, EventChangeType.CANCELLED, EventDTO.builder()
+                        .id(id)
+                        .status(EventStatusEnum.CANCELLED)
+                        .cancelReason(reason)
+                        .updatedAt(now)
+                        .build(), occurredAt))
+                .toList());
+    }
+
+    private void insert(List<Object[]> rows) {
+        // As linhas vão na ordem da lista: com rewriteBatchedStatements o MySQL as recebe em um INSERT multi-linha
+        // e o AUTO_INCREMENT atribui os ids na mesma ordem
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ENTRY, rows);
+        }
+    }
+
+    private Object[] row(Long eventId, EventChangeType type, EventDTO payload, Timestamp occurredAt) {
+        try {
+            return new Object[]{eventId, type.name(), objectMapper.writeValueAsString(payload), occurredAt};
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a alteração do evento " + eventId, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Eleição do relay da outbox por uma linha em event_outbox_leader
+ * - O dono renova o prazo (ttl) enquanto drena; outra instância só assume depois que o prazo vence ou o dono libera
+ * - A renovação só vai ao banco quando falta menos da metade do prazo: com a outbox vazia o líder não escreve a cada ciclo
+ * - Um líder parado por mais que o ttl (pausa longa de GC, por exemplo) pode publicar junto com o novo líder;
+ *   o ttl precisa ser bem maior que o tempo de um lote
+ */
+public class EventOutboxLeaderLease {
+
+    private static final String RENEW = """
+            UPDATE event_outbox_leader SET owner = ?, expires_at = ?
+            WHERE name = ? AND (owner = ? OR expires_at < ?)
+            """;
+    private static final String CLAIM = "INSERT INTO event_outbox_leader (name, owner, expires_at) VALUES (?, ?, ?)";
+    private static final String RELEASE = "DELETE FROM event_outbox_leader WHERE name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String name;
+    private final String owner;
+    private final Duration ttl;
+
+    // Até quando (System.nanoTime) este relay se considera líder sem consultar o banco; 0 quando não é
+    private long heldUntil;
+    private boolean held;
+
+    public EventOutboxLeaderLease(JdbcTemplate jdbcTemplate, String name, String owner, Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.name = name;
+        this.owner = owner;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Assume ou renova a liderança; devolve false quando outra instância é a líder
+     */
+    public synchronized boolean acquire() {
+        long started = System.nanoTime();
+        if (held && heldUntil - started > ttl.toNanos() / 2) {
+            return true;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp expiresAt = Timestamp.valueOf(now.plus(ttl));
+        held = jdbcTemplate.update(RENEW, owner, expiresAt, name, owner, Timestamp.valueOf(now)) == 1 || claim(expiresAt);
+        // O prazo local conta do início da tentativa: nunca passa do que foi gravado no banco
+        heldUntil = started + ttl.toNanos();
+        return held;
+    }
+
+    /**
+     * Resultado da última tentativa, sem ir ao banco
+     */
+    public synchronized boolean held() {
+        return held;
+    }
+
+    /**
+     * Libera a liderança para outra instância assumir sem esperar o prazo
+     */
+    public synchronized void release() {
+        if (held) {
+            held = false;
+            jdbcTemplate.update(RELEASE, name, owner);
+        }
+    }
+
+    private boolean claim(Timestamp expiresAt) {
+        try {
+            return jdbcTemplate.update(CLAIM, name, owner, expiresAt) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventOutboxEntity;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventOutboxJpaRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Drena a outbox em lotes e publica no {@link EventChangeSink}
+ * - Só o líder ({@link EventOutboxLeaderLease}) drena; as demais instâncias tentam assumir a cada leaderTtl/3
+ * - O lote é lido sem lock (só linhas já confirmadas), publicado fora de transação e então removido por id:
+ *   se o sink falhar, as linhas ficam para a próxima tentativa (at-least-once); se a remoção falhar, o lote é reenviado
+ * - Nenhuma trava fica aberta durante o publish: as escritas continuam inserindo na outbox enquanto o sink responde
+ * - Lotes em ordem de id e um único líder garantem a ordem por evento; uma linha ainda não confirmada com id menor
+ *   é de outro evento (o id é atribuído com a linha do evento bloqueada) e sai num lote seguinte
+ * - Enquanto os lotes vêm cheios drena sem esperar; com a outbox vazia aguarda o pollInterval,
+ *   o que limita a latência de entrega a pollInterval + tempo do lote
+ * - Falhas do sink recuam exponencialmente até maxBackoff
+ */
+public class EventOutboxRelay implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventOutboxRelay.class);
+    private static final String METRIC_PREFIX = "events.outbox";
+
+    private final EventOutboxJpaRepository outboxRepository;
+    private final EventOutboxLeaderLease leader;
+    private final EventChangeSink sink;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration maxBackoff;
+    private final Duration standbyInterval;
+
+    private final Counter published;
+    private final Counter failures;
+    private final Timer batchTimer;
+    private final Timer deliveryLag;
+
+    private ScheduledExecutorService scheduler;
+    private int consecutiveFailures;
+
+    public EventOutboxRelay(EventOutboxJpaRepository outboxRepository, EventOutboxLeaderLease leader, EventChangeSink sink,
+                            TransactionOperations transactionOperations, int batchSize, Duration pollInterval,
+                            Duration maxBackoff, Duration leaderTtl, MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.leader = leader;
+        this.sink = sink;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxBackoff = maxBackoff;
+        this.standbyInterval = Duration.ofMillis(Math.max(pollInterval.toMillis(), leaderTtl.toMillis() / 3));
+        this.published = Counter.builder(METRIC_PREFIX + ".published")
+                .description("Alterações publicadas no sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder(METRIC_PREFIX + ".failures")
+                .description("Lotes que falharam e ficaram na outbox para nova tentativa")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder(METRIC_PREFIX + ".batch")
+                .description("Tempo para ler, publicar e remover um lote")
+                .register(meterRegistry);
+        this.deliveryLag = Timer.builder(METRIC_PREFIX + ".delivery.lag")
+                .description("Tempo entre a alteração e a publicação no sink")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".oldest.age", this, EventOutboxRelay::oldestPendingAgeMillis)
+                .description("Idade da alteração pendente mais antiga")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Publica um lote; devolve quantas alterações foram publicadas (zero quando outra instância é a líder)
+     */
+    public int publishNextBatch() {
+        if (!leader.acquire()) {
+            return 0;
+        }
+        Integer count = batchTimer.record(() -> {
+            List<EventOutboxEntity> batch = outboxRepository.findNextBatch(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+
+            sink.publish(batch.stream().map(EventChangeMessage::of).toList());
+            List<Long> ids = batch.stream().map(EventOutboxEntity::getId).toList();
+            transactionOperations.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(ids));
+
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(entry -> deliveryLag.record(Duration.between(entry.getOccurredAt(), now)));
+            return batch.size();
+        });
+        int publishedCount = count == null ? 0 : count;
+        published.increment(publishedCount);
+        return publishedCount;
+    }
+
+    /**
+     * Drena enquanto houver lotes cheios; devolve o total publicado
+     */
+    public long drain() {
+        long total = 0;
+        int count;
+        do {
+            count = publishNextBatch();
+            total += count;
+        } while (count == batchSize);
+        return total;
+    }
+
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.schedule(this::tick, 0, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            try {
+                leader.release();
+            } catch (RuntimeException e) {
+                // Sem a liberação outra instância assume quando o prazo vencer
+                logger.warn("Erro ao liberar a liderança da outbox: error={}", e.getMessage());
+            }
+        }
+    }
+
+    private void tick() {
+        Duration delay = pollInterval;
+        try {
+            drain();
+            consecutiveFailures = 0;
+            if (!leader.held()) {
+                // Outra instância é a líder: esta só confere de novo perto de o prazo dela poder vencer
+                delay = standbyInterval;
+            }
+        } catch (RuntimeException e) {
+            // Uma exceção aqui encerraria o agendamento; a outbox continua com as linhas para a próxima tentativa
+            failures.increment();
+            delay = backoff(++consecutiveFailures);
+            logger.error("Erro ao publicar a outbox de eventos: failures={}, retryIn={}, error={}",
+                    consecutiveFailures, delay, e.getMessage(), e);
+        }
+        reschedule(delay);
+    }
+
+    private synchronized void reschedule(Duration delay) {
+        if (scheduler != null) {
+            scheduler.schedule(this::tick, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        long millis = pollInterval.toMillis() << Math.min(attempt, 20);
+        return Duration.ofMillis(Math.min(millis, maxBackoff.toMillis()));
+    }
+
+    private double oldestPendingAgeMillis() {
+        List<LocalDateTime> oldest = outboxRepository.findOccurredAtInOrder(Limit.of(1));
+        return oldest.isEmpty() ? 0 : Duration.between(oldest.getFirst(), LocalDateTime.now()).toMillis();
+    }
+}
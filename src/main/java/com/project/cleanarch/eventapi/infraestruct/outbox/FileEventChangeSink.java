@@ -0,0 +1,60 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Sink que acrescenta cada alteração como uma linha JSON (NDJSON) em um arquivo local
+ * Cada lote é gravado de uma vez e sincronizado em disco (force) antes de confirmar a outbox
+ */
+public class FileEventChangeSink implements EventChangeSink, AutoCloseable {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final FileChannel channel;
+    private final ObjectWriter writer;
+
+    public FileEventChangeSink(Path file, ObjectMapper objectMapper) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public synchronized void publish(List<EventChangeMessage> messages) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(messages.size() * 512);
+            for (EventChangeMessage message : messages) {
+                writer.writeValue(buffer, message);
+                buffer.write(NEW_LINE);
+            }
+
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,41 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Sink em processo para desenvolvimento e testes
+ * Mantém as últimas {@code capacity} alterações e repassa cada uma aos assinantes, na ordem de publicação
+ */
+public class InMemoryEventChangeSink implements EventChangeSink {
+
+    private final int capacity;
+    private final Deque<EventChangeMessage> messages = new ArrayDeque<>();
+    private final List<Consumer<EventChangeMessage>> subscribers = new CopyOnWriteArrayList<>();
+
+    public InMemoryEventChangeSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<EventChangeMessage> batch) {
+        for (EventChangeMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+            subscribers.forEach(subscriber -> subscriber.accept(message));
+        }
+    }
+
+    public void subscribe(Consumer<EventChangeMessage> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public synchronized List<EventChangeMessage> messages() {
+        return List.copyOf(messages);
+    }
+}
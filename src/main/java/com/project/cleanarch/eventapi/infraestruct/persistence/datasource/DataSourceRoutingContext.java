@@ -0,0 +1,35 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+/**
+ * Indica, por thread, se as conexões abertas a partir de agora podem ir para uma réplica
+ * Marcado pelo {@link ReadReplicaRoutingAspect} em volta dos use cases de leitura e lido pelo
+ * {@link ReadWriteRoutingDataSource} no momento em que a conexão é de fato aberta
+ */
+public final class DataSourceRoutingContext {
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(READ_ONLY.get());
+    }
+
+    /**
+     * @return o valor anterior, para ser devolvido em {@link #restore(boolean)} ao final do bloco
+     */
+    public static boolean enterReadOnly() {
+        boolean previous = isReadOnly();
+        READ_ONLY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            READ_ONLY.set(Boolean.TRUE);
+        } else {
+            READ_ONLY.remove();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+/**
+ * Liga o roteamento para réplicas em volta dos use cases somente leitura (Retriever* e Exporter*)
+ * Após uma escrita bem-sucedida (Creator*, Update*, Canceller*) o cliente, identificado pelo header
+ * x-app-origin, fica preso ao primário durante a janela do {@link ReadYourWritesTracker}
+ * Requisições sem o header não têm stickiness
+ */
+@Aspect
+public class ReadReplicaRoutingAspect {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadReplicaRoutingAspect(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Around("execution(* com.project.cleanarch.eventapi.core.usecases.Retriever*UseCase+.execute(..))"
+            + " || execution(* com.project.cleanarch.eventapi.core.usecases.Exporter*UseCase+.execute(..))")
+    public Object routeReads(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (readYourWritesTracker.isSticky(currentClient())) {
+            return joinPoint.proceed();
+        }
+
+        boolean previous = DataSourceRoutingContext.enterReadOnly();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+        }
+    }
+
+    @AfterReturning("execution(* com.project.cleanarch.eventapi.core.usecases.Creator*UseCase+.execute(..))"
+            + " || execution(* com.project.cleanarch.eventapi.core.usecases.Update*UseCase+.execute(..))"
+            + " || execution(* com.project.cleanarch.eventapi.core.usecases.Canceller*UseCase+.execute(..))")
+    public void recordWrite() {
+        readYourWritesTracker.recordWrite(currentClient());
+    }
+
+    private String currentClient() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getHeader(ApiConstants.Headers.X_APP_ORIGIN);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Abre a conexão no primário ou em uma réplica conforme o {@link DataSourceRoutingContext} da thread
+ * - Fora de um bloco read-only tudo vai para o primário (escritas, Flyway, validação do Hibernate)
+ * - Sem réplica saudável, ou se a escolhida falhar ao abrir a conexão, a leitura cai no primário
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy, para que a decisão aconteça no primeiro comando SQL
+ * O alvo delegado é o primário: unwrap e métricas do pool continuam enxergando o Hikari principal
+ */
+public class ReadWriteRoutingDataSource extends DelegatingDataSource {
+
+    private final ReplicaPool replicaPool;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicaPool) {
+        super(primary);
+        this.replicaPool = replicaPool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!DataSourceRoutingContext.isReadOnly()) {
+            return super.getConnection();
+        }
+
+        ReplicaNode replica = replicaPool.select();
+        if (replica == null) {
+            return super.getConnection();
+        }
+
+        try {
+            return replicaPool.open(replica);
+        } catch (SQLException e) {
+            replicaPool.eject(replica, e);
+            return super.getConnection();
+        }
+    }
+}
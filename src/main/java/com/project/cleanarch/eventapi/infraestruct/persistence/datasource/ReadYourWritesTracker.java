@@ -0,0 +1,32 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.time.Duration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Lembra quais clientes escreveram há pouco, para que suas leituras fiquem no primário enquanto a réplica alcança
+ * A janela deve cobrir o atraso de replicação usual; com janela zero nada é registrado
+ */
+public class ReadYourWritesTracker {
+
+    private static final int MAX_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.recentWriters = window.isZero() || window.isNegative() ? null
+                : Caffeine.newBuilder().maximumSize(MAX_CLIENTS).expireAfterWrite(window).build();
+    }
+
+    public void recordWrite(String client) {
+        if (recentWriters != null && client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(String client) {
+        return recentWriters != null && client != null && recentWriters.getIfPresent(client) != null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+/**
+ * Uma réplica de leitura com o estado usado na seleção: saudável ou ejetada e a latência média recente
+ */
+public class ReplicaNode {
+
+    // Peso da amostra nova na média móvel exponencial da latência
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private volatile double latencyNanos;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public double latencyMillis() {
+        return latencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    double latencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * @return true se o estado mudou
+     */
+    boolean markHealthy(boolean healthy) {
+        boolean changed = this.healthy != healthy;
+        this.healthy = healthy;
+        return changed;
+    }
+
+    void recordLatency(long nanos) {
+        // Corridas entre threads só perdem uma amostra; a média continua representativa
+        double current = latencyNanos;
+        latencyNanos = current == 0 ? nanos : current + LATENCY_SMOOTHING * (nanos - current);
+    }
+}
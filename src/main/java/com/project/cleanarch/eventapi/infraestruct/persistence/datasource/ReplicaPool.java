@@ -0,0 +1,149 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Conjunto de réplicas de leitura com seleção e ejeção por saúde
+ * - {@link #select()} devolve uma réplica saudável conforme a {@link ReplicaSelection}, ou null se todas estão fora
+ * - Falha ao abrir conexão ejeta a réplica na hora; o health check periódico ejeta e readmite
+ */
+public class ReplicaPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaPool.class);
+
+    private final List<ReplicaNode> nodes;
+    private final ReplicaSelection selection;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(List<ReplicaNode> nodes, ReplicaSelection selection, Duration healthCheckTimeout) {
+        this.nodes = List.copyOf(nodes);
+        this.selection = selection;
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+    }
+
+    public List<ReplicaNode> nodes() {
+        return nodes;
+    }
+
+    public ReplicaNode select() {
+        return switch (selection) {
+            case ROUND_ROBIN -> nextHealthy();
+            case LEAST_LATENCY -> fastestHealthy();
+        };
+    }
+
+    public Connection open(ReplicaNode node) throws SQLException {
+        long start = System.nanoTime();
+        Connection connection = node.dataSource().getConnection();
+        node.recordLatency(System.nanoTime() - start);
+        return connection;
+    }
+
+    public void eject(ReplicaNode node, Exception cause) {
+        if (node.markHealthy(false)) {
+            logger.warn("Réplica ejetada: replica={}, error={}", node.name(), cause.getMessage());
+        }
+    }
+
+    public void checkHealth() {
+        for (ReplicaNode node : nodes) {
+            long start = System.nanoTime();
+            boolean valid;
+            try (Connection connection = node.dataSource().getConnection()) {
+                valid = connection.isValid(healthCheckTimeoutSeconds);
+            } catch (SQLException | RuntimeException e) {
+                valid = false;
+            }
+
+            if (valid) {
+                node.recordLatency(System.nanoTime() - start);
+            }
+            if (node.markHealthy(valid)) {
+                logger.warn("Réplica {}: replica={}", valid ? "readmitida" : "ejetada pelo health check", node.name());
+            }
+        }
+    }
+
+    public synchronized void start(Duration interval) {
+        if (healthChecker != null) {
+            return;
+        }
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealthSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+            healthChecker = null;
+        }
+        for (ReplicaNode node : nodes) {
+            if (node.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Erro ao fechar a réplica: replica={}, error={}", node.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private ReplicaNode nextHealthy() {
+        // Gira apenas entre as saudáveis: pular a ejetada dobraria a carga da vizinha
+        int healthy = 0;
+        for (ReplicaNode node : nodes) {
+            if (node.isHealthy()) {
+                healthy++;
+            }
+        }
+        if (healthy == 0) {
+            return null;
+        }
+
+        int target = Math.floorMod(next.getAndIncrement(), healthy);
+        for (ReplicaNode node : nodes) {
+            if (node.isHealthy() && target-- == 0) {
+                return node;
+            }
+        }
+        // Uma réplica foi ejetada entre as duas passagens: fica com a primeira ainda saudável
+        return nodes.stream().filter(ReplicaNode::isHealthy).findFirst().orElse(null);
+    }
+
+    private ReplicaNode fastestHealthy() {
+        ReplicaNode fastest = null;
+        for (ReplicaNode node : nodes) {
+            if (node.isHealthy() && (fastest == null || node.latencyNanos() < fastest.latencyNanos())) {
+                fastest = node;
+            }
+        }
+        return fastest;
+    }
+
+    private void checkHealthSafely() {
+        try {
+            checkHealth();
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria as execuções seguintes do agendamento
+            logger.error("Erro no health check das réplicas: error={}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+/**
+ * Estratégia de escolha entre as réplicas saudáveis
+ */
+public enum ReplicaSelection {
+    /** Alterna entre as réplicas na ordem configurada */
+    ROUND_ROBIN,
+    /** Escolhe a réplica com menor latência média (health checks e aberturas de conexão) */
+    LEAST_LATENCY
+}
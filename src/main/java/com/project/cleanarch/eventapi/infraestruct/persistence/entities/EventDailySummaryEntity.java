@@ -0,0 +1,58 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.entities;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Linha do resumo diário; escrita só por SQL incremental (EventDailySummaries) e pelo rebuild
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "event_daily_summaries")
+public class EventDailySummaryEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long eventCount;
+
+    @Column(nullable = false)
+    private long totalCapacity;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(name = "summary_day", nullable = false)
+        private LocalDate day;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 50)
+        private EventType type;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 50)
+        private EventStatusEnum status;
+    }
+}
@@ -2,6 +2,10 @@ package com.project.cleanarch.eventapi.infraestruct.persistence.entities;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventDurationClass;
 import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
 import com.project.cleanarch.eventapi.core.domain.enums.EventType;
 
@@ -12,7 +16,11 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -25,11 +33,14 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
+@DynamicUpdate
 @Table(name = "events")
 public class EventEntity extends BaseEntity {
 
+    // IDs alocados em blocos (pooled-lo) para permitir batch de INSERTs no JDBC; IDENTITY desabilitaria o batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -63,4 +74,31 @@ public class EventEntity extends BaseEntity {
 
     @Column(name = "cancel_reason")
     private String cancelReason;
+
+    // Conferida e incrementada em todo UPDATE; com @DynamicUpdate o UPDATE leva só as colunas alteradas
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Derivada de startAt/endAt: recalculada nos setters (updates) e no persist (criação pelo builder)
+    @Enumerated(EnumType.ORDINAL)
+    @ColumnDefault("6")
+    @Column(nullable = false)
+    @Setter(AccessLevel.NONE)
+    private EventDurationClass durationClass;
+
+    public void setStartAt(LocalDateTime startAt) {
+        this.startAt = startAt;
+        refreshDurationClass();
+    }
+
+    public void setEndAt(LocalDateTime endAt) {
+        this.endAt = endAt;
+        refreshDurationClass();
+    }
+
+    @PrePersist
+    void refreshDurationClass() {
+        this.durationClass = EventDurationClass.of(startAt, endAt);
+    }
 }
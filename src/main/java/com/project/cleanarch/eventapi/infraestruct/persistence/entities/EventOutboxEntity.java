@@ -0,0 +1,51 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.entities;
+
+import java.time.LocalDateTime;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventChangeType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Alteração de evento pendente de publicação
+ * O id crescente define a ordem de publicação; a linha é removida quando o sink confirma o recebimento
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "event_outbox")
+public class EventOutboxEntity {
+
+    // IDENTITY de propósito: ids em blocos por instância quebrariam a ordem entre alterações do mesmo evento
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EventChangeType changeType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,32 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Líder do relay da outbox; escrita só por SQL (EventOutboxLeaderLease)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "event_outbox_leader")
+public class EventOutboxLeaderEntity {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,48 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.entities;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Assentos de um evento concedidos a uma instância; escrita só por SQL (SeatReservationStore)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "event_seat_leases")
+public class EventSeatLeaseEntity {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private int leasedSeats;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        @Column(nullable = false)
+        private Long eventId;
+
+        @Column(nullable = false, length = 64)
+        private String nodeId;
+    }
+}
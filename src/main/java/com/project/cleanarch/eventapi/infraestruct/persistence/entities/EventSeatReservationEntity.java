@@ -0,0 +1,38 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reserva de assentos já gravada pelo write-behind; escrita só por SQL (SeatReservationStore)
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "event_seat_reservations")
+public class EventSeatReservationEntity {
+
+    @Id
+    @Column(length = 36, columnDefinition = "CHAR(36)")
+    private String id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private int seats;
+
+    @Column(nullable = false)
+    private LocalDateTime reservedAt;
+}
@@ -0,0 +1,23 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.functions;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registra a função {@code match_against(coluna, termo)} no Hibernate
+ * Renderizada como {@code MATCH(coluna) AGAINST(termo IN BOOLEAN MODE)}, devolvendo a relevância
+ * Registrada via META-INF/services para ficar disponível na Criteria API
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_AGAINST,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE));
+    }
+}
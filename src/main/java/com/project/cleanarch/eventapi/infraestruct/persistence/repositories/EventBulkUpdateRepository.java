@@ -0,0 +1,22 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+/**
+ * Fragmento de escrita em conjunto do EventJpaRepository
+ * Cada chamada é uma transação curta sobre um bloco de linhas, para não segurar locks durante toda a operação
+ */
+public interface EventBulkUpdateRepository {
+
+    /**
+     * Cancela o próximo bloco de até {@code limit} eventos da specification ainda não cancelados, com id maior que {@code afterId}
+     * Os ids do bloco são lidos sem lock; só essas linhas são travadas, pela chave primária, revalidadas contra
+     * a specification e canceladas em um único UPDATE. O resultado traz o estado de cada uma antes do cancelamento
+     * (o resumo diário precisa do status anterior)
+     */
+    EventCancelChunk cancelNextChunk(Specification<EventEntity> specification, Long afterId, int limit,
+                               String reason, LocalDateTime updatedAt);
+}
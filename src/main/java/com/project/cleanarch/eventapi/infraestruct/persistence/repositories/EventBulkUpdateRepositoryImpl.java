@@ -0,0 +1,98 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class EventBulkUpdateRepositoryImpl implements EventBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public EventCancelChunk cancelNextChunk(Specification<EventEntity> specification, Long afterId, int limit,
+                                            String reason, LocalDateTime updatedAt) {
+        // Leitura sem lock: com FOR UPDATE, o MySQL travaria toda linha examinada pela varredura em ordem de id,
+        // inclusive as que os predicados sem índice descartam
+        List<Long> ids = entityManager.createQuery(nextChunkQuery(specification, afterId))
+                .setMaxResults(limit)
+                .getResultList();
+        if (ids.isEmpty()) {
+            return new EventCancelChunk(List.of(), 0, afterId);
+        }
+
+        // Só as linhas do bloco são travadas, pela chave primária; os predicados são reavaliados com a linha já travada,
+        // e o UPDATE altera exatamente as linhas lidas, então o estado retornado é o de antes do cancelamento
+        List<EventSummaryState> states = entityManager.createQuery(lockedChunkQuery(specification, ids))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (!states.isEmpty()) {
+            entityManager.createQuery("""
+                            update EventEntity e
+                               set e.status = :cancelled, e.cancelReason = :reason, e.updatedAt = :updatedAt, e.version = e.version + 1
+                             where e.id in :ids
+                            """)
+                    .setParameter("cancelled", EventStatusEnum.CANCELLED)
+                    .setParameter("reason", reason)
+                    .setParameter("updatedAt", updatedAt)
+                    .setParameter("ids", states.stream().map(EventSummaryState::id).toList())
+                    .executeUpdate();
+        }
+        return new EventCancelChunk(states, ids.size(), ids.getLast());
+    }
+
+    private CriteriaQuery<Long> nextChunkQuery(Specification<EventEntity> specification, Long afterId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+
+        List<Predicate> predicates = pendingPredicates(specification, root, query, cb);
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(root.get("id"), afterId));
+        }
+
+        // Keyset pela chave primária: cada bloco continua de onde o anterior parou, sem OFFSET
+        return query.select(root.get("id"))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+    }
+
+    private CriteriaQuery<EventSummaryState> lockedChunkQuery(Specification<EventEntity> specification, List<Long> ids) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventSummaryState> query = cb.createQuery(EventSummaryState.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+
+        List<Predicate> predicates = pendingPredicates(specification, root, query, cb);
+        predicates.add(root.get("id").in(ids));
+
+        return query.select(cb.construct(EventSummaryState.class,
+                        root.get("id"), root.get("startAt"), root.get("type"), root.get("status"), root.get("capacity")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(root.get("id")));
+    }
+
+    private static List<Predicate> pendingPredicates(Specification<EventEntity> specification, Root<EventEntity> root,
+                                                     CriteriaQuery<?> query, CriteriaBuilder cb) {
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filters = specification.toPredicate(root, query, cb);
+        if (filters != null) {
+            predicates.add(filters);
+        }
+        predicates.add(cb.notEqual(root.get("status"), EventStatusEnum.CANCELLED));
+        return predicates;
+    }
+}
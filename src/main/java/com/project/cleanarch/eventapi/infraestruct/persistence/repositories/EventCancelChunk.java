@@ -0,0 +1,16 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.List;
+
+/**
+ * Resultado de {@link EventBulkUpdateRepository#cancelNextChunk}
+ * - cancelled: estado de antes do cancelamento das linhas efetivamente canceladas
+ * - scanned / lastScannedId: quantas linhas a leitura do bloco encontrou e a última delas, de onde o próximo bloco continua;
+ *   pode haver menos canceladas que lidas quando outra transação cancelou ou alterou a linha entre a leitura e o lock
+ */
+public record EventCancelChunk(
+        List<EventSummaryState> cancelled,
+        int scanned,
+        Long lastScannedId
+) {
+}
@@ -0,0 +1,31 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.EventDailySummary;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventDailySummaryEntity;
+
+@Repository
+public interface EventDailySummaryJpaRepository extends JpaRepository<EventDailySummaryEntity, EventDailySummaryEntity.Key> {
+
+    /**
+     * Range da chave primária por dia; tipo e status opcionais são conferidos nas linhas do range
+     */
+    @Query("""
+            select new com.project.cleanarch.eventapi.core.domain.model.EventDailySummary(
+                       s.id.day, s.id.type, s.id.status, s.eventCount, s.totalCapacity)
+              from EventDailySummaryEntity s
+             where s.id.day between :from and :to
+               and (:type is null or s.id.type = :type)
+               and (:status is null or s.id.status = :status)
+               and s.eventCount > 0
+             order by s.id.day, s.id.type, s.id.status
+            """)
+    List<EventDailySummary> findSummaries(LocalDate from, LocalDate to, EventType type, EventStatusEnum status);
+}
@@ -0,0 +1,53 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+/**
+ * Campos filtráveis do {@link EventFilterDTO}, na ordem de custo usada para predicados residuais:
+ * igualdades primeiro, depois ranges e por fim a busca textual
+ */
+public enum EventFilterField {
+
+    IDENTIFIER(filter -> isSet(filter.getIdentifier()), (filter, mode) -> EventSpecifications.hasIdentifier(filter.getIdentifier())),
+    TYPE(filter -> filter.getType() != null, (filter, mode) -> EventSpecifications.hasType(filter.getType())),
+    STATUS(filter -> filter.getStatus() != null, (filter, mode) -> EventSpecifications.hasStatus(filter.getStatus())),
+    START_AT_FROM(filter -> filter.getStartAtFrom() != null, (filter, mode) -> EventSpecifications.hasStartDateFrom(filter.getStartAtFrom())),
+    START_AT_TO(filter -> filter.getStartAtTo() != null, (filter, mode) -> EventSpecifications.hasStartDateTo(filter.getStartAtTo())),
+    END_AT_FROM(filter -> filter.getEndAtFrom() != null, (filter, mode) -> EventSpecifications.hasEndDateFrom(filter.getEndAtFrom())),
+    END_AT_TO(filter -> filter.getEndAtTo() != null, (filter, mode) -> EventSpecifications.hasEndDateTo(filter.getEndAtTo())),
+    CAPACITY_MIN(filter -> filter.getCapacityMin() != null, (filter, mode) -> EventSpecifications.hasCapacityMin(filter.getCapacityMin())),
+    CAPACITY_MAX(filter -> filter.getCapacityMax() != null, (filter, mode) -> EventSpecifications.hasCapacityMax(filter.getCapacityMax())),
+    NAME(filter -> isSet(filter.getName()), (filter, mode) -> mode == TextSearchMode.FULL_TEXT
+            ? EventSpecifications.matchesName(filter.getName())
+            : EventSpecifications.hasName(filter.getName())),
+    LOCATION(filter -> isSet(filter.getLocation()), (filter, mode) -> mode == TextSearchMode.FULL_TEXT
+            ? EventSpecifications.matchesLocation(filter.getLocation())
+            : EventSpecifications.hasLocation(filter.getLocation()));
+
+    private final Predicate<EventFilterDTO> presence;
+    private final BiFunction<EventFilterDTO, TextSearchMode, Specification<EventEntity>> specification;
+
+    EventFilterField(Predicate<EventFilterDTO> presence,
+                     BiFunction<EventFilterDTO, TextSearchMode, Specification<EventEntity>> specification) {
+        this.presence = presence;
+        this.specification = specification;
+    }
+
+    public boolean isSet(EventFilterDTO filter) {
+        return presence.test(filter);
+    }
+
+    public Specification<EventEntity> toSpecification(EventFilterDTO filter, TextSearchMode mode) {
+        return specification.apply(filter, mode);
+    }
+
+    private static boolean isSet(String value) {
+        return value != null && !value.isBlank();
+    }
+}
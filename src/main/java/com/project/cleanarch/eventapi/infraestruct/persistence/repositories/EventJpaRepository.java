@@ -1,19 +1,70 @@
 package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repositório JPA para EventEntity - Camada de Infraestrutura
  * Interface do Spring Data JPA para operações de banco de dados
  */
 @Repository
 public interface EventJpaRepository extends JpaRepository<EventEntity, Long>, PagingAndSortingRepository<EventEntity, Long>,
-        JpaSpecificationExecutor<EventEntity> {
+        JpaSpecificationExecutor<EventEntity>, EventProjectionRepository, EventBulkUpdateRepository {
 
     boolean existsByIdentifier(String identifier);
 
+    @Query("select e.identifier from EventEntity e where e.identifier in :identifiers")
+    Set<String> findExistingIdentifiers(Collection<String> identifiers);
+
+    /**
+     * Lê só as colunas da revisão pela chave primária, sem hidratar a entidade
+     */
+    @Query("""
+            select new com.project.cleanarch.eventapi.core.domain.model.EventRevision(e.id, e.version, e.updatedAt)
+              from EventEntity e
+             where e.id = :id
+            """)
+    Optional<EventRevision> findRevisionById(Long id);
+
+    /**
+     * Estado atual de um evento ainda não cancelado, com lock de escrita até o fim da transação
+     * Lido antes do cancelamento para descontar o evento da linha do resumo diário em que estava
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select new com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSummaryState(
+                       e.id, e.startAt, e.type, e.status, e.capacity)
+              from EventEntity e
+             where e.id = :id and e.status <> :cancelled
+            """)
+    Optional<EventSummaryState> findSummaryStateForUpdate(Long id, EventStatusEnum cancelled);
+
+    /**
+     * Cancela em um único UPDATE condicional; retorna 0 se o evento não existe ou já estava cancelado
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update EventEntity e
+               set e.status = :cancelled, e.cancelReason = :reason, e.updatedAt = :updatedAt, e.version = e.version + 1
+             where e.id = :id and e.status <> :cancelled
+            """)
+    int cancel(Long id, String reason, EventStatusEnum cancelled, LocalDateTime updatedAt);
+
 }
\ No newline at end of file
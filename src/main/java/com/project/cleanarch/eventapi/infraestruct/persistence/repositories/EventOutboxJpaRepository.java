@@ -0,0 +1,27 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventOutboxEntity;
+
+@Repository
+public interface EventOutboxJpaRepository extends JpaRepository<EventOutboxEntity, Long> {
+
+    /**
+     * Próximas alterações pendentes em ordem de id, lidas sem lock: só aparecem linhas já confirmadas
+     * Um lock aqui travaria o fim do índice e bloquearia os INSERTs das escritas enquanto o sink publica
+     */
+    @Query("select o from EventOutboxEntity o order by o.id")
+    List<EventOutboxEntity> findNextBatch(Limit limit);
+
+    /**
+     * Instante da alteração pendente mais antiga, lida pela chave primária
+     */
+    @Query("select o.occurredAt from EventOutboxEntity o order by o.id")
+    List<LocalDateTime> findOccurredAtInOrder(Limit limit);
+}
@@ -0,0 +1,34 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+/**
+ * Fragmento de leitura do EventJpaRepository
+ * Seleciona as colunas direto no record {@link Event}: nenhuma entidade é hidratada nem entra no contexto de persistência
+ */
+public interface EventProjectionRepository {
+
+    /**
+     * Busca até {@code limit} eventos a partir do offset do pageable, respeitando a ordenação informada
+     */
+    List<EventDTO> findEvents(Specification<EventEntity> specification, Pageable pageable, int limit);
+
+    /**
+     * Percorre todos os eventos com um cursor forward-only, entregando-os em blocos de até {@code chunkSize}
+     * Apenas um bloco fica em memória por vez; retorna o total de eventos entregues
+     */
+    long scrollEvents(Specification<EventEntity> specification, Sort sort, int chunkSize, Consumer<List<EventDTO>> chunkConsumer);
+
+    /**
+     * Conta os eventos da specification com a mesma dica de índice usada na busca
+     */
+    long countEvents(Specification<EventEntity> specification);
+}
@@ -0,0 +1,131 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.Query;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+@Transactional(readOnly = true)
+public class EventProjectionRepositoryImpl implements EventProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EventDTO> findEvents(Specification<EventEntity> specification, Pageable pageable, int limit) {
+        TypedQuery<EventDTO> typedQuery = withIndexHint(entityManager.createQuery(projectionQuery(specification, pageable.getSort())), specification);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long scrollEvents(Specification<EventEntity> specification, Sort sort, int chunkSize, Consumer<List<EventDTO>> chunkConsumer) {
+        Query<EventDTO> query = withIndexHint(entityManager.createQuery(projectionQuery(specification, sort)), specification)
+                .unwrap(Query.class)
+                .setFetchSize(StreamingFetchSize.of(entityManager, chunkSize))
+                .setReadOnly(true);
+
+        long total = 0;
+        List<EventDTO> chunk = new ArrayList<>(chunkSize);
+        try (ScrollableResults<EventDTO> results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                chunk.add(results.get());
+                if (chunk.size() == chunkSize) {
+                    total += deliver(chunk, chunkConsumer);
+                }
+            }
+        }
+        return chunk.isEmpty() ? total : total + deliver(chunk, chunkConsumer);
+    }
+
+    @Override
+    public long countEvents(Specification<EventEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        // A ordenação por relevância do FULL_TEXT não faz sentido no COUNT
+        query.orderBy(List.of());
+        return withIndexHint(entityManager.createQuery(query), specification).getSingleResult();
+    }
+
+    /**
+     * Aplica a dica USE INDEX do plano (o dialeto a insere após a tabela)
+     * Só no MySQL: os índices vêm das migrations do Flyway, e o H2 dos testes recusa a dica para um índice inexistente
+     */
+    private <T> TypedQuery<T> withIndexHint(TypedQuery<T> query, Specification<EventEntity> specification) {
+        String indexHint = PlannedEventSpecification.indexHintOf(specification);
+        if (indexHint != null && isMySql()) {
+            query.unwrap(Query.class).addQueryHint(indexHint);
+        }
+        return query;
+    }
+
+    private boolean isMySql() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
+
+    private int deliver(List<EventDTO> chunk, Consumer<List<EventDTO>> chunkConsumer) {
+        chunkConsumer.accept(List.copyOf(chunk));
+        int delivered = chunk.size();
+        chunk.clear();
+        // Projeções não são gerenciadas, mas garante que nada acumule no contexto ao longo de um export longo
+        entityManager.clear();
+        return delivered;
+    }
+
+    private CriteriaQuery<EventDTO> projectionQuery(Specification<EventEntity> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EventDTO> query = cb.createQuery(EventDTO.class);
+        Root<EventEntity> root = query.from(EventEntity.class);
+
+        // Projeta direto no tipo da resposta, sem passar pelo modelo de domínio: a linha vira o DTO serializado como está
+        // A ordem dos argumentos segue o construtor completo do EventDTO (ordem de declaração dos campos)
+        query.select(cb.construct(EventDTO.class,
+                root.get("id"), root.get("name"), root.get("description"), root.get("identifier"),
+                root.get("startAt"), root.get("endAt"), root.get("location"),
+                root.get("capacity"), root.get("type"), root.get("status"), root.get("cancelReason"),
+                root.get("createdAt"), root.get("updatedAt")));
+
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // Mesma precedência do SimpleJpaRepository: a ordenação explícita substitui a definida pela specification
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+}
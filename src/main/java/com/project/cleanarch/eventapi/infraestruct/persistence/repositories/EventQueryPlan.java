@@ -0,0 +1,21 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.List;
+
+/**
+ * Resultado do {@link EventQueryPlanner}: o formato escolhido e a ordem em que os predicados são combinados
+ * O que muda a execução é {@link #indexHint()}; a ordem dos predicados só deixa o SQL gerado determinístico
+ */
+public record EventQueryPlan(
+        EventQueryShape shape,
+        List<EventFilterField> orderedFields
+) {
+
+    public String indexName() {
+        return shape.indexName();
+    }
+
+    public String indexHint() {
+        return shape.indexHint();
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Planejador de consultas por filtro
+ * Escolhe o formato de consulta com base nos campos preenchidos; o índice do formato é aplicado como dica
+ * {@code USE INDEX} nas consultas do {@link EventProjectionRepository}
+ * Os predicados seguem a ordem do índice e depois os residuais, apenas para o SQL sair sempre igual:
+ * o otimizador do MySQL não usa a ordem dos ANDs
+ */
+@UtilityClass
+public final class EventQueryPlanner {
+
+    public static EventQueryPlan plan(EventFilterDTO filter, TextSearchMode textSearchMode) {
+        EventQueryShape shape = chooseShape(filter, textSearchMode);
+
+        Set<EventFilterField> ordered = new LinkedHashSet<>();
+        shape.drivingFields().stream().filter(field -> field.isSet(filter)).forEach(ordered::add);
+        for (EventFilterField field : EventFilterField.values()) {
+            if (field.isSet(filter)) {
+                ordered.add(field);
+            }
+        }
+
+        return new EventQueryPlan(shape, List.copyOf(ordered));
+    }
+
+    private static EventQueryShape chooseShape(EventFilterDTO filter, TextSearchMode textSearchMode) {
+        boolean hasType = EventFilterField.TYPE.isSet(filter);
+        boolean hasStatus = EventFilterField.STATUS.isSet(filter);
+        boolean hasStartRange = EventFilterField.START_AT_FROM.isSet(filter) || EventFilterField.START_AT_TO.isSet(filter);
+        boolean hasEndRange = EventFilterField.END_AT_FROM.isSet(filter) || EventFilterField.END_AT_TO.isSet(filter);
+        boolean fullText = textSearchMode == TextSearchMode.FULL_TEXT;
+
+        if (EventFilterField.IDENTIFIER.isSet(filter)) {
+            return EventQueryShape.IDENTIFIER_LOOKUP;
+        }
+        if (hasType && hasStatus) {
+            return EventQueryShape.TYPE_STATUS_START_AT;
+        }
+        if (hasStatus && hasStartRange) {
+            return EventQueryShape.STATUS_START_AT;
+        }
+        if (hasType && hasStartRange) {
+            return EventQueryShape.TYPE_START_AT;
+        }
+        if (fullText && EventSpecifications.toBooleanModeQuery(filter.getName()) != null) {
+            return EventQueryShape.NAME_FULL_TEXT;
+        }
+        if (fullText && EventSpecifications.toBooleanModeQuery(filter.getLocation()) != null) {
+            return EventQueryShape.LOCATION_FULL_TEXT;
+        }
+        if (hasStartRange) {
+            return EventQueryShape.START_AT_RANGE;
+        }
+        if (hasStatus) {
+            return EventQueryShape.STATUS_START_AT;
+        }
+        if (hasType) {
+            return EventQueryShape.TYPE_START_AT;
+        }
+        if (hasEndRange) {
+            return EventQueryShape.END_AT_RANGE;
+        }
+        return EventQueryShape.FULL_SCAN;
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.util.List;
+
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.END_AT_FROM;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.END_AT_TO;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.IDENTIFIER;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.LOCATION;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.NAME;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.START_AT_FROM;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.START_AT_TO;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.STATUS;
+import static com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventFilterField.TYPE;
+
+/**
+ * Formatos de consulta suportados pelos índices da tabela events (migrations V1, V3 e V4)
+ * Cada formato conhece o índice que o sustenta e os campos que o conduzem, na ordem das colunas
+ * Os formatos sobre índices B-tree viram dica {@code USE INDEX}; a busca FULLTEXT e a chave única já são
+ * escolhidas pelo MySQL sem dica
+ */
+public enum EventQueryShape {
+
+    IDENTIFIER_LOOKUP("identifier", false, List.of(IDENTIFIER)),
+    TYPE_STATUS_START_AT("idx_events_type_status_start_at", true, List.of(TYPE, STATUS, START_AT_FROM, START_AT_TO)),
+    STATUS_START_AT("idx_events_status_start_at", true, List.of(STATUS, START_AT_FROM, START_AT_TO)),
+    TYPE_START_AT("idx_events_type_start_at", true, List.of(TYPE, START_AT_FROM, START_AT_TO)),
+    NAME_FULL_TEXT("ft_events_name", false, List.of(NAME)),
+    LOCATION_FULL_TEXT("ft_events_location", false, List.of(LOCATION)),
+    START_AT_RANGE("idx_events_start_at", true, List.of(START_AT_FROM, START_AT_TO)),
+    END_AT_RANGE("idx_events_end_at", true, List.of(END_AT_FROM, END_AT_TO)),
+    FULL_SCAN(null, false, List.of());
+
+    private final String indexName;
+    private final boolean hinted;
+    private final List<EventFilterField> drivingFields;
+
+    EventQueryShape(String indexName, boolean hinted, List<EventFilterField> drivingFields) {
+        this.indexName = indexName;
+        this.hinted = hinted;
+        this.drivingFields = drivingFields;
+    }
+
+    public String indexName() {
+        return indexName;
+    }
+
+    /**
+     * Índice a ser passado como dica para a consulta, ou null quando o formato não precisa de dica
+     */
+    public String indexHint() {
+        return hinted ? indexName : null;
+    }
+
+    public List<EventFilterField> drivingFields() {
+        return drivingFields;
+    }
+}
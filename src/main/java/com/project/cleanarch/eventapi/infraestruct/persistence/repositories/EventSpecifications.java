@@ -1,11 +1,25 @@
 package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.core.domain.model.EventCursor;
+import com.project.cleanarch.eventapi.core.domain.enums.EventDurationClass;
 import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
 import com.project.cleanarch.eventapi.core.domain.enums.EventType;
 import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.persistence.functions.FullTextFunctionContributor;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
 import lombok.experimental.UtilityClass;
 
@@ -29,6 +43,12 @@ public final class EventSpecifications {
     private static final String END_AT_FIELD = "endAt";
     private static final String CAPACITY_FIELD = "capacity";
     private static final String IDENTIFIER_FIELD = "identifier";
+    private static final String ID_FIELD = "id";
+    private static final String DURATION_CLASS_FIELD = "durationClass";
+
+    // innodb_ft_min_token_size padrão: termos menores não são indexados
+    private static final int MIN_FULL_TEXT_TOKEN_SIZE = 3;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
 
     public static Specification<EventEntity> hasName(String name) {
         return createStringLikeSpecification(name, NAME_FIELD);
@@ -38,6 +58,51 @@ public final class EventSpecifications {
         return createStringLikeSpecification(location, LOCATION_FIELD);
     }
 
+    /**
+     * Busca por nome usando o índice FULLTEXT ({@code MATCH ... AGAINST} em modo booleano)
+     * Cada palavra vira um prefixo obrigatório; sem palavras indexáveis, recai no LIKE
+     */
+    public static Specification<EventEntity> matchesName(String name) {
+        return createFullTextSpecification(name, NAME_FIELD);
+    }
+
+    public static Specification<EventEntity> matchesLocation(String location) {
+        return createFullTextSpecification(location, LOCATION_FIELD);
+    }
+
+    /**
+     * Ordena por relevância da busca textual (maior primeiro) quando não há ordenação explícita
+     * Só é aplicada na consulta de conteúdo, nunca na de contagem
+     */
+    public static Specification<EventEntity> orderByRelevance(String name, String location) {
+        boolean hasFullTextTerms = toBooleanModeQuery(name) != null || toBooleanModeQuery(location) != null;
+
+        return (root, query, cb) -> {
+            if (!hasFullTextTerms || query == null || Long.class.equals(query.getResultType())) {
+                return null;
+            }
+
+            Expression<Double> relevance = cb.sum(relevance(root, cb, name, NAME_FIELD), relevance(root, cb, location, LOCATION_FIELD));
+            query.orderBy(cb.desc(relevance), cb.asc(root.get(ID_FIELD)));
+            return null;
+        };
+    }
+
+    /**
+     * Converte o texto livre em uma expressão booleana do MySQL: {@code "tech conf"} vira {@code "+tech* +conf*"}
+     */
+    public static String toBooleanModeQuery(String value) {
+        if (isNullOrBlank(value)) {
+            return null;
+        }
+
+        List<String> tokens = Arrays.stream(NON_WORD.split(value.toLowerCase(Locale.ROOT)))
+            .filter(token -> token.length() >= MIN_FULL_TEXT_TOKEN_SIZE)
+            .toList();
+
+        return tokens.isEmpty() ? null : tokens.stream().map(token -> "+" + token + "*").collect(Collectors.joining(" "));
+    }
+
     public static Specification<EventEntity> hasType(EventType type) {
         return createEnumSpecification(type, TYPE_FIELD);
     }
@@ -74,11 +139,63 @@ public final class EventSpecifications {
         return createExactStringSpecification(identifier);
     }
 
+    /**
+     * Predicado de seek para paginação por cursor: {@code (start_at, id) > (?, ?)}
+     * expandido em OR para que o otimizador use o índice em {@code start_at}
+     */
+    public static Specification<EventEntity> isAfter(EventCursor cursor) {
+        return (root, query, cb) -> cursor == null
+            ? null
+            : cb.or(
+                cb.greaterThan(root.get(START_AT_FIELD), cursor.startAt()),
+                cb.and(
+                    cb.equal(root.get(START_AT_FIELD), cursor.startAt()),
+                    cb.greaterThan(root.get(ID_FIELD), cursor.id())));
+    }
+
+    /**
+     * Eventos em andamento em algum instante da janela {@code [from, to)}: {@code start_at < to AND end_at > from}
+     * Para cada {@link EventDurationClass} o início fica limitado a {@code (from - duração máxima, to)}, o que
+     * vira um range scan por faixa em {@code idx_events_duration_class_start_at}; end_at é conferido só nas linhas do range
+     */
+    public static Specification<EventEntity> overlaps(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            List<Predicate> ranges = new ArrayList<>();
+            for (EventDurationClass durationClass : EventDurationClass.values()) {
+                Predicate sameClass = cb.equal(root.get(DURATION_CLASS_FIELD), durationClass);
+                Predicate startsBeforeEnd = cb.lessThan(root.get(START_AT_FIELD), to);
+                ranges.add(durationClass.maxDuration() == null
+                    ? cb.and(sameClass, startsBeforeEnd)
+                    : cb.and(sameClass, cb.greaterThan(root.get(START_AT_FIELD), from.minus(durationClass.maxDuration())), startsBeforeEnd));
+            }
+            return cb.and(cb.or(ranges.toArray(Predicate[]::new)), cb.greaterThan(root.get(END_AT_FIELD), from));
+        };
+    }
+
     // Métodos auxiliares para criar specifications
+    // Mesma normalização do EventFilterKey (trim + maiúsculas): filtros com a mesma chave trazem o mesmo resultado
     private static Specification<EventEntity> createStringLikeSpecification(String value, String fieldName) {
         return (root, query, cb) -> isNullOrBlank(value) 
             ? null 
-            : cb.like(cb.upper(root.get(fieldName)), "%" + value.toUpperCase() + "%");
+            : cb.like(cb.upper(root.get(fieldName)), "%" + value.trim().toUpperCase(Locale.ROOT) + "%");
+    }
+
+    private static Specification<EventEntity> createFullTextSpecification(String value, String fieldName) {
+        String booleanQuery = toBooleanModeQuery(value);
+        if (booleanQuery == null) {
+            return createStringLikeSpecification(value, fieldName);
+        }
+
+        return (root, query, cb) -> cb.greaterThan(matchAgainst(root, cb, fieldName, booleanQuery), 0.0);
+    }
+
+    private static Expression<Double> relevance(Root<EventEntity> root, CriteriaBuilder cb, String value, String fieldName) {
+        String booleanQuery = toBooleanModeQuery(value);
+        return booleanQuery == null ? cb.literal(0.0) : matchAgainst(root, cb, fieldName, booleanQuery);
+    }
+
+    private static Expression<Double> matchAgainst(Root<EventEntity> root, CriteriaBuilder cb, String fieldName, String booleanQuery) {
+        return cb.function(FullTextFunctionContributor.MATCH_AGAINST, Double.class, root.get(fieldName), cb.literal(booleanQuery));
     }
 
     private static Specification<EventEntity> createExactStringSpecification(String value) {
@@ -0,0 +1,32 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+/**
+ * Colunas de um evento que definem em qual linha do resumo diário ele é contado
+ */
+public record EventSummaryState(
+        Long id,
+        LocalDateTime startAt,
+        EventType type,
+        EventStatusEnum status,
+        int capacity
+) {
+
+    public static EventSummaryState of(EventEntity entity) {
+        return new EventSummaryState(entity.getId(), entity.getStartAt(), entity.getType(), entity.getStatus(), entity.getCapacity());
+    }
+
+    public LocalDate day() {
+        return startAt.toLocalDate();
+    }
+
+    public EventSummaryState withStatus(EventStatusEnum newStatus) {
+        return new EventSummaryState(id, startAt, type, newStatus, capacity);
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Specification montada pelo {@link EventSpecification}, junto com o plano que a originou
+ * O {@link EventProjectionRepository} lê o plano para aplicar a dica de índice
+ * Combinações via {@code and(...)} devolvem uma Specification comum: um predicado extra (ex.: sobreposição)
+ * pode pedir outro índice, então a dica não é herdada
+ */
+public record PlannedEventSpecification(
+        Specification<EventEntity> delegate,
+        EventQueryPlan plan
+) implements Specification<EventEntity> {
+
+    @Override
+    public Predicate toPredicate(Root<EventEntity> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        return delegate.toPredicate(root, query, criteriaBuilder);
+    }
+
+    /**
+     * Dica de índice da Specification, ou null quando ela não veio do planejador ou o formato não usa dica
+     */
+    public static String indexHintOf(Specification<EventEntity> specification) {
+        return specification instanceof PlannedEventSpecification planned ? planned.plan().indexHint() : null;
+    }
+}
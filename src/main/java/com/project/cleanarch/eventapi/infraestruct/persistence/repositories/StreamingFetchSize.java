@@ -0,0 +1,25 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Fetch size das leituras que percorrem a tabela inteira (exportação e reconstrução do filtro de identificadores)
+ * Sem useCursorFetch na URL, o Connector/J ignora o fetch size e carrega o resultado todo em memória;
+ * só Integer.MIN_VALUE liga o streaming linha a linha, e apenas no statement que o pede
+ * Nesse modo a conexão fica ocupada até o ResultSet ser fechado, então vale só para essas leituras
+ * Outros bancos (H2 nos testes) recusam fetch size negativo e recebem o valor configurado
+ */
+public final class StreamingFetchSize {
+
+    private StreamingFetchSize() {
+    }
+
+    public static int of(EntityManager entityManager, int configured) {
+        boolean mysql = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        return mysql ? Integer.MIN_VALUE : configured;
+    }
+}
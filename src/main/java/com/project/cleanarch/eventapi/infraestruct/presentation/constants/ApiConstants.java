@@ -5,6 +5,9 @@ public record ApiConstants() {
     public record Headers() {
         public static final String X_APP_ORIGIN = "x-app-origin";
         public static final String CONTENT_NEGOTIATION_V1 = "application/vnd.pags.v1+json";
+        public static final String CONTENT_NEGOTIATION_V1_CBOR = "application/vnd.pags.v1+cbor";
+        public static final String CONTENT_NEGOTIATION_V1_SMILE = "application/vnd.pags.v1+smile";
+        public static final String CONTENT_NEGOTIATION_V1_PROTOBUF = "application/vnd.pags.v1+protobuf";
     }
 
 }
\ No newline at end of file
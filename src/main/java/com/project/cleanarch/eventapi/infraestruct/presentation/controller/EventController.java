@@ -1,31 +1,77 @@
 package com.project.cleanarch.eventapi.infraestruct.presentation.controller;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.enums.PageCountMode;
+import com.project.cleanarch.eventapi.core.domain.exception.EventVersionMismatchException;
+import com.project.cleanarch.eventapi.core.domain.model.CursorPage;
 import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+import com.project.cleanarch.eventapi.core.domain.model.EventBulkCancellation;
+import com.project.cleanarch.eventapi.core.domain.model.EventDailySummary;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
 import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventsByFilterUseCase;
 import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventsInBatchUseCase;
+import com.project.cleanarch.eventapi.core.usecases.ExporterEventsUseCase;
+import com.project.cleanarch.eventapi.core.usecases.ReleaserSeatsUseCase;
+import com.project.cleanarch.eventapi.core.usecases.ReserverSeatsUseCase;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverAllEventsUseCase;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverEventByIdUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventRevisionUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsByCursorUseCase;
 import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsByFilterUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventsOverlappingUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventSummariesUseCase;
 import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventBulkCancelDTO;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
 import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.SeatReservationDTO;
 import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
 import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+import com.project.cleanarch.eventapi.infraestruct.presentation.converter.RepresentationNegotiator;
+import com.project.cleanarch.eventapi.infraestruct.presentation.export.EventExportAbortedException;
+import com.project.cleanarch.eventapi.infraestruct.presentation.export.EventExportFormat;
+import com.project.cleanarch.eventapi.infraestruct.presentation.export.EventExportWriter;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Controller REST para eventos - Camada de Apresentação
@@ -33,19 +79,37 @@ import lombok.RequiredArgsConstructor;
  * Segue os princípios da Clean Architecture com ISP (Interface Segregation Principle)
  */
 @RestController
-@RequestMapping("/api/events")
+@RequestMapping(value = "/api/events", produces = {
+        ApiConstants.Headers.CONTENT_NEGOTIATION_V1,
+        ApiConstants.Headers.CONTENT_NEGOTIATION_V1_CBOR,
+        ApiConstants.Headers.CONTENT_NEGOTIATION_V1_SMILE,
+        ApiConstants.Headers.CONTENT_NEGOTIATION_V1_PROTOBUF})
+@Slf4j
 @RequiredArgsConstructor
 public class EventController {
 
+    private static final String DEFAULT_CURSOR_SIZE = "20";
+
     private final CreatorEventUseCase creatorEventUseCase;
+    private final CreatorEventsInBatchUseCase creatorEventsInBatchUseCase;
     private final RetrieverEventByIdUseCase findEventByIdUseCase;
+    private final RetrieverEventRevisionUseCase findEventRevisionUseCase;
     private final RetrieverAllEventsUseCase findAllEventsUseCase;
     private final RetrieverEventsByFilterUseCase findByFilterUseCase;
+    private final RetrieverEventsByCursorUseCase findByCursorUseCase;
+    private final RetrieverEventsOverlappingUseCase findOverlappingUseCase;
+    private final RetrieverEventSummariesUseCase findSummariesUseCase;
     private final UpdateEventUseCase updateEventUseCase;
     private final CancellerEventUseCase cancelEventUseCase;
+    private final CancellerEventsByFilterUseCase cancelEventsByFilterUseCase;
+    private final ExporterEventsUseCase exporterEventsUseCase;
+    private final ReserverSeatsUseCase reserverSeatsUseCase;
+    private final ReleaserSeatsUseCase releaserSeatsUseCase;
     private final EventMapper eventMapper;
+    private final ObjectMapper objectMapper;
+    private final RepresentationNegotiator representationNegotiator;
 
-    @PostMapping(produces = ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+    @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public EventDTO create(@Valid @RequestBody EventDTO dto) {
         Event event = convertToDomain(dto);
@@ -53,41 +117,157 @@ public class EventController {
         return convertToDto(createdEvent);
     }
 
-    @GetMapping(value = "/{id}", produces = ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
-    @ResponseStatus(HttpStatus.OK)
-    public EventDTO findById(@PathVariable Long id) {
-        Event event = findEventByIdUseCase.execute(id);
-        return convertToDto(event);
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.MULTI_STATUS)
+    public List<EventBatchItemResult> createInBatch(@RequestBody List<@Valid EventDTO> dtos) {
+        List<Event> events = dtos.stream().map(this::convertToDomain).toList();
+        return creatorEventsInBatchUseCase.execute(events);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<EventDTO> findById(@PathVariable Long id, NativeWebRequest request) {
+        // Com If-None-Match o 304 é decidido só pela revisão (id, version, updated_at), sem carregar o evento
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(eTagOf(findEventRevisionUseCase.execute(id), request))) {
+            return null;
+        }
+
+        VersionedEvent found = findEventByIdUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(eTagOf(found.revision(), request))
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache())
+                .body(convertToDto(found.event()));
     }
 
-    @GetMapping(produces = ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+    @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public Page<EventDTO> findAll(Pageable pageable) {
-        return findAllEventsUseCase.execute(pageable)
-                .map(this::convertToDto);
+        return findAllEventsUseCase.execute(pageable);
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public Slice<EventDTO> findByFilters(@RequestBody EventFilterDTO filterDTO, Pageable pageable,
+                                         @RequestParam(defaultValue = "EXACT") PageCountMode countMode) {
+        return findByFilterUseCase.execute(filterDTO, pageable, countMode);
     }
 
-    @GetMapping(value = "/search", produces = ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+    @GetMapping("/overlapping")
     @ResponseStatus(HttpStatus.OK)
-    public Page<EventDTO> findByFilters(@RequestBody EventFilterDTO filterDTO, Pageable pageable) {
-        return findByFilterUseCase.execute(filterDTO, pageable)
+    public Slice<EventDTO> findOverlapping(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                           @RequestParam(required = false) EventType type,
+                                           @RequestParam(required = false) EventStatusEnum status,
+                                           Pageable pageable) {
+        EventFilterDTO filterDTO = EventFilterDTO.builder().type(type).status(status).build();
+        return findOverlappingUseCase.execute(from, to, filterDTO, pageable);
+    }
+
+    @GetMapping("/summaries")
+    @ResponseStatus(HttpStatus.OK)
+    public List<EventDailySummary> findDailySummaries(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                      @RequestParam(required = false) EventType type,
+                                                      @RequestParam(required = false) EventStatusEnum status) {
+        EventFilterDTO filterDTO = EventFilterDTO.builder().type(type).status(status).build();
+        return findSummariesUseCase.execute(from, to, filterDTO);
+    }
+
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPage<EventDTO> findAllByCursor(@RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size) {
+        return findByCursorUseCase.execute(new EventFilterDTO(), cursor, size)
                 .map(this::convertToDto);
     }
 
-    @PutMapping(value = "/{id}", produces = ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+    @GetMapping("/search/cursor")
     @ResponseStatus(HttpStatus.OK)
-    public EventDTO update(@PathVariable Long id, @Valid @RequestBody EventDTO dto) {
+    public CursorPage<EventDTO> findByFiltersAndCursor(@RequestBody EventFilterDTO filterDTO,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = DEFAULT_CURSOR_SIZE) int size) {
+        return findByCursorUseCase.execute(filterDTO, cursor, size)
+                .map(this::convertToDto);
+    }
+
+    // O formato da exportação é escolhido pelo parâmetro format, não pelo Accept
+    @GetMapping(value = "/export", produces = MediaType.ALL_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestBody(required = false) EventFilterDTO filterDTO,
+                                                        @RequestParam(defaultValue = "NDJSON") EventExportFormat format,
+                                                        HttpServletResponse response) {
+        EventFilterDTO filter = filterDTO != null ? filterDTO : new EventFilterDTO();
+        StreamingResponseBody body = outputStream -> {
+            // O writer só é fechado no sucesso: fechar descarrega o fluxo e confirmaria a resposta antes do erro
+            EventExportWriter writer = format.open(outputStream, objectMapper);
+            try {
+                exporterEventsUseCase.execute(filter, writer::write);
+            } catch (RuntimeException e) {
+                // Antes do primeiro bloco ainda dá para responder com o erro (sem o Content-Type e o anexo do export);
+                // depois, só resta abortar a conexão
+                if (!response.isCommitted()) {
+                    response.reset();
+                    throw e;
+                }
+                log.error("m=export format={} committed=true error={}", format, e.getMessage());
+                throw new EventExportAbortedException(e);
+            }
+            writer.close();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(format.fileName()).build().toString())
+                .body(body);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<EventDTO> update(@PathVariable Long id, @Valid @RequestBody EventDTO dto,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           NativeWebRequest request) {
         Event event = convertToDomain(dto);
-        Event updatedEvent = updateEventUseCase.execute(id, event);
-        return convertToDto(updatedEvent);
+        return updated(updateEventUseCase.execute(id, current -> event, expectedVersionOf(id, ifMatch)), request);
+    }
+
+    /**
+     * Alteração parcial: só os campos presentes no corpo mudam, aplicados ao estado lido na transação da escrita
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<EventDTO> patch(@PathVariable Long id, @RequestBody EventDTO dto,
+                                          @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                          NativeWebRequest request) {
+        return updated(updateEventUseCase.execute(id, current -> {
+            EventDTO merged = convertToDto(current);
+            eventMapper.patchDto(merged, dto);
+            return convertToDomain(merged);
+        }, expectedVersionOf(id, ifMatch)), request);
     }
 
-    @PatchMapping(value = "/{id}/cancel", produces = ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+    @PatchMapping("/{id}/cancel")
     @ResponseStatus(HttpStatus.OK)
     public void cancelEvent(@PathVariable Long id, @RequestBody EventDTO dto) {
         cancelEventUseCase.execute(id, dto.getCancelReason());
     }
 
+    @PatchMapping("/cancel")
+    @ResponseStatus(HttpStatus.OK)
+    public EventBulkCancellation cancelByFilters(@RequestBody EventBulkCancelDTO dto,
+                                                 @RequestParam(defaultValue = "false") boolean includeIds) {
+        return cancelEventsByFilterUseCase.execute(dto.getFilter(), dto.getCancelReason(), includeIds);
+    }
+
+    @PostMapping("/{id}/reservations")
+    @ResponseStatus(HttpStatus.CREATED)
+    public SeatReservation reserveSeats(@PathVariable Long id, @Valid @RequestBody SeatReservationDTO dto) {
+        return reserverSeatsUseCase.execute(id, dto.getSeats());
+    }
+
+    @DeleteMapping("/{id}/reservations/{reservationId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void releaseSeats(@PathVariable Long id, @PathVariable String reservationId) {
+        releaserSeatsUseCase.execute(id, reservationId);
+    }
+
     private Event convertToDomain(EventDTO dto) {
         return eventMapper.toModel(dto);
     }
@@ -95,4 +275,42 @@ public class EventController {
     private EventDTO convertToDto(Event event) {
         return eventMapper.fromModel(event);
     }
+
+    private ResponseEntity<EventDTO> updated(VersionedEvent updated, NativeWebRequest request) {
+        return ResponseEntity.ok()
+                .eTag(eTagOf(updated.revision(), request))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(convertToDto(updated.event()));
+    }
+
+    /**
+     * Versão que o cliente leu, tirada do If-Match (ETag da busca por ID); sem o header, ou com "*", qualquer versão vale
+     * If-Match compara de forma forte: ETag fraco, de outro evento ou ilegível nunca é a versão atual
+     */
+    private static Long expectedVersionOf(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String[] parts = ifMatch.strip().replace("\"", "").split("-");
+        if (!ifMatch.strip().startsWith("W/") && parts.length >= 2 && parts[0].equals(String.valueOf(id))) {
+            try {
+                return Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                // Cai na recusa abaixo
+            }
+        }
+        throw new EventVersionMismatchException(id, null);
+    }
+
+    /**
+     * ETag forte por representação: JSON, CBOR, Smile e Protobuf do mesmo evento têm bytes diferentes, então a
+     * representação negociada entra no tag (e o Vary: Accept acompanha); o If-Match só compara id e version
+     */
+    private String eTagOf(EventRevision revision, NativeWebRequest request) {
+        // version cobre escritas no mesmo segundo, que updated_at (TIMESTAMP) não distingue
+        long updatedAt = revision.updatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        String representation = representationNegotiator.tagOf(request);
+        return "\"" + revision.id() + "-" + revision.version() + "-" + updatedAt
+                + (representation != null ? "-" + representation : "") + "\"";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.converter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+/**
+ * Escreve as respostas do EventController em application/vnd.pags.v1+protobuf conforme o events.proto
+ * Usa o mesmo modelo Jackson da representação JSON: propriedades sem campo no contrato são descartadas
+ * Somente escrita; as requisições continuam em JSON
+ */
+public class EventProtobufHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    private final EventProtobufSchemas schemas;
+
+    public EventProtobufHttpMessageConverter(ObjectMapper objectMapper, EventProtobufSchemas schemas) {
+        super(objectMapper, MediaType.parseMediaType(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_PROTOBUF));
+        Assert.isInstanceOf(ProtobufFactory.class, objectMapper.getFactory(), "ProtobufFactory required");
+        this.schemas = schemas;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return schemas.supports(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (List.class.isAssignableFrom(clazz)) {
+            Class<?> element = type != null ? ResolvableType.forType(type).asCollection().resolveGeneric(0) : null;
+            return element != null && EventBatchItemResult.class.isAssignableFrom(element) && canWrite(mediaType);
+        }
+        return canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Object root = EventProtobufSchemas.rootOf(object);
+        // Escreve pelo tipo concreto: é por ele que customizeWriter escolhe a mensagem raiz
+        super.writeInternal(root, root.getClass(), outputMessage);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, @Nullable MediaType contentType) {
+        return writer.with(schemas.schemaFor(javaType.getRawClass()));
+    }
+}
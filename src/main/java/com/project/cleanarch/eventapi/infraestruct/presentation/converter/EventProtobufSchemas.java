@@ -0,0 +1,101 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.converter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import com.project.cleanarch.eventapi.core.domain.model.CursorPage;
+import com.project.cleanarch.eventapi.core.domain.model.EventBulkCancellation;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.presentation.handler.ErrorMessage;
+
+/**
+ * Schemas da representação Protobuf carregados do contrato publicado em {@value #LOCATION}
+ * Cada tipo de resposta do EventController corresponde a uma mensagem raiz do .proto;
+ * Slice/Page e listas são convertidos antes por {@link #rootOf(Object)}
+ */
+public final class EventProtobufSchemas {
+
+    public static final String LOCATION = "proto/events.proto";
+
+    private static final Map<Class<?>, String> ROOT_MESSAGES = Map.of(
+            EventDTO.class, "Event",
+            EventPage.class, "EventPage",
+            CursorPage.class, "EventCursorPage",
+            EventBatchResult.class, "EventBatchResult",
+            EventBulkCancellation.class, "EventBulkCancellation",
+            ErrorMessage.class, "ErrorMessage");
+
+    private final Map<Class<?>, ProtobufSchema> schemas;
+
+    private EventProtobufSchemas(ProtobufSchema contract) {
+        this.schemas = ROOT_MESSAGES.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
+                        entry -> contract.withRootType(entry.getValue())));
+    }
+
+    public static EventProtobufSchemas load() {
+        try (InputStream contract = new ClassPathResource(LOCATION).getInputStream()) {
+            return new EventProtobufSchemas(ProtobufSchemaLoader.std.load(contract));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível carregar o contrato Protobuf " + LOCATION, e);
+        }
+    }
+
+    public boolean supports(Class<?> type) {
+        return Slice.class.isAssignableFrom(type) || schemaFor(type) != null;
+    }
+
+    /**
+     * Mensagem raiz a escrever para o corpo da resposta
+     * Slice e Page viram {@link EventPage} (o Jackson não consegue descartar objetos aninhados como pageable);
+     * a lista do lote vira {@link EventBatchResult}
+     */
+    public static Object rootOf(Object body) {
+        if (body instanceof Page<?> page) {
+            return new EventPage(page.getContent(), page.getNumber(), page.getSize(), page.getNumberOfElements(),
+                    page.isFirst(), page.isLast(), page.isEmpty(), page.getTotalElements(), page.getTotalPages());
+        }
+        if (body instanceof Slice<?> slice) {
+            return new EventPage(slice.getContent(), slice.getNumber(), slice.getSize(), slice.getNumberOfElements(),
+                    slice.isFirst(), slice.isLast(), slice.isEmpty(), null, null);
+        }
+        if (body instanceof List<?> items) {
+            return new EventBatchResult(items);
+        }
+        return body;
+    }
+
+    /**
+     * Schema da mensagem raiz para o tipo já convertido por {@link #rootOf(Object)}, ou null se não faz parte do contrato
+     */
+    public ProtobufSchema schemaFor(Class<?> type) {
+        for (Map.Entry<Class<?>, ProtobufSchema> entry : schemas.entrySet()) {
+            if (entry.getKey().isAssignableFrom(type)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Página ou fatia no formato da mensagem EventPage; totalElements e totalPages ausentes numa Slice
+     */
+    public record EventPage(List<?> content, int number, int size, int numberOfElements,
+                            boolean first, boolean last, boolean empty, Long totalElements, Integer totalPages) {
+    }
+
+    /**
+     * Protobuf não tem lista como mensagem raiz: o resultado do lote vai no campo repeated items
+     */
+    public record EventBatchResult(List<?> items) {
+    }
+}
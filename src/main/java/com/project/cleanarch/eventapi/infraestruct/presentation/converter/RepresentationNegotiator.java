@@ -0,0 +1,80 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.converter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Antecipa a representação que o Spring MVC vai negociar para a resposta (Accept x produces do mapeamento)
+ * Usado pelo ETag: cada representação tem bytes próprios, então a validação precisa distinguir JSON, CBOR, Smile e Protobuf
+ * antes de o corpo existir (o 304 da busca por ID é decidido sem carregar o evento)
+ */
+@Component
+@RequiredArgsConstructor
+public class RepresentationNegotiator {
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    /**
+     * Mesmo critério do AbstractMessageConverterMethodProcessor: combinações compatíveis ordenadas por especificidade,
+     * vencendo a primeira concreta; null quando nada é aceitável (o MVC responderá 406)
+     */
+    public MediaType negotiate(NativeWebRequest request) {
+        List<MediaType> compatible = new ArrayList<>();
+        for (MediaType requested : requestedTypes(request)) {
+            for (MediaType producible : producibleTypes(request)) {
+                if (requested.isCompatibleWith(producible)) {
+                    compatible.add(mostSpecific(requested, producible));
+                }
+            }
+        }
+        MimeTypeUtils.sortBySpecificity(compatible);
+        return compatible.stream()
+                .filter(MediaType::isConcrete)
+                .findFirst()
+                .map(MediaType::removeQualityValue)
+                .orElse(null);
+    }
+
+    /**
+     * Identificador curto da representação negociada para compor o ETag: o sufixo estruturado (json, cbor, smile, protobuf)
+     */
+    public String tagOf(NativeWebRequest request) {
+        MediaType mediaType = negotiate(request);
+        if (mediaType == null) {
+            return null;
+        }
+        return mediaType.getSubtypeSuffix() != null ? mediaType.getSubtypeSuffix() : mediaType.getSubtype();
+    }
+
+    private List<MediaType> requestedTypes(NativeWebRequest request) {
+        try {
+            return contentNegotiationManager.resolveMediaTypes(request);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            return List.of();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Collection<MediaType> producibleTypes(NativeWebRequest request) {
+        Collection<MediaType> producible = (Collection<MediaType>) request.getAttribute(
+                HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return producible != null ? producible : List.of(MediaType.APPLICATION_JSON);
+    }
+
+    private static MediaType mostSpecific(MediaType requested, MediaType producible) {
+        MediaType producibleToUse = producible.copyQualityValue(requested);
+        return requested.isLessSpecific(producibleToUse) ? producibleToUse : requested;
+    }
+}
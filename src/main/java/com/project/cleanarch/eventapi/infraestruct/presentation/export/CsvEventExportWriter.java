@@ -0,0 +1,86 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+/**
+ * CSV (RFC 4180) com cabeçalho; campos com vírgula, aspas ou quebra de linha são colocados entre aspas
+ */
+public class CsvEventExportWriter implements EventExportWriter {
+
+    private static final String HEADER = "name,description,identifier,startAt,endAt,location,capacity,type,status,cancelReason";
+
+    private final Writer writer;
+
+    public CsvEventExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(List<EventDTO> events) {
+        try {
+            for (EventDTO event : events) {
+                writeRow(event);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeRow(EventDTO event) throws IOException {
+        writer.write(escape(event.getName()));
+        writer.write(',');
+        writer.write(escape(event.getDescription()));
+        writer.write(',');
+        writer.write(escape(event.getIdentifier()));
+        writer.write(',');
+        writer.write(format(event.getStartAt()));
+        writer.write(',');
+        writer.write(format(event.getEndAt()));
+        writer.write(',');
+        writer.write(escape(event.getLocation()));
+        writer.write(',');
+        writer.write(escape(event.getCapacity()));
+        writer.write(',');
+        writer.write(escape(event.getType()));
+        writer.write(',');
+        writer.write(escape(event.getStatus()));
+        writer.write(',');
+        writer.write(escape(event.getCancelReason()));
+        writer.write("\r\n");
+    }
+
+    private static String format(LocalDateTime value) {
+        return value == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+
+    static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+/**
+ * Falha de exportação depois que a resposta já foi enviada (status e parte do corpo)
+ * Nenhum handler a converte em corpo de erro: ela chega ao container, que encerra a conexão sem o bloco final,
+ * e o cliente percebe o export truncado em vez de receber um JSON de erro misturado ao arquivo
+ */
+public class EventExportAbortedException extends RuntimeException {
+
+    public EventExportAbortedException(Throwable cause) {
+        super("Exportação interrompida após o início da resposta", cause);
+    }
+}
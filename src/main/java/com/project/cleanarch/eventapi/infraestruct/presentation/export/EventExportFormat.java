@@ -0,0 +1,43 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public enum EventExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson") {
+        @Override
+        public EventExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            return new NdjsonEventExportWriter(objectMapper, outputStream);
+        }
+    },
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv") {
+        @Override
+        public EventExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+            return new CsvEventExportWriter(outputStream);
+        }
+    };
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    EventExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "events." + extension;
+    }
+
+    public abstract EventExportWriter open(OutputStream outputStream, ObjectMapper objectMapper) throws IOException;
+}
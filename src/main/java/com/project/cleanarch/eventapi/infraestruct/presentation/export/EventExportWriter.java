@@ -0,0 +1,15 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+import java.io.Closeable;
+import java.util.List;
+
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+/**
+ * Escreve um export de eventos direto no corpo da resposta
+ * Cada bloco é descarregado para o cliente ao final de {@link #write(List)}, sem acumular a resposta em memória
+ */
+public interface EventExportWriter extends Closeable {
+
+    void write(List<EventDTO> events);
+}
@@ -0,0 +1,47 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+/**
+ * Um objeto JSON por linha (application/x-ndjson), usando o mesmo ObjectMapper da API
+ */
+public class NdjsonEventExportWriter implements EventExportWriter {
+
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    public NdjsonEventExportWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        // O flush é feito por bloco, não por linha
+        this.objectWriter = objectMapper.writerFor(EventDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.createGenerator(outputStream);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(List<EventDTO> events) {
+        try {
+            for (EventDTO event : events) {
+                objectWriter.writeValue(generator, event);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -20,6 +20,7 @@ import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.exception.EventVersionMismatchException;
 
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
@@ -70,6 +71,15 @@ public class RestControllerExceptionHandler extends ResponseEntityExceptionHandl
                                       .message(exception.getMessage()));
     }
 
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    @ExceptionHandler(EventVersionMismatchException.class)
+    ErrorMessage handlerEventVersionMismatchException(final EventVersionMismatchException exception){
+        log.error("m=handlerEventVersionMismatchException error={}", exception.getMessage());
+        return buildErrorMessage(HttpStatus.PRECONDITION_FAILED,
+                ErrorMessage.builder().code(exception.getCode())
+                                      .message(exception.getMessage()));
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
         log.error("m=handleMethodArgumentNotValid error={}", ex.getMessage());
@@ -0,0 +1,24 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.util.Optional;
+
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+
+/**
+ * Estoque usado quando {@code events.reservations.enabled=false}: sem node-id nem journal a instância não pode vender
+ * assentos, então reservas e liberações são recusadas com {@code event.reservation.disabled}
+ */
+public class DisabledSeatInventory implements SeatInventory {
+
+    @Override
+    public Optional<SeatReservation> reserve(Long eventId, int seats) {
+        throw new BusinessException("event.reservation.disabled");
+    }
+
+    @Override
+    public boolean release(Long eventId, String reservationId) {
+        throw new BusinessException("event.reservation.disabled");
+    }
+}
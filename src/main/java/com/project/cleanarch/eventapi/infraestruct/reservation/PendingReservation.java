@@ -0,0 +1,50 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+
+/**
+ * Reserva confirmada ao cliente e ainda não gravada no banco
+ * O estado decide, sem lock, quem fica com ela: a liberação em memória (PENDING → RELEASED)
+ * ou o write-behind (PENDING → FLUSHING → FLUSHED); depois de FLUSHED a liberação passa pelo banco
+ */
+final class PendingReservation {
+
+    enum State { PENDING, FLUSHING, FLUSHED, RELEASED }
+
+    private final SeatReservation reservation;
+    private final AtomicInteger state = new AtomicInteger(State.PENDING.ordinal());
+
+    PendingReservation(SeatReservation reservation) {
+        this.reservation = reservation;
+    }
+
+    SeatReservation reservation() {
+        return reservation;
+    }
+
+    State state() {
+        return State.values()[state.get()];
+    }
+
+    boolean release() {
+        return transition(State.PENDING, State.RELEASED);
+    }
+
+    boolean startFlush() {
+        return transition(State.PENDING, State.FLUSHING);
+    }
+
+    void flushed() {
+        state.set(State.FLUSHED.ordinal());
+    }
+
+    void flushFailed() {
+        transition(State.FLUSHING, State.PENDING);
+    }
+
+    private boolean transition(State from, State to) {
+        return state.compareAndSet(from.ordinal(), to.ordinal());
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/**
+ * Endpoint do operador para cercar uma instância morta: {@code POST /actuator/seatleases/{nodeId}}
+ * - Só encolhe leases sem renovação há mais de leaseTtl; uma instância viva não é afetada
+ * - Use apenas quando o journal da instância se perdeu; se ele existe, suba a instância com o mesmo node-id
+ */
+@Endpoint(id = "seatleases")
+public class SeatLeaseEndpoint {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatLeaseEndpoint.class);
+
+    private final SeatReservationStore store;
+
+    public SeatLeaseEndpoint(SeatReservationStore store) {
+        this.store = store;
+    }
+
+    @WriteOperation
+    public Map<String, Object> fence(@Selector String nodeId) {
+        int fenced = store.fence(nodeId);
+        logger.warn("Instância cercada pelo operador: nodeId={}, leases={}", nodeId, fenced);
+        return Map.of("nodeId", nodeId, "fencedLeases", fenced);
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+
+/**
+ * Journal local das reservas que ainda não chegaram ao banco, uma linha por operação
+ * - Cada lote é acrescentado e sincronizado em disco (force) antes de a operação ser confirmada ao cliente
+ * - {@link #seal()} fecha o segmento atual (arquivo.N) e abre outro; o write-behind apaga o segmento selado
+ *   depois de gravar no banco tudo o que está nele, sem parar as escritas no segmento novo
+ * - {@link #replay()} percorre os segmentos em ordem e devolve as reservas que sobraram de uma queda;
+ *   uma linha incompleta (queda no meio da escrita) é ignorada
+ */
+public class SeatReservationJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatReservationJournal.class);
+    private static final String SEPARATOR = "\t";
+
+    public enum Operation { RESERVED, RELEASED }
+
+    public record Entry(Operation operation, SeatReservation reservation) {
+    }
+
+    private final Path file;
+    private FileChannel channel;
+    private long sequence;
+
+    public SeatReservationJournal(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.file = file;
+        this.channel = open(file);
+        this.sequence = sealedSegments().stream().mapToLong(this::sequenceOf).max().orElse(0);
+    }
+
+    public synchronized void append(List<Entry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder(entries.size() * 96);
+        for (Entry entry : entries) {
+            SeatReservation reservation = entry.reservation();
+            lines.append(entry.operation().name()).append(SEPARATOR)
+                    .append(reservation.id()).append(SEPARATOR)
+                    .append(reservation.eventId()).append(SEPARATOR)
+                    .append(reservation.seats()).append(SEPARATOR)
+                    .append(reservation.reservedAt()).append('\n');
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Fecha o segmento atual e abre um novo; devolve o segmento selado
+     */
+    public synchronized Path seal() throws IOException {
+        channel.close();
+        Path sealed = file.resolveSibling(file.getFileName() + "." + (++sequence));
+        Files.move(file, sealed, StandardCopyOption.ATOMIC_MOVE);
+        channel = open(file);
+        return sealed;
+    }
+
+    public void delete(Path segment) throws IOException {
+        Files.deleteIfExists(segment);
+    }
+
+    /**
+     * Reservas dos segmentos que não foram liberadas depois, na ordem em que foram feitas
+     */
+    public synchronized List<SeatReservation> replay() throws IOException {
+        Map<String, SeatReservation> held = new LinkedHashMap<>();
+        List<Path> segments = new ArrayList<>(sealedSegments());
+        segments.add(file);
+        for (Path segment : segments) {
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                replay(segment, line, held);
+            }
+        }
+        return new ArrayList<>(held.values());
+    }
+
+    /**
+     * Descarta todos os segmentos; usado depois que a recuperação gravou no banco o que o {@link #replay()} devolveu
+     */
+    public synchronized void clear() throws IOException {
+        for (Path segment : sealedSegments()) {
+            Files.deleteIfExists(segment);
+        }
+        channel.truncate(0);
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private void replay(Path segment, String line, Map<String, SeatReservation> held) {
+        String[] fields = line.split(SEPARATOR);
+        try {
+            SeatReservation reservation = new SeatReservation(fields[1], Long.valueOf(fields[2]),
+                    Integer.parseInt(fields[3]), LocalDateTime.parse(fields[4]));
+            switch (Operation.valueOf(fields[0])) {
+                case RESERVED -> held.put(reservation.id(), reservation);
+                case RELEASED -> held.remove(reservation.id());
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Linha inválida no journal de reservas ignorada: segment={}, line={}", segment, line);
+        }
+    }
+
+    private List<Path> sealedSegments() throws IOException {
+        String prefix = file.getFileName() + ".";
+        try (Stream<Path> siblings = Files.list(file.toAbsolutePath().getParent())) {
+            return siblings
+                    .filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> path.getFileName().toString().substring(prefix.length()).matches("\\d+"))
+                    .sorted(Comparator.comparingLong(this::sequenceOf))
+                    .toList();
+        }
+    }
+
+    private long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(name.lastIndexOf('.') + 1));
+    }
+
+    private static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+
+/**
+ * Persistência do estoque de assentos
+ * - event_seat_leases: quantos assentos cada instância (node_id) pode vender por evento; a soma nunca passa da capacidade
+ * - event_seat_reservations: reservas já gravadas pelo write-behind
+ * Só a concessão de lease trava a linha em events, uma vez por bloco de assentos e não por reserva
+ * Cada instância renova os próprios leases a cada poucos segundos (updated_at); lease sem renovação há mais de leaseTtl
+ * continua valendo: a instância pode ter reservas confirmadas no journal e ainda não gravadas, que voltam ao banco
+ * quando ela sobe de novo. Só o {@link #fence(String)}, pedido pelo operador, encolhe o lease até as reservas gravadas
+ */
+public class SeatReservationStore {
+
+    private static final String LOCK_EVENT = "SELECT capacity, status FROM events WHERE id = ? FOR UPDATE";
+    private static final String TOTAL_LEASED = "SELECT COALESCE(SUM(leased_seats), 0) FROM event_seat_leases WHERE event_id = ?";
+    private static final String ADD_LEASE = """
+            INSERT INTO event_seat_leases (event_id, node_id, leased_seats, updated_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE leased_seats = leased_seats + ?, updated_at = ?
+            """;
+    private static final String RETURN_LEASE = """
+            UPDATE event_seat_leases SET leased_seats = leased_seats - ?, updated_at = ?
+            WHERE event_id = ? AND node_id = ?
+            """;
+    // Cerca uma instância morta: o lease fica só com o que ela já gravou e o resto volta para o evento
+    private static final String FENCE_EXPIRED = """
+            UPDATE event_seat_leases l
+            SET leased_seats = (SELECT COALESCE(SUM(r.seats), 0) FROM event_seat_reservations r
+                                WHERE r.event_id = l.event_id AND r.node_id = l.node_id)
+            WHERE l.node_id = ? AND l.updated_at < ?
+            """;
+    private static final String RENEW_LEASES = "UPDATE event_seat_leases SET updated_at = ? WHERE node_id = ?";
+    private static final String NODE_LEASED = """
+            SELECT COALESCE(SUM(leased_seats), 0) FROM event_seat_leases WHERE event_id = ? AND node_id = ?
+            """;
+    private static final String NODE_RESERVED = """
+            SELECT COALESCE(SUM(seats), 0) FROM event_seat_reservations WHERE event_id = ? AND node_id = ?
+            """;
+    // Idempotente: a recuperação do journal pode regravar reservas que já tinham chegado ao banco
+    private static final String INSERT_RESERVATION = """
+            INSERT INTO event_seat_reservations (id, event_id, node_id, seats, reserved_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = id
+            """;
+    private static final String LOCK_RESERVATION = """
+            SELECT node_id, seats FROM event_seat_reservations WHERE id = ? AND event_id = ? FOR UPDATE
+            """;
+    private static final String DELETE_RESERVATION = "DELETE FROM event_seat_reservations WHERE id = ?";
+
+    /**
+     * Reserva removida do banco e a instância que a vendeu
+     */
+    public record Released(String nodeId, int seats) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final Duration leaseTtl;
+
+    public SeatReservationStore(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations, Duration leaseTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * Concede até {@code wanted} assentos à instância; devolve quantos foram concedidos
+     * Zero quando o evento não existe, não aceita reservas ou já teve toda a capacidade concedida
+     */
+    public int lease(Long eventId, String nodeId, int wanted) {
+        Integer granted = transactionOperations.execute(status -> {
+            List<Map<String, Object>> event = jdbcTemplate.queryForList(LOCK_EVENT, eventId);
+            if (event.isEmpty()
+                    || !EventStatusEnum.valueOf((String) event.getFirst().get("status")).isOpenForReservation()) {
+                return 0;
+            }
+
+            int capacity = ((Number) event.getFirst().get("capacity")).intValue();
+            long leased = leasedSeats(eventId);
+            int grant = (int) Math.max(0, Math.min(wanted, capacity - leased));
+            if (grant > 0) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.update(ADD_LEASE, eventId, nodeId, grant, now, grant, now);
+            }
+            return grant;
+        });
+        return granted == null ? 0 : granted;
+    }
+
+    /**
+     * Assentos concedidos a todas as instâncias, inclusive as sem renovação
+     * Exige a trava da linha do evento na transação atual: é ela que ordena concessões e mudanças de capacidade
+     */
+    public long leasedSeats(Long eventId) {
+        return jdbcTemplate.queryForObject(TOTAL_LEASED, Long.class, eventId);
+    }
+
+    /**
+     * Devolve aos eventos os assentos não gravados de uma instância sem renovação há mais de leaseTtl; devolve quantos
+     * leases foram encolhidos (zero se a instância ainda renova)
+     * Só é seguro quando o journal da instância se perdeu: reservas confirmadas e ainda não gravadas deixam de ter lease
+     */
+    public int fence(String nodeId) {
+        Integer fenced = transactionOperations.execute(status ->
+                jdbcTemplate.update(FENCE_EXPIRED, nodeId, Timestamp.valueOf(LocalDateTime.now().minus(leaseTtl))));
+        return fenced == null ? 0 : fenced;
+    }
+
+    /**
+     * Renova todos os leases da instância; devolve quantos existiam
+     */
+    public int renewLeases(String nodeId) {
+        return jdbcTemplate.update(RENEW_LEASES, Timestamp.valueOf(LocalDateTime.now()), nodeId);
+    }
+
+    public void returnLease(Long eventId, String nodeId, int seats) {
+        jdbcTemplate.update(RETURN_LEASE, seats, Timestamp.valueOf(LocalDateTime.now()), eventId, nodeId);
+    }
+
+    /**
+     * Assentos concedidos à instância e ainda não vendidos por ela, segundo o banco
+     * Lease e reservas são lidos na mesma transação: uma liberação feita por outra instância altera os dois juntos
+     */
+    public int heldSeats(Long eventId, String nodeId) {
+        Long held = transactionOperations.execute(status ->
+                jdbcTemplate.queryForObject(NODE_LEASED, Long.class, eventId, nodeId)
+                        - jdbcTemplate.queryForObject(NODE_RESERVED, Long.class, eventId, nodeId));
+        return held == null ? 0 : (int) Math.max(0, held);
+    }
+
+    public void insert(String nodeId, List<SeatReservation> reservations, int batchSize) {
+        transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_RESERVATION,
+                reservations, batchSize, (ps, reservation) -> {
+                    ps.setString(1, reservation.id());
+                    ps.setLong(2, reservation.eventId());
+                    ps.setString(3, nodeId);
+                    ps.setInt(4, reservation.seats());
+                    ps.setTimestamp(5, Timestamp.valueOf(reservation.reservedAt()));
+                }));
+    }
+
+    /**
+     * Remove uma reserva já gravada
+     * Se outra instância a vendeu, o lease dela diminui junto: os assentos voltam para o evento, não para aquela instância
+     */
+    public Optional<Released> delete(Long eventId, String reservationId, String nodeId) {
+        return transactionOperations.execute(status -> {
+            List<Released> found = jdbcTemplate.query(LOCK_RESERVATION,
+                    (rs, row) -> new Released(rs.getString("node_id"), rs.getInt("seats")), reservationId, eventId);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+
+            Released released = found.getFirst();
+            jdbcTemplate.update(DELETE_RESERVATION, reservationId);
+            if (!released.nodeId().equals(nodeId)) {
+                returnLease(eventId, released.nodeId(), released.seats());
+            }
+            return Optional.of(released);
+        });
+    }
+}
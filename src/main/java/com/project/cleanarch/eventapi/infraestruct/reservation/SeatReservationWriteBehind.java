@@ -0,0 +1,290 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationJournal.Entry;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationJournal.Operation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Write-behind das reservas: journal local síncrono, banco em lotes
+ * - A thread do journal acrescenta as operações com um force por lote (group commit) e completa os futures:
+ *   é nesse ponto que a operação é confirmada ao cliente
+ * - A thread de flush, a cada flushInterval, sela o segmento do journal, grava as reservas dele em
+ *   event_seat_reservations numa transação, em lotes JDBC de batchSize, e apaga o segmento; reservas liberadas antes disso nem chegam ao banco
+ * - As duas só se encontram ao selar o segmento: a gravação no banco não atrasa as confirmações
+ * - Falha no banco mantém os segmentos e tenta de novo, recuando até maxBackoff; as reservas continuam
+ *   sendo aceitas enquanto o disco local responder
+ */
+public class SeatReservationWriteBehind implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatReservationWriteBehind.class);
+    private static final String METRIC_PREFIX = "events.reservations";
+    private static final int MAX_APPEND = 4096;
+    private static final long POLL_MILLIS = 100;
+
+    private record Submitted(Entry entry, PendingReservation pending, CompletableFuture<Void> durable) {
+    }
+
+    private final SeatReservationJournal journal;
+    private final SeatReservationStore store;
+    private final String nodeId;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration maxBackoff;
+    private final ConcurrentMap<String, PendingReservation> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<Submitted> queue = new LinkedBlockingQueue<>();
+    private final Timer flushTimer;
+    private final Counter failures;
+
+    // Guardados pelo journal: reservas e linhas do segmento atual
+    private List<PendingReservation> journaled = new ArrayList<>();
+    private int appended;
+
+    // Guardados pelo monitor do flush: segmentos selados e reservas deles ainda não gravadas no banco
+    private final List<Path> sealed = new ArrayList<>();
+    private final List<PendingReservation> unflushed = new ArrayList<>();
+    private int consecutiveFailures;
+
+    private volatile boolean running;
+    private Thread writer;
+    private ScheduledExecutorService flusher;
+
+    public SeatReservationWriteBehind(SeatReservationJournal journal, SeatReservationStore store, String nodeId,
+                                      int batchSize, Duration flushInterval, Duration maxBackoff, MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.store = store;
+        this.nodeId = nodeId;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.maxBackoff = maxBackoff;
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("Tempo para gravar um segmento de reservas no banco")
+                .register(meterRegistry);
+        this.failures = Counter.builder(METRIC_PREFIX + ".flush.failures")
+                .description("Gravações de reservas que falharam e ficaram no journal para nova tentativa")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".pending", pending, ConcurrentMap::size)
+                .description("Reservas confirmadas e ainda não gravadas no banco")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Grava no banco as reservas que sobraram no journal de uma queda e o limpa; deve rodar antes de {@link #start()}
+     * Devolve quantas reservas foram recuperadas
+     */
+    public int recover() throws IOException {
+        List<SeatReservation> held = journal.replay();
+        if (!held.isEmpty()) {
+            store.insert(nodeId, held, batchSize);
+            logger.warn("Reservas recuperadas do journal: node={}, reservations={}", nodeId, held.size());
+        }
+        journal.clear();
+        return held.size();
+    }
+
+    public synchronized void start() {
+        if (writer != null) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::run, "seat-reservation-journal");
+        writer.setDaemon(true);
+        writer.start();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-reservation-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.schedule(this::tick, flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Para de aceitar operações, grava no journal o que estava na fila, tenta uma última gravação no banco
+     * e fecha o journal; o que não chegar ao banco fica para a recuperação
+     */
+    @Override
+    public void close() throws IOException {
+        Thread currentWriter;
+        ScheduledExecutorService currentFlusher;
+        synchronized (this) {
+            currentWriter = writer;
+            currentFlusher = flusher;
+            writer = null;
+            flusher = null;
+            running = false;
+        }
+        try {
+            // Sem interrupt: interromper uma escrita em FileChannel fecharia o journal
+            if (currentWriter != null) {
+                currentWriter.join();
+            }
+            if (currentFlusher != null) {
+                currentFlusher.shutdown();
+                currentFlusher.awaitTermination(maxBackoff.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            flush();
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Reservas ficaram no journal para a recuperação: error={}", e.getMessage());
+        }
+        journal.close();
+    }
+
+    /**
+     * Sela o segmento atual e grava no banco as reservas pendentes; devolve quantas foram gravadas
+     */
+    synchronized int flush() throws IOException {
+        synchronized (journal) {
+            if (appended > 0) {
+                sealed.add(journal.seal());
+                unflushed.addAll(journaled);
+                journaled = new ArrayList<>();
+                appended = 0;
+            }
+        }
+        if (sealed.isEmpty()) {
+            return 0;
+        }
+
+        List<PendingReservation> batch = unflushed.stream().filter(PendingReservation::startFlush).toList();
+        try {
+            if (!batch.isEmpty()) {
+                // Uma transação por flush: o segmento só é apagado se todas as suas reservas estiverem no banco
+                flushTimer.record(() -> store.insert(nodeId,
+                        batch.stream().map(PendingReservation::reservation).toList(), batchSize));
+            }
+        } catch (RuntimeException e) {
+            // De volta a PENDING: enquanto o banco não responde, a liberação continua sendo feita em memória
+            batch.forEach(PendingReservation::flushFailed);
+            throw e;
+        }
+
+        for (PendingReservation entry : batch) {
+            entry.flushed();
+            pending.remove(entry.reservation().id(), entry);
+        }
+        unflushed.clear();
+        for (Path segment : sealed) {
+            // Um segmento que não for apagado é regravado de forma idempotente na próxima recuperação
+            journal.delete(segment);
+        }
+        sealed.clear();
+        return batch.size();
+    }
+
+    CompletableFuture<Void> reserved(SeatReservation reservation) {
+        PendingReservation entry = new PendingReservation(reservation);
+        pending.put(reservation.id(), entry);
+        return submit(new Entry(Operation.RESERVED, reservation), entry);
+    }
+
+    /**
+     * Registra a liberação de uma reserva que {@link PendingReservation#release()} tirou do write-behind
+     */
+    CompletableFuture<Void> released(PendingReservation entry) {
+        pending.remove(entry.reservation().id(), entry);
+        return submit(new Entry(Operation.RELEASED, entry.reservation()), entry);
+    }
+
+    PendingReservation pending(String reservationId) {
+        return pending.get(reservationId);
+    }
+
+    private CompletableFuture<Void> submit(Entry entry, PendingReservation pendingReservation) {
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Write-behind de reservas parado"));
+        }
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        queue.add(new Submitted(entry, pendingReservation, durable));
+        return durable;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            List<Submitted> batch = new ArrayList<>();
+            try {
+                Submitted first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_APPEND);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            append(batch);
+        }
+    }
+
+    private void append(List<Submitted> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            synchronized (journal) {
+                journal.append(batch.stream().map(Submitted::entry).toList());
+                appended += batch.size();
+                for (Submitted submitted : batch) {
+                    if (submitted.entry().operation() == Operation.RESERVED) {
+                        journaled.add(submitted.pending());
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Erro ao gravar o journal de reservas: operations={}, error={}", batch.size(), e.getMessage(), e);
+            batch.forEach(submitted -> submitted.durable().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(submitted -> submitted.durable().complete(null));
+    }
+
+    private void tick() {
+        Duration delay = flushInterval;
+        try {
+            flush();
+            consecutiveFailures = 0;
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            delay = backoff(++consecutiveFailures);
+            logger.error("Erro ao gravar reservas no banco: failures={}, retryIn={}, error={}",
+                    consecutiveFailures, delay, e.getMessage(), e);
+        }
+        reschedule(delay);
+    }
+
+    private synchronized void reschedule(Duration delay) {
+        if (flusher != null) {
+            flusher.schedule(this::tick, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private Duration backoff(int attempt) {
+        long millis = flushInterval.toMillis() << Math.min(attempt, 20);
+        return Duration.ofMillis(Math.min(millis, maxBackoff.toMillis()));
+    }
+}
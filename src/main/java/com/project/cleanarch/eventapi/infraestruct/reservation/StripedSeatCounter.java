@@ -0,0 +1,155 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Assentos livres de um evento nesta instância, divididos em faixas para não disputar uma única variável
+ * - Caminho rápido, sem lock: a reserva é um CAS na faixa da thread (ou na próxima com saldo); a liberação, um getAndAdd
+ * - Caminho lento, com lock: recolhe o saldo de todas as faixas, completa com {@code refill} se não bastar
+ *   e redistribui o que sobrar
+ * - Sem overbooking: fora do lock nenhuma faixa fica negativa, e a soma das faixas com o saldo em mãos do caminho lento
+ *   é sempre assentos concedidos - assentos reservados
+ */
+public class StripedSeatCounter {
+
+    // Faixa recolhida pelo caminho lento: tão negativa que nenhum CAS do caminho rápido passa
+    private static final long FROZEN = Long.MIN_VALUE / 2;
+    // 16 longs (128 bytes) entre faixas vizinhas para que não caiam na mesma linha de cache
+    private static final int PADDING = 16;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private boolean closed;
+
+    public StripedSeatCounter(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+        this.mask = size - 1;
+    }
+
+    public int stripes() {
+        return mask + 1;
+    }
+
+    /**
+     * Reserva {@code seats}; {@code refill} recebe quantos assentos faltam e devolve quantos conseguiu (pode ser menos)
+     * Chamado com o lock do contador: demais reservas do evento que caírem no caminho lento esperam
+     */
+    public boolean reserve(int seats, IntUnaryOperator refill) {
+        if (tryReserve(seats)) {
+            return true;
+        }
+
+        lock.lock();
+        long available = 0;
+        try {
+            if (closed) {
+                return false;
+            }
+            available = collect();
+            if (available < seats) {
+                available += refill.applyAsInt((int) (seats - available));
+            }
+            if (available < seats) {
+                return false;
+            }
+            available -= seats;
+            return true;
+        } finally {
+            if (!closed) {
+                spread(available);
+            }
+            lock.unlock();
+        }
+    }
+
+    public void release(int seats) {
+        cells.getAndAdd(home(), seats);
+    }
+
+    /**
+     * Executa {@code action} com o lock do caminho lento, sem mexer nas faixas
+     */
+    public <T> T locked(Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Recolhe todo o saldo e fecha o contador: reservas seguintes são recusadas
+     * Liberações posteriores ainda são aceitas, mas não voltam a ficar disponíveis
+     */
+    public long close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return 0;
+            }
+            closed = true;
+            return collect();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Saldo aproximado: as faixas são lidas uma a uma, sem parar as reservas
+     */
+    public long available() {
+        long total = 0;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            long value = cells.get(stripe * PADDING);
+            total += value < FROZEN / 2 ? value - FROZEN : value;
+        }
+        return Math.max(0, total);
+    }
+
+    private boolean tryReserve(int seats) {
+        int start = home();
+        for (int probe = 0; probe <= mask; probe++) {
+            int index = ((start / PADDING + probe) & mask) * PADDING;
+            long current = cells.get(index);
+            while (current >= seats) {
+                long witness = cells.compareAndExchange(index, current, current - seats);
+                if (witness == current) {
+                    return true;
+                }
+                current = witness;
+            }
+        }
+        return false;
+    }
+
+    private long collect() {
+        // Cada faixa é trocada atomicamente pelo valor congelado: liberações concorrentes somam sobre ele e não se perdem
+        long total = 0;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            total += cells.getAndSet(stripe * PADDING, FROZEN);
+        }
+        return total;
+    }
+
+    private void spread(long available) {
+        int stripes = mask + 1;
+        long share = available / stripes;
+        long remainder = available % stripes;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            cells.getAndAdd(stripe * PADDING, share + (stripe < remainder ? 1 : 0) - FROZEN);
+        }
+    }
+
+    private int home() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return ((hash ^ (hash >>> 16)) & mask) * PADDING;
+    }
+}
@@ -0,0 +1,305 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+import com.project.cleanarch.eventapi.infraestruct.reservation.SeatReservationStore.Released;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Estoque de assentos em memória por evento, abastecido por leases de blocos no banco
+ * - Cada instância (nodeId) só vende o que o banco lhe concedeu em event_seat_leases; como a soma dos leases
+ *   nunca passa da capacidade, não há overbooking nem com várias instâncias vendendo o mesmo evento
+ * - Dentro da instância o saldo fica em um {@link StripedSeatCounter}; o banco só é consultado na primeira reserva
+ *   do evento e quando o saldo acaba (novo bloco de leaseBlock assentos, uma trava na linha do evento por bloco)
+ * - Esgotado, o evento só volta a ser consultado a cada soldOutRecheck, quando outra instância pode ter devolvido assentos
+ * - A reserva é confirmada quando chega ao journal local; o banco recebe em lote pelo {@link SeatReservationWriteBehind}
+ * - Reserva ainda no write-behind é liberada em memória; já gravada, pelo banco, onde a remoção da linha decide
+ *   entre liberações concorrentes, inclusive de outras instâncias
+ * - Os leases são renovados a cada leaseTtl/3; sem renovação há leaseTtl/2 a instância para de vender, bem antes
+ *   de o operador poder cercá-la (leaseTtl). Se a renovação volta depois de leaseTtl, os leases podem ter sido cercados:
+ *   o write-behind é gravado e os saldos em memória são descartados para serem lidos de novo do banco
+ */
+public class StripedSeatInventory implements SeatInventory, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(StripedSeatInventory.class);
+    private static final String METRIC_PREFIX = "events.reservations";
+    private static final long FLUSH_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private static final class EventSeats {
+
+        private final StripedSeatCounter counter;
+        // Guardados pelo lock do contador: se o saldo já inclui o que o banco tinha para esta instância
+        // e a partir de quando vale pedir lease de novo (evento esgotado)
+        private boolean loaded;
+        private long leaseRetryAt;
+
+        private EventSeats(StripedSeatCounter counter) {
+            this.counter = counter;
+            this.leaseRetryAt = System.nanoTime();
+        }
+    }
+
+    private final SeatReservationStore store;
+    private final SeatReservationWriteBehind writeBehind;
+    private final String nodeId;
+    private final int stripes;
+    private final int leaseBlock;
+    private final Duration soldOutRecheck;
+    private final Duration durableTimeout;
+    private final Duration leaseTtl;
+    private final ConcurrentMap<Long, EventSeats> events = new ConcurrentHashMap<>();
+    private final Counter reserved;
+    private final Counter soldOut;
+    private final Counter released;
+    private final Counter leases;
+
+    // Início da última renovação bem-sucedida (System.nanoTime): o prazo dos leases conta a partir dela
+    private volatile long renewedAt;
+    private ScheduledExecutorService heartbeat;
+
+    public StripedSeatInventory(SeatReservationStore store, SeatReservationWriteBehind writeBehind, String nodeId,
+                                int stripes, int leaseBlock, Duration soldOutRecheck, Duration durableTimeout,
+                                Duration leaseTtl, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.writeBehind = writeBehind;
+        this.nodeId = nodeId;
+        this.stripes = stripes;
+        this.leaseBlock = leaseBlock;
+        this.soldOutRecheck = soldOutRecheck;
+        this.durableTimeout = durableTimeout;
+        this.leaseTtl = leaseTtl;
+        this.renewedAt = System.nanoTime() - leaseTtl.toNanos();
+        this.reserved = Counter.builder(METRIC_PREFIX + ".reserved")
+                .description("Reservas confirmadas")
+                .register(meterRegistry);
+        this.soldOut = Counter.builder(METRIC_PREFIX + ".sold.out")
+                .description("Reservas recusadas por falta de assentos")
+                .register(meterRegistry);
+        this.released = Counter.builder(METRIC_PREFIX + ".released")
+                .description("Reservas liberadas")
+                .register(meterRegistry);
+        this.leases = Counter.builder(METRIC_PREFIX + ".leases")
+                .description("Pedidos de bloco de assentos ao banco")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Renova os leases antes da primeira reserva e agenda as renovações seguintes
+     * Sem a renovação inicial, um lease vencido desde a última execução poderia ser cercado depois de lido como saldo
+     */
+    public synchronized void start() {
+        if (heartbeat != null) {
+            return;
+        }
+        renew();
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, leaseTtl.toMillis() / 3);
+        heartbeat.scheduleWithFixedDelay(this::renew, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Optional<SeatReservation> reserve(Long eventId, int seats) {
+        if (System.nanoTime() - renewedAt > leaseTtl.toNanos() / 2) {
+            throw new IllegalStateException("Leases de assentos sem renovação: instância sem acesso ao banco");
+        }
+        EventSeats event = events.computeIfAbsent(eventId, id -> new EventSeats(new StripedSeatCounter(stripes)));
+        if (!event.counter.reserve(seats, missing -> refill(eventId, event, missing))) {
+            soldOut.increment();
+            return Optional.empty();
+        }
+
+        SeatReservation reservation = new SeatReservation(UUID.randomUUID().toString(), eventId, seats, LocalDateTime.now());
+        try {
+            await(writeBehind.reserved(reservation));
+        } catch (RuntimeException e) {
+            abandon(event, reservation);
+            throw e;
+        }
+        reserved.increment();
+        return Optional.of(reservation);
+    }
+
+    @Override
+    public boolean release(Long eventId, String reservationId) {
+        PendingReservation entry = writeBehind.pending(reservationId);
+        boolean done = entry != null && entry.reservation().eventId().equals(eventId)
+                ? releasePending(entry)
+                : releasePersisted(eventId, reservationId);
+        if (done) {
+            released.increment();
+        }
+        return done;
+    }
+
+    /**
+     * Fecha os contadores, grava o que estiver no write-behind e devolve ao banco os assentos concedidos e não vendidos
+     */
+    @Override
+    public void close() throws IOException {
+        ScheduledExecutorService currentHeartbeat;
+        synchronized (this) {
+            currentHeartbeat = heartbeat;
+            heartbeat = null;
+        }
+        if (currentHeartbeat != null) {
+            currentHeartbeat.shutdownNow();
+        }
+
+        Map<Long, Long> unsold = new HashMap<>();
+        events.forEach((eventId, event) -> event.counter.locked(() -> {
+            long available = event.counter.close();
+            if (event.loaded && available > 0) {
+                unsold.put(eventId, available);
+            }
+            return null;
+        }));
+
+        writeBehind.close();
+
+        unsold.forEach((eventId, seats) -> {
+            try {
+                store.returnLease(eventId, nodeId, seats.intValue());
+            } catch (RuntimeException e) {
+                // Sem a devolução os assentos continuam com esta instância e voltam ao saldo quando ela subir de novo
+                logger.warn("Erro ao devolver assentos não vendidos: eventId={}, seats={}, error={}", eventId, seats, e.getMessage());
+            }
+        });
+    }
+
+    private void renew() {
+        long started = System.nanoTime();
+        boolean expired = started - renewedAt >= leaseTtl.toNanos();
+        try {
+            if (expired) {
+                // Antes de reler os saldos: o banco passa a contar as reservas que ficaram no write-behind
+                writeBehind.flush();
+            }
+            store.renewLeases(nodeId);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Erro ao renovar os leases de assentos: nodeId={}, error={}", nodeId, e.getMessage(), e);
+            return;
+        }
+        if (expired) {
+            discardBalances();
+        }
+        renewedAt = started;
+    }
+
+    private void discardBalances() {
+        // Os leases podem ter sido cercados: a próxima reserva de cada evento lê de novo o saldo no banco
+        events.forEach((eventId, event) -> {
+            event.counter.close();
+            events.remove(eventId, event);
+        });
+    }
+
+    private int refill(Long eventId, EventSeats event, int missing) {
+        int held = event.loaded ? 0 : store.heldSeats(eventId, nodeId);
+        int granted = 0;
+        // Esgotado, o evento só volta ao banco depois de soldOutRecheck: sem isso cada recusa travaria a linha do evento
+        if (held < missing && System.nanoTime() - event.leaseRetryAt >= 0) {
+            granted = store.lease(eventId, nodeId, Math.max(missing - held, leaseBlock));
+            leases.increment();
+            if (held + granted < missing) {
+                event.leaseRetryAt = System.nanoTime() + soldOutRecheck.toNanos();
+            }
+        }
+        // Só depois do lease: se ele falhar, o saldo do banco é lido de novo na próxima tentativa
+        event.loaded = true;
+        return held + granted;
+    }
+
+    private boolean releasePending(PendingReservation entry) {
+        long deadline = System.nanoTime() + durableTimeout.toNanos();
+        while (true) {
+            if (entry.release()) {
+                // Os assentos voltam só depois da liberação estar no journal: antes disso uma queda recuperaria a reserva
+                await(writeBehind.released(entry));
+                // Sem contador (saldos descartados), o banco já conta estes assentos como livres para a instância
+                EventSeats event = events.get(entry.reservation().eventId());
+                if (event != null) {
+                    event.counter.release(entry.reservation().seats());
+                }
+                return true;
+            }
+
+            switch (entry.state()) {
+                case RELEASED -> {
+                    return false;
+                }
+                case FLUSHED -> {
+                    return releasePersisted(entry.reservation().eventId(), entry.reservation().id());
+                }
+                default -> {
+                    // Lote do write-behind em andamento: espera o resultado (FLUSHED, ou PENDING se o banco falhar)
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new IllegalStateException("Reserva presa na gravação do write-behind: " + entry.reservation().id());
+                    }
+                    LockSupport.parkNanos(FLUSH_WAIT_NANOS);
+                }
+            }
+        }
+    }
+
+    private boolean releasePersisted(Long eventId, String reservationId) {
+        EventSeats event = events.get(eventId);
+        if (event == null) {
+            // Sem contador nesta instância: se for dela, a primeira reserva do evento já lê o banco sem esta linha
+            return store.delete(eventId, reservationId, nodeId).isPresent();
+        }
+
+        return event.counter.locked(() -> {
+            Optional<Released> removed = store.delete(eventId, reservationId, nodeId);
+            // Antes da primeira carga o saldo ainda não existe: ela já vai ler o banco sem esta reserva
+            removed.filter(reservation -> event.loaded && reservation.nodeId().equals(nodeId))
+                    .ifPresent(reservation -> event.counter.release(reservation.seats()));
+            return removed.isPresent();
+        });
+    }
+
+    private void abandon(EventSeats event, SeatReservation reservation) {
+        PendingReservation entry = writeBehind.pending(reservation.id());
+        if (entry != null && entry.release()) {
+            writeBehind.released(entry).thenRun(() -> event.counter.release(reservation.seats()));
+        } else {
+            logger.warn("Reserva gravada apesar da falha na confirmação: eventId={}, reservationId={}",
+                    reservation.eventId(), reservation.id());
+        }
+    }
+
+    private void await(CompletableFuture<Void> durable) {
+        try {
+            durable.get(durableTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o journal de reservas", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Operação não confirmada no journal de reservas", e);
+        }
+    }
+}
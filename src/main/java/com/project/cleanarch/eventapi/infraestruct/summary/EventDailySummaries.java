@@ -0,0 +1,58 @@
+package com.project.cleanarch.eventapi.infraestruct.summary;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSummaryState;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mantém event_daily_summaries na mesma transação das escritas em events
+ * Cada escrita informa o estado dos eventos antes e depois; as diferenças por (dia, tipo, status)
+ * viram um único batch de upserts incrementais, em ordem de chave primária
+ * Deve ser o último passo da transação: o lock na linha do resumo é compartilhado por todos os eventos do mesmo dia
+ */
+@Component
+@RequiredArgsConstructor
+public class EventDailySummaries {
+
+    private static final String UPSERT_DELTA = """
+            INSERT INTO event_daily_summaries (summary_day, type, status, event_count, total_capacity)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE event_count = event_count + ?, total_capacity = total_capacity + ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(List<EventSummaryState> before, List<EventSummaryState> after) {
+        Map<EventSummaryKey, long[]> deltas = new TreeMap<>();
+        before.forEach(state -> accumulate(deltas, state, -1));
+        after.forEach(state -> accumulate(deltas, state, 1));
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            if (delta[0] != 0 || delta[1] != 0) {
+                rows.add(new Object[]{Date.valueOf(key.day()), key.type().name(), key.status().name(),
+                        delta[0], delta[1], delta[0], delta[1]});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_DELTA, rows);
+        }
+    }
+
+    private static void accumulate(Map<EventSummaryKey, long[]> deltas, EventSummaryState state, int sign) {
+        long[] delta = deltas.computeIfAbsent(EventSummaryKey.of(state), key -> new long[2]);
+        delta[0] += sign;
+        delta[1] += (long) sign * state.capacity();
+    }
+}
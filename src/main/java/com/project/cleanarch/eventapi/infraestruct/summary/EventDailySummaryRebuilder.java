@@ -0,0 +1,186 @@
+package com.project.cleanarch.eventapi.infraestruct.summary;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Recalcula event_daily_summaries a partir de events para corrigir desvios
+ * (escritas fora da aplicação, falhas antigas), uma janela de dias por transação
+ * - As linhas do resumo da janela são lidas com FOR UPDATE: escritas concorrentes nesses dias esperam o fim da janela
+ *   e aplicam o incremento sobre o valor já recalculado (depende do REPEATABLE READ padrão do InnoDB)
+ * - Só as linhas divergentes são regravadas; a quantidade corrigida é exposta em events.summaries.drift
+ */
+public class EventDailySummaryRebuilder implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventDailySummaryRebuilder.class);
+    private static final String METRIC_PREFIX = "events.summaries";
+
+    private static final String BOUNDS = """
+            SELECT MIN(day_bound) AS first_day, MAX(day_bound) AS last_day FROM (
+                SELECT CAST(MIN(start_at) AS DATE) AS day_bound FROM events
+                UNION ALL SELECT CAST(MAX(start_at) AS DATE) FROM events
+                UNION ALL SELECT MIN(summary_day) FROM event_daily_summaries
+                UNION ALL SELECT MAX(summary_day) FROM event_daily_summaries
+            ) bounds
+            """;
+    private static final String LOCK_WINDOW = """
+            SELECT summary_day, type, status, event_count, total_capacity
+            FROM event_daily_summaries
+            WHERE summary_day >= ? AND summary_day < ?
+            FOR UPDATE
+            """;
+    private static final String AGGREGATE_WINDOW = """
+            SELECT CAST(start_at AS DATE) AS summary_day, type, status, COUNT(*) AS event_count, SUM(capacity) AS total_capacity
+            FROM events
+            WHERE start_at >= ? AND start_at < ?
+            GROUP BY CAST(start_at AS DATE), type, status
+            """;
+    private static final String UPSERT_ABSOLUTE = """
+            INSERT INTO event_daily_summaries (summary_day, type, status, event_count, total_capacity)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE event_count = ?, total_capacity = ?
+            """;
+    private static final Totals EMPTY = new Totals(0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final int windowDays;
+    private final Timer rebuildTimer;
+    private final Counter drift;
+
+    private ScheduledExecutorService scheduler;
+
+    public EventDailySummaryRebuilder(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                                      Duration window, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.windowDays = (int) Math.max(1, window.toDays());
+        this.rebuildTimer = Timer.builder(METRIC_PREFIX + ".rebuild")
+                .description("Tempo para recalcular todo o resumo diário")
+                .register(meterRegistry);
+        this.drift = Counter.builder(METRIC_PREFIX + ".drift")
+                .description("Linhas do resumo diário corrigidas pelo rebuild")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Recalcula todos os dias com eventos ou com linhas no resumo; devolve quantas linhas foram corrigidas
+     */
+    public long rebuild() {
+        Long corrected = rebuildTimer.record(() -> {
+            Map<String, Object> bounds = jdbcTemplate.queryForMap(BOUNDS);
+            if (bounds.get("first_day") == null) {
+                return 0L;
+            }
+
+            LocalDate first = toLocalDate(bounds.get("first_day"));
+            LocalDate last = toLocalDate(bounds.get("last_day"));
+            long total = 0;
+            for (LocalDate from = first; !from.isAfter(last); from = from.plusDays(windowDays)) {
+                total += rebuildWindow(from, from.plusDays(windowDays));
+            }
+            return total;
+        });
+        long count = corrected == null ? 0 : corrected;
+        if (count > 0) {
+            logger.warn("Resumo diário corrigido pelo rebuild: rows={}", count);
+        }
+        return count;
+    }
+
+    /**
+     * Recalcula os dias em [from, to) em uma transação
+     */
+    public int rebuildWindow(LocalDate from, LocalDate to) {
+        Integer corrected = transactionOperations.execute(status -> {
+            Map<EventSummaryKey, Totals> stored = read(LOCK_WINDOW, Date.valueOf(from), Date.valueOf(to));
+            Map<EventSummaryKey, Totals> actual = read(AGGREGATE_WINDOW, Timestamp.valueOf(from.atStartOfDay()), Timestamp.valueOf(to.atStartOfDay()));
+
+            List<Object[]> rows = new ArrayList<>();
+            TreeSet<EventSummaryKey> keys = new TreeSet<>(stored.keySet());
+            keys.addAll(actual.keySet());
+            for (EventSummaryKey key : keys) {
+                Totals expected = actual.getOrDefault(key, EMPTY);
+                if (!Objects.equals(expected, stored.getOrDefault(key, EMPTY))) {
+                    rows.add(new Object[]{Date.valueOf(key.day()), key.type().name(), key.status().name(),
+                            expected.eventCount(), expected.totalCapacity(), expected.eventCount(), expected.totalCapacity()});
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_ABSOLUTE, rows);
+            }
+            return rows.size();
+        });
+        int count = corrected == null ? 0 : corrected;
+        drift.increment(count);
+        return count;
+    }
+
+    public synchronized void start(Duration interval) {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-summary-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // Uma exceção aqui cancelaria as execuções seguintes do agendamento
+            logger.error("Erro no rebuild do resumo diário: error={}", e.getMessage(), e);
+        }
+    }
+
+    private Map<EventSummaryKey, Totals> read(String sql, Object... args) {
+        Map<EventSummaryKey, Totals> rows = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            rows.put(new EventSummaryKey(resultSet.getDate("summary_day").toLocalDate(),
+                            EventType.valueOf(resultSet.getString("type")), EventStatusEnum.valueOf(resultSet.getString("status"))),
+                    new Totals(resultSet.getLong("event_count"), resultSet.getLong("total_capacity")));
+        }, args);
+        return rows;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : LocalDate.parse(value.toString());
+    }
+
+    private record Totals(long eventCount, long totalCapacity) {
+    }
+}
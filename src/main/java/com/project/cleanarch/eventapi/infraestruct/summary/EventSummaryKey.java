@@ -0,0 +1,29 @@
+package com.project.cleanarch.eventapi.infraestruct.summary;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSummaryState;
+
+/**
+ * Chave de uma linha de event_daily_summaries
+ * A ordem natural é a da chave primária: escrever as linhas sempre nessa ordem evita deadlock entre transações
+ */
+record EventSummaryKey(LocalDate day, EventType type, EventStatusEnum status) implements Comparable<EventSummaryKey> {
+
+    private static final Comparator<EventSummaryKey> PRIMARY_KEY_ORDER = Comparator
+            .comparing(EventSummaryKey::day)
+            .thenComparing(key -> key.type().name())
+            .thenComparing(key -> key.status().name());
+
+    static EventSummaryKey of(EventSummaryState state) {
+        return new EventSummaryKey(state.day(), state.type(), state.status());
+    }
+
+    @Override
+    public int compareTo(EventSummaryKey other) {
+        return PRIMARY_KEY_ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,21 @@
+-- Estoque de assentos: leases por instância e reservas gravadas pelo write-behind
+-- Sem foreign key para events de propósito: a checagem da FK trava a linha do evento em modo compartilhado
+-- a cada INSERT, e é justamente essa linha que a reserva de assentos não pode disputar
+CREATE TABLE event_seat_leases (
+    event_id BIGINT NOT NULL,
+    node_id VARCHAR(64) NOT NULL,
+    leased_seats INT NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (event_id, node_id)
+);
+
+CREATE TABLE event_seat_reservations (
+    id CHAR(36) NOT NULL PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    node_id VARCHAR(64) NOT NULL,
+    seats INT NOT NULL,
+    reserved_at TIMESTAMP(6) NOT NULL
+);
+
+-- Saldo da instância na primeira reserva do evento: SUM(seats) por (event_id, node_id)
+CREATE INDEX idx_seat_reservations_event_node ON event_seat_reservations (event_id, node_id, seats);
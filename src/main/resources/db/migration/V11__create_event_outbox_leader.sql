@@ -0,0 +1,7 @@
+-- Líder do relay da outbox: uma linha por relay, com dono e prazo renovados pelo líder
+-- Só o líder lê e publica a outbox, sem lock nas linhas de event_outbox (que bloquearia os INSERTs das escritas)
+CREATE TABLE event_outbox_leader (
+    name VARCHAR(64) NOT NULL PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL
+);
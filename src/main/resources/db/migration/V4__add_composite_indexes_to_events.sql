@@ -0,0 +1,5 @@
+CREATE INDEX idx_events_status_start_at ON events (status, start_at);
+CREATE INDEX idx_events_type_start_at ON events (type, start_at);
+CREATE INDEX idx_events_type_status_start_at ON events (type, status, start_at);
+CREATE INDEX idx_events_start_at ON events (start_at);
+CREATE INDEX idx_events_end_at ON events (end_at);
@@ -0,0 +1,6 @@
+-- MySQL não possui sequences: o Hibernate emula a sequence events_seq com esta tabela (otimizador pooled-lo)
+CREATE TABLE events_seq (
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO events_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM events;
@@ -0,0 +1,2 @@
+-- Versão para controle otimista de concorrência: todo UPDATE confere e incrementa
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0 AFTER cancel_reason;
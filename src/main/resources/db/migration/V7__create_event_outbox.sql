@@ -0,0 +1,10 @@
+-- Outbox das alterações de eventos: gravada na mesma transação da alteração e drenada pelo EventOutboxRelay
+-- AUTO_INCREMENT em vez de sequence em blocos: o id é atribuído no INSERT, feito com o lock da linha do evento,
+-- então duas alterações do mesmo evento sempre recebem ids na ordem em que foram confirmadas, mesmo entre instâncias
+CREATE TABLE event_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    event_id BIGINT NOT NULL,
+    change_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,17 @@
+-- Faixa de duração (EventDurationClass, pelo ordinal) para a busca por sobreposição de janela
+-- O default 6 (UNBOUNDED) nunca esconde um evento: linhas gravadas fora da aplicação só perdem o range estreito
+ALTER TABLE events ADD COLUMN duration_class TINYINT NOT NULL DEFAULT 6;
+
+UPDATE events
+SET duration_class = CASE
+    WHEN TIMESTAMPDIFF(SECOND, start_at, end_at) <= 3600 THEN 0
+    WHEN TIMESTAMPDIFF(SECOND, start_at, end_at) <= 14400 THEN 1
+    WHEN TIMESTAMPDIFF(SECOND, start_at, end_at) <= 86400 THEN 2
+    WHEN TIMESTAMPDIFF(SECOND, start_at, end_at) <= 604800 THEN 3
+    WHEN TIMESTAMPDIFF(SECOND, start_at, end_at) <= 2678400 THEN 4
+    WHEN TIMESTAMPDIFF(SECOND, start_at, end_at) <= 31622400 THEN 5
+    ELSE 6
+END;
+
+-- Uma faixa de start_at por classe: a consulta de sobreposição vira um range scan com até 7 intervalos
+CREATE INDEX idx_events_duration_class_start_at ON events (duration_class, start_at);
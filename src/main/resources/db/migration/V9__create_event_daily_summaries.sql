@@ -0,0 +1,15 @@
+-- Contagens por (dia, tipo, status) mantidas na mesma transação das escritas em events
+-- A chave primária começa pelo dia: o dashboard lê um range de poucas linhas, sem tocar em events
+CREATE TABLE event_daily_summaries (
+    summary_day DATE NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    event_count BIGINT NOT NULL,
+    total_capacity BIGINT NOT NULL,
+    PRIMARY KEY (summary_day, type, status)
+);
+
+INSERT INTO event_daily_summaries (summary_day, type, status, event_count, total_capacity)
+SELECT CAST(start_at AS DATE), type, status, COUNT(*), SUM(capacity)
+FROM events
+GROUP BY CAST(start_at AS DATE), type, status;
@@ -0,0 +1,37 @@
+package com.project.cleanarch.eventapi;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Base para testes que precisam de um MySQL real (índices FULLTEXT, EXPLAIN, benchmarks)
+ * O container é compartilhado entre as classes e as migrations do Flyway são aplicadas nele
+ * Execute com {@code ./gradlew integrationTest}
+ */
+@Tag("integration")
+@SpringBootTest
+public abstract class AbstractMySqlIntegrationTest {
+
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        MYSQL.start();
+    }
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("events.reservations.enabled", () -> "true");
+        registry.add("events.reservations.node-id", () -> "integration-test");
+        registry.add("events.reservations.journal",
+                () -> Path.of("build", "reservations", UUID.randomUUID() + ".journal").toAbsolutePath().toString());
+    }
+}
@@ -0,0 +1,113 @@
+package com.project.cleanarch.eventapi;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Carga concorrente igual para os dois modos de execução (platform threads x virtual threads)
+ * Cada subclasse sobe a aplicação com o seu profile; compare as medições registradas pelo {@link BenchmarkReport}
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "server.tomcat.threads.max=50")
+abstract class AbstractThroughputBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int ROWS = 5_000;
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1_000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("benchmark.requests", 20);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+    protected abstract String mode();
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp startAt = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[]{"event " + i, "throughput-" + i, startAt, startAt, "Location", 100});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status)
+                VALUES (?, ?, ?, ?, ?, ?, 'CONFERENCE', 'OPEN')
+                """, rows);
+    }
+
+    @Test
+    @DisplayName("Deve medir vazão e latência sob rajada de clientes concorrentes")
+    void shouldMeasureThroughputAndLatencyUnderBurst() throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CLIENTS);
+            for (int client = 0; client < CLIENTS; client++) {
+                int offset = client * REQUESTS_PER_CLIENT;
+                futures.add(clients.submit(() -> runClient(offset, latencies, failures)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Arrays.sort(latencies);
+        BenchmarkReport.publish(getClass(), mode(), Map.of("clients", CLIENTS, "requests", latencies.length,
+                "requestsPerSecond", latencies.length / seconds, "p50Millis", percentile(latencies, 0.50),
+                "p99Millis", percentile(latencies, 0.99), "maxMillis", latencies[latencies.length - 1] / 1_000_000.0));
+        assertEquals(0, failures.get());
+    }
+
+    private void runClient(int offset, long[] latencies, AtomicInteger failures) {
+        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(
+                    "http://localhost:" + port + "/api/events?size=20&page=" + ((offset + i) % 100))).GET().build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failures.incrementAndGet();
+            }
+            latencies[offset + i] = System.nanoTime() - start;
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.cleanarch.eventapi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Métricas medidas pelos testes de benchmark
+ * Tempo de parede depende da máquina, então não vira asserção: cada medição vai para o log e para
+ * {@code build/results/benchmark/<classe>.json} (como o resultsFile do JMH), para comparar execuções
+ */
+public final class BenchmarkReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(BenchmarkReport.class);
+    private static final Path DIRECTORY = Path.of(System.getProperty("user.dir"), "build", "results", "benchmark");
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final Map<Class<?>, Map<String, Map<String, Object>>> RESULTS = new LinkedHashMap<>();
+
+    private BenchmarkReport() {
+    }
+
+    public static synchronized void publish(Class<?> test, String measurement, Map<String, ?> metrics) {
+        Map<String, Object> values = new TreeMap<>();
+        metrics.forEach((name, value) -> values.put(name, value instanceof Double d ? Math.round(d * 1000) / 1000.0 : value));
+        logger.info("[benchmark] {} {} {}", test.getSimpleName(), measurement, values);
+
+        Map<String, Map<String, Object>> results = RESULTS.computeIfAbsent(test, key -> new LinkedHashMap<>());
+        results.put(measurement, values);
+        try {
+            Files.createDirectories(DIRECTORY);
+            MAPPER.writeValue(DIRECTORY.resolve(test.getSimpleName() + ".json").toFile(), results);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.cleanarch.eventapi;
+
+import org.junit.jupiter.api.DisplayName;
+
+@DisplayName("Vazão com platform threads (pool do Tomcat)")
+class PlatformThreadsThroughputBenchmarkTest extends AbstractThroughputBenchmarkTest {
+
+    @Override
+    protected String mode() {
+        return "platform-threads";
+    }
+}
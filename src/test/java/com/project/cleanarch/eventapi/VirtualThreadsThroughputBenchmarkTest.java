@@ -0,0 +1,14 @@
+package com.project.cleanarch.eventapi;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("virtual-threads")
+@DisplayName("Vazão com virtual threads e connection gate")
+class VirtualThreadsThroughputBenchmarkTest extends AbstractThroughputBenchmarkTest {
+
+    @Override
+    protected String mode() {
+        return "virtual-threads";
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.cleanarch.eventapi.core.domain.enums;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("EventDurationClass")
+class EventDurationClassTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Test
+    @DisplayName("Deve incluir o limite da faixa na própria faixa")
+    void shouldIncludeUpperBound() {
+        assertEquals(EventDurationClass.UP_TO_1_HOUR, EventDurationClass.of(START, START.plusHours(1)));
+        assertEquals(EventDurationClass.UP_TO_4_HOURS, EventDurationClass.of(START, START.plusHours(1).plusSeconds(1)));
+        assertEquals(EventDurationClass.UP_TO_1_WEEK, EventDurationClass.of(START, START.plusDays(7)));
+    }
+
+    @Test
+    @DisplayName("Deve classificar eventos muito longos ou sem datas como UNBOUNDED")
+    void shouldFallBackToUnbounded() {
+        assertEquals(EventDurationClass.UNBOUNDED, EventDurationClass.of(START, START.plusYears(2)));
+        assertEquals(EventDurationClass.UNBOUNDED, EventDurationClass.of(null, START));
+    }
+
+    @Test
+    @DisplayName("UNBOUNDED deve ser a última faixa: o ordinal dela é o default da coluna duration_class")
+    void shouldKeepUnboundedAsColumnDefault() {
+        assertEquals(6, EventDurationClass.UNBOUNDED.ordinal());
+        assertEquals(EventDurationClass.values().length - 1, EventDurationClass.UNBOUNDED.ordinal());
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.cleanarch.eventapi.core.domain.model;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("EventCursor")
+class EventCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar o cursor preservando startAt e id")
+    void shouldRoundTripCursor() {
+        EventCursor cursor = new EventCursor(LocalDateTime.of(2025, 8, 1, 9, 0, 30, 123_000_000), 42L);
+
+        assertEquals(cursor, EventCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar nulo quando o cursor não é informado")
+    void shouldReturnNullWhenCursorIsBlank() {
+        assertNull(EventCursor.decode(null));
+        assertNull(EventCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o cursor é inválido")
+    void shouldFailWhenCursorIsInvalid() {
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> EventCursor.decode("not-a-cursor"));
+
+        assertEquals("event.cursor.invalid", exception.getCode());
+    }
+}
@@ -1,6 +1,9 @@
 package com.project.cleanarch.eventapi.core.domain.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +19,9 @@ import com.project.cleanarch.eventapi.core.gateway.EventRepository;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -149,6 +155,57 @@ class EventDomainServiceTest {
         assertEquals("event.cancel.reason.required", exception.getCode());
     }
 
+    @Test
+    @DisplayName("Deve validar lote com uma única consulta de unicidade")
+    void shouldValidateBatchWithSingleUniquenessQuery() {
+        Event existing = withIdentifier("existing");
+        Event fresh = withIdentifier("fresh");
+        Event invalidCapacity = new Event("Test Event", "Description", "no-seats", LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), "Location", 0, EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+        when(eventRepository.findExistingIdentifiers(anyCollection())).thenReturn(Set.of("existing"));
+
+        Map<Integer, BusinessException> violations =
+                eventDomainService.validateEventsCreation(List.of(existing, fresh, fresh, invalidCapacity));
+
+        assertEquals(Set.of(0, 2, 3), violations.keySet());
+        assertEquals("event.already.exists", violations.get(0).getCode());
+        assertEquals("event.already.exists", violations.get(2).getCode());
+        verify(eventRepository, times(1)).findExistingIdentifiers(anyCollection());
+        verify(eventRepository, never()).existsByIdentifier("fresh");
+    }
+
+    @Test
+    @DisplayName("Deve validar reserva de assentos em evento aberto")
+    void shouldValidateSeatReservationSuccessfully() {
+        assertDoesNotThrow(() -> eventDomainService.validateSeatReservation(withIdentifier("open"), 100));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o evento não está aberto para reservas")
+    void shouldFailWhenEventIsClosedForReservation() {
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> eventDomainService.validateSeatReservation(createValidEvent(), 1));
+
+        assertEquals("event.reservation.closed", exception.getCode());
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando a quantidade de assentos é inválida")
+    void shouldFailWhenSeatRequestIsInvalid() {
+        Event event = withIdentifier("open");
+
+        assertEquals("event.reservation.seats.invalid", assertThrows(BusinessException.class,
+                () -> eventDomainService.validateSeatReservation(event, 0)).getCode());
+        assertEquals("event.reservation.seats.invalid", assertThrows(BusinessException.class,
+                () -> eventDomainService.validateSeatReservation(event, 101)).getCode());
+    }
+
+    private Event withIdentifier(String identifier) {
+        Event event = createValidEvent();
+        return new Event(event.name(), event.description(), identifier, event.startAt(), event.endAt(),
+                event.location(), event.capacity(), event.type(), EventStatusEnum.OPEN, null);
+    }
+
     private Event createValidEvent() {
         return new Event(
                 "Test Event",
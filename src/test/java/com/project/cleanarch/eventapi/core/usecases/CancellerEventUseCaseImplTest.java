@@ -0,0 +1,75 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+@DisplayName("CancellerEventUseCaseImpl")
+class CancellerEventUseCaseImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventDomainService eventDomainService;
+
+    @Mock
+    private EventCache eventCache;
+
+    private CancellerEventUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CancellerEventUseCaseImpl(eventRepository, eventDomainService, eventCache);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar com um único UPDATE sem carregar a entidade")
+    void shouldCancelWithSingleUpdate() {
+        when(eventRepository.cancel(1L, "chuva")).thenReturn(1);
+
+        useCase.execute(1L, "chuva");
+
+        verify(eventCache).evict(1L);
+        verify(eventRepository, never()).findById(any());
+        verify(eventRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Deve informar que o evento já estava cancelado quando nenhuma linha muda e o evento existe")
+    void shouldReportAlreadyCancelled() {
+        when(eventRepository.cancel(1L, "chuva")).thenReturn(0);
+        when(eventRepository.existsById(1L)).thenReturn(true);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> useCase.execute(1L, "chuva"));
+
+        assertEquals("event.already.cancelled", exception.getCode());
+        verify(eventCache, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve informar evento não encontrado quando nenhuma linha muda e o evento não existe")
+    void shouldReportNotFound() {
+        when(eventRepository.cancel(1L, "chuva")).thenReturn(0);
+        when(eventRepository.existsById(1L)).thenReturn(false);
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> useCase.execute(1L, "chuva"));
+
+        assertEquals("event.delete.not.found", exception.getCode());
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.EventBulkCancellation;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+@DisplayName("CancellerEventsByFilterUseCaseImpl")
+class CancellerEventsByFilterUseCaseImplTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventDomainService eventDomainService;
+
+    @Mock
+    private EventCache eventCache;
+
+    private CancellerEventsByFilterUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CancellerEventsByFilterUseCaseImpl(eventRepository, eventDomainService, eventCache, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Deve somar os blocos cancelados, invalidar o cache de cada evento e devolver os ids quando solicitado")
+    void shouldCancelInChunksAndEvictEachEvent() {
+        EventFilterDTO filters = EventFilterDTO.builder().location("Recife").build();
+        whenCancelByFilters(filters, List.of(1L, 2L), List.of(5L));
+
+        EventBulkCancellation result = useCase.execute(filters, "chuva", true);
+
+        assertEquals(3, result.cancelled());
+        assertEquals(List.of(1L, 2L, 5L), result.ids());
+        verify(eventCache).evict(1L);
+        verify(eventCache).evict(2L);
+        verify(eventCache).evict(5L);
+    }
+
+    @Test
+    @DisplayName("Não deve acumular ids quando não solicitados")
+    void shouldOmitIdsWhenNotRequested() {
+        EventFilterDTO filters = EventFilterDTO.builder().location("Recife").build();
+        whenCancelByFilters(filters, List.of(1L, 2L));
+
+        EventBulkCancellation result = useCase.execute(filters, "chuva", false);
+
+        assertEquals(2, result.cancelled());
+        assertNull(result.ids());
+    }
+
+    @Test
+    @DisplayName("Deve recusar filtro sem critérios para não cancelar todos os eventos")
+    void shouldRejectFilterWithoutCriteria() {
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> useCase.execute(new EventFilterDTO(), "chuva", false));
+
+        assertEquals("event.cancel.filter.required", exception.getCode());
+        verify(eventRepository, never()).cancelByFilters(any(), anyString(), anyInt(), any());
+    }
+
+    @SafeVarargs
+    private void whenCancelByFilters(EventFilterDTO filters, List<Long>... chunks) {
+        when(eventRepository.cancelByFilters(eq(filters), eq("chuva"), eq(CHUNK_SIZE), any())).thenAnswer(invocation -> {
+            Consumer<List<Long>> consumer = invocation.getArgument(3);
+            int cancelled = 0;
+            for (List<Long> chunk : chunks) {
+                consumer.accept(chunk);
+                cancelled += chunk.size();
+            }
+            return cancelled;
+        });
+    }
+}
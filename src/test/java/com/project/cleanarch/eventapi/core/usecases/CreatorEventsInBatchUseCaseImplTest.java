@@ -0,0 +1,135 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.dao.DataAccessResourceFailureException;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+@DisplayName("CreatorEventsInBatchUseCaseImpl")
+class CreatorEventsInBatchUseCaseImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventMapper eventMapper;
+
+    @Mock
+    private EventDomainService eventDomainService;
+
+    @Mock
+    private EventCache eventCache;
+
+    private CreatorEventsInBatchUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreatorEventsInBatchUseCaseImpl(eventRepository, eventMapper, eventDomainService, eventCache, 2, 10);
+    }
+
+    @Test
+    @DisplayName("Deve salvar apenas os itens válidos em chunks e preservar a posição de cada resultado")
+    void shouldSaveValidItemsInChunksPreservingPositions() {
+        List<Event> events = List.of(event("a"), event("b"), event("c"), event("d"));
+        when(eventDomainService.validateEventsCreation(events))
+                .thenReturn(Map.of(1, new BusinessException("event.already.exists", "b")));
+        when(eventMapper.toEntity(any(Event.class))).thenAnswer(invocation -> entity(invocation.getArgument(0)));
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        List<EventBatchItemResult> results = useCase.execute(events);
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("event.already.exists", results.get(1).errorCode());
+        assertEquals("c", results.get(2).identifier());
+        assertTrue(results.get(3).isCreated());
+        verify(eventRepository, times(2)).saveAll(anyList());
+        verify(eventCache, times(3)).evict(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar somente os itens do chunk que falhou")
+    void shouldRejectOnlyItemsOfFailedChunk() {
+        List<Event> events = List.of(event("a"), event("b"), event("c"));
+        when(eventDomainService.validateEventsCreation(events)).thenReturn(Map.of());
+        when(eventMapper.toEntity(any(Event.class))).thenAnswer(invocation -> entity(invocation.getArgument(0)));
+        when(eventRepository.saveAll(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("connection reset"))
+                .thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+        List<EventBatchItemResult> results = useCase.execute(events);
+
+        assertEquals("event.creation.failed", results.get(0).errorCode());
+        assertEquals("event.creation.failed", results.get(1).errorCode());
+        assertTrue(results.get(2).isCreated());
+    }
+
+    @Test
+    @DisplayName("Deve recusar lotes acima do limite configurado")
+    void shouldRefuseBatchAboveLimit() {
+        List<Event> events = IntStream.range(0, 11).mapToObj(i -> event("e" + i)).toList();
+
+        BusinessException exception = assertThrows(BusinessException.class, () -> useCase.execute(events));
+
+        assertEquals("event.batch.too.large", exception.getCode());
+        verify(eventRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o banco quando todos os itens são inválidos")
+    void shouldNotTouchDatabaseWhenAllItemsAreInvalid() {
+        List<Event> events = List.of(event("a"));
+        when(eventDomainService.validateEventsCreation(events))
+                .thenReturn(Map.of(0, new BusinessException("event.invalid.capacity")));
+
+        List<EventBatchItemResult> results = useCase.execute(events);
+
+        assertFalse(results.get(0).isCreated());
+        verify(eventRepository, never()).saveAll(anyList());
+    }
+
+    private Event event(String identifier) {
+        return new Event("Event " + identifier, null, identifier, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), "Location", 10, EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+    }
+
+    private EventEntity entity(Event event) {
+        EventEntity entity = new EventEntity();
+        entity.setIdentifier(event.identifier());
+        return entity;
+    }
+
+    private List<EventEntity> withIds(List<EventEntity> entities) {
+        entities.forEach(entity -> entity.setId((long) entity.getIdentifier().hashCode()));
+        return entities;
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+import com.project.cleanarch.eventapi.infraestruct.config.EventBatchProperties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Criação de eventos: item a item x lote")
+class EventBatchInsertBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5_000);
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private CreatorEventsInBatchUseCase creatorEventsInBatchUseCase;
+
+    @Autowired
+    private EventBatchProperties batchProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    @DisplayName("Deve inserir as mesmas linhas item a item e em lote, registrando a vazão de cada caminho")
+    void shouldInsertItemByItemAndInBatch() {
+        List<Event> single = events("single", ROWS);
+        long start = System.nanoTime();
+        single.forEach(creatorEventUseCase::execute);
+        double singleRowsPerSecond = ROWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        // Requisições de até events.batch.max-items, como um cliente faria com um volume maior que o limite
+        List<Event> batch = events("batch", ROWS);
+        List<EventBatchItemResult> results = new ArrayList<>();
+        start = System.nanoTime();
+        for (int from = 0; from < ROWS; from += batchProperties.maxItems()) {
+            results.addAll(creatorEventsInBatchUseCase.execute(batch.subList(from, Math.min(ROWS, from + batchProperties.maxItems()))));
+        }
+        double batchRowsPerSecond = ROWS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        BenchmarkReport.publish(getClass(), "insert", Map.of("rows", ROWS, "maxItems", batchProperties.maxItems(),
+                "singleRowsPerSecond", singleRowsPerSecond, "batchRowsPerSecond", batchRowsPerSecond,
+                "speedup", batchRowsPerSecond / singleRowsPerSecond));
+        assertEquals(ROWS, results.size());
+        assertTrue(results.stream().allMatch(EventBatchItemResult::isCreated));
+        assertEquals(2L * ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events", Long.class));
+    }
+
+    private List<Event> events(String prefix, int count) {
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Event("Event " + i, null, prefix + "-" + i, base.plusMinutes(i), base.plusMinutes(i + 60),
+                        "Location", 100, EventType.CONFERENCE, EventStatusEnum.OPEN, null))
+                .toList();
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.core.domain.model.EventBulkCancellation;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestPropertySource(properties = "events.bulk-cancel.chunk-size=7")
+@DisplayName("Cancelamento por filtro em blocos")
+class EventBulkCancellationTest extends AbstractMySqlIntegrationTest {
+
+    @Autowired
+    private CancellerEventsByFilterUseCase cancellerEventsByFilterUseCase;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Timestamp startAt = Timestamp.valueOf(base.plusHours(i));
+            String status = i % 10 == 0 ? "CANCELLED" : "OPEN";
+            rows.add(new Object[]{"event " + i, "bulk-" + i, startAt, startAt, i % 2 == 0 ? "Recife" : "Natal", status});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status)
+                VALUES (?, ?, ?, ?, ?, 100, 'CONFERENCE', ?)
+                """, rows);
+    }
+
+    @Test
+    @DisplayName("Cancela só os eventos do filtro ainda não cancelados, atravessando vários blocos")
+    void shouldCancelMatchingEventsAcrossChunks() {
+        EventFilterDTO filters = EventFilterDTO.builder().location("Recife").build();
+
+        EventBulkCancellation result = cancellerEventsByFilterUseCase.execute(filters, "venue fechado", true);
+
+        // 20 eventos em Recife, 4 deles já cancelados (i % 10 == 0)
+        assertEquals(16, result.cancelled());
+        assertEquals(16, result.ids().size());
+        assertEquals(16, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM events WHERE cancel_reason = 'venue fechado' AND status = 'CANCELLED' AND version = 1", Integer.class));
+        assertEquals(20, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM events WHERE location = 'Natal' AND status = 'OPEN'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Repetir o cancelamento não altera nenhum evento")
+    void shouldBeIdempotent() {
+        EventFilterDTO filters = EventFilterDTO.builder().location("Recife").build();
+        cancellerEventsByFilterUseCase.execute(filters, "venue fechado", false);
+
+        EventBulkCancellation again = cancellerEventsByFilterUseCase.execute(filters, "outro motivo", false);
+
+        assertEquals(0, again.cancelled());
+    }
+
+    @Test
+    @DisplayName("Chunk sem tamanho é recusado em vez de repetir o mesmo bloco para sempre")
+    void shouldRejectNonPositiveChunkSize() {
+        EventFilterDTO filters = EventFilterDTO.builder().location("Recife").build();
+
+        assertThrows(IllegalArgumentException.class, () -> eventRepository.cancelByFilters(filters, "venue fechado", 0, ids -> {
+        }));
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events WHERE status = 'CANCELLED'", Integer.class));
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Atualização e cancelamento concorrentes do mesmo evento")
+class EventContentionBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 16);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("benchmark.operations", 200);
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private UpdateEventUseCase updateEventUseCase;
+
+    @Autowired
+    private CancellerEventUseCase cancellerEventUseCase;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    @DisplayName("Toda atualização aceita incrementa a versão uma única vez; as demais são recusadas como conflito")
+    void shouldNeverLoseAcceptedUpdates() throws Exception {
+        Long id = createEvent("contended-update");
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        double opsPerSecond = race(thread -> {
+            for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                try {
+                    updateEventUseCase.execute(id, event("contended-update", "Event " + thread + "-" + i));
+                    accepted.incrementAndGet();
+                } catch (BusinessException e) {
+                    assertEquals("event.update.conflict", e.getCode());
+                    conflicts.incrementAndGet();
+                }
+            }
+            return null;
+        }, THREADS * OPERATIONS_PER_THREAD);
+
+        long version = jdbcTemplate.queryForObject("SELECT version FROM events WHERE id = ?", Long.class, id);
+        BenchmarkReport.publish(getClass(), "update", Map.of("threads", THREADS, "opsPerSecond", opsPerSecond,
+                "accepted", accepted.get(), "conflicts", conflicts.get()));
+        assertEquals(accepted.get(), version);
+        assertTrue(accepted.get() > 0);
+    }
+
+    @Test
+    @DisplayName("Somente um cancelamento concorrente é aplicado; os demais recebem event.already.cancelled")
+    void shouldApplySingleCancellation() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+            ids.add(createEvent("contended-cancel-" + i));
+        }
+        AtomicInteger cancelled = new AtomicInteger();
+        AtomicInteger alreadyCancelled = new AtomicInteger();
+
+        double opsPerSecond = race(thread -> {
+            for (Long id : ids) {
+                try {
+                    cancellerEventUseCase.execute(id, "motivo " + thread);
+                    cancelled.incrementAndGet();
+                } catch (BusinessException e) {
+                    assertEquals("event.already.cancelled", e.getCode());
+                    alreadyCancelled.incrementAndGet();
+                }
+            }
+            return null;
+        }, THREADS * ids.size());
+
+        BenchmarkReport.publish(getClass(), "cancel", Map.of("threads", THREADS, "opsPerSecond", opsPerSecond,
+                "cancelled", cancelled.get(), "alreadyCancelled", alreadyCancelled.get()));
+        assertEquals(ids.size(), cancelled.get());
+        assertEquals((THREADS - 1) * ids.size(), alreadyCancelled.get());
+        assertTrue(ids.stream().allMatch(id -> eventRepository.findById(id).orElseThrow().getVersion() == 1));
+    }
+
+    private double race(ThreadTask task, int operations) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int current = thread;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    return task.run(current);
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            return operations / ((System.nanoTime() - begin) / 1_000_000_000.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long createEvent(String identifier) {
+        creatorEventUseCase.execute(event(identifier, "Event"));
+        return jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = ?", Long.class, identifier);
+    }
+
+    private static Event event(String identifier, String name) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new Event(name, null, identifier, start, start.plusHours(2), "Location", 100,
+                EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        Void run(int thread) throws Exception;
+    }
+}
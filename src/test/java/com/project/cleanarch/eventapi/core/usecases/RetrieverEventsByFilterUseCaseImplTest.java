@@ -0,0 +1,76 @@
+package com.project.cleanarch.eventapi.core.usecases;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import com.project.cleanarch.eventapi.core.domain.enums.PageCountMode;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+@DisplayName("RetrieverEventsByFilterUseCaseImpl")
+class RetrieverEventsByFilterUseCaseImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private RetrieverEventsByFilterUseCaseImpl useCase;
+
+    private final EventFilterDTO filter = EventFilterDTO.builder().name("tech").build();
+    private final Pageable pageable = PageRequest.of(2, 2);
+
+    @BeforeEach
+    void setUp() {
+        useCase = new RetrieverEventsByFilterUseCaseImpl(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar fatia sem executar contagem no modo NONE")
+    void shouldReturnSliceWithoutCountWhenModeIsNone() {
+        when(eventRepository.findSliceByFilters(filter, pageable)).thenReturn(slice(true));
+
+        Slice<EventDTO> result = useCase.execute(filter, pageable, PageCountMode.NONE);
+
+        assertFalse(result instanceof Page);
+        assertTrue(result.hasNext());
+        verify(eventRepository, never()).findByFilters(any(), any());
+        verify(eventRepository, never()).estimateCountByFilters(any());
+    }
+
+    @Test
+    @DisplayName("Deve usar o total estimado sem ficar abaixo do que a fatia comprova")
+    void shouldNeverReportLessThanSliceProvesWhenModeIsEstimated() {
+        when(eventRepository.findSliceByFilters(filter, pageable)).thenReturn(slice(true));
+        when(eventRepository.estimateCountByFilters(filter)).thenReturn(3L);
+
+        Slice<EventDTO> result = useCase.execute(filter, pageable, PageCountMode.ESTIMATED);
+
+        Page<EventDTO> page = assertInstanceOf(Page.class, result);
+        assertEquals(7L, page.getTotalElements());
+        verify(eventRepository, never()).findByFilters(any(), any());
+    }
+
+    private Slice<EventDTO> slice(boolean hasNext) {
+        EventDTO event = EventDTO.builder().name("Tech").identifier("tech").location("Location").capacity(10).build();
+        return new SliceImpl<>(List.of(event, event), pageable, hasNext);
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.Limits;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("AdmissionFilter")
+class AdmissionFilterTest {
+
+    private AdmissionFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        OriginAdmissionControl admissionControl = new OriginAdmissionControl(Map.of(
+                AdmissionBudget.SEARCH, new Limits(0.001, 1, 1),
+                AdmissionBudget.BY_ID, new Limits(1000, 1000, 1)),
+                Set.of(), 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        filter = new AdmissionFilter(admissionControl, new ObjectMapper(), new StaticMessageSource(), false);
+    }
+
+    @Test
+    @DisplayName("Deve classificar buscas, leitura por ID e deixar escritas de fora")
+    void shouldClassifyRequests() {
+        assertEquals(AdmissionBudget.SEARCH, AdmissionFilter.budgetOf(request("GET", "/api/events/search")));
+        assertEquals(AdmissionBudget.SEARCH, AdmissionFilter.budgetOf(request("GET", "/api/events")));
+        assertEquals(AdmissionBudget.BY_ID, AdmissionFilter.budgetOf(request("GET", "/api/events/42")));
+        assertNull(AdmissionFilter.budgetOf(request("POST", "/api/events")));
+        assertNull(AdmissionFilter.budgetOf(request("GET", "/api/events/42/reservations")));
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 429 e Retry-After quando a origem esgota o orçamento")
+    void shouldRejectWithRetryAfter() throws Exception {
+        assertEquals(200, execute(request("GET", "/api/events/search")).getStatus());
+
+        MockHttpServletResponse rejected = execute(request("GET", "/api/events/search"));
+
+        assertEquals(429, rejected.getStatus());
+        assertTrue(Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER)) >= 1);
+        assertTrue(rejected.getContentAsString().contains("request.rate.limited"));
+    }
+
+    @Test
+    @DisplayName("Sem x-app-origin a requisição passa direto quando anonymous está isento")
+    void shouldExemptAnonymousRequests() throws Exception {
+        OriginAdmissionControl admissionControl = new OriginAdmissionControl(Map.of(
+                AdmissionBudget.SEARCH, new Limits(0.001, 1, 1),
+                AdmissionBudget.BY_ID, new Limits(1000, 1000, 1)),
+                Set.of(), 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        filter = new AdmissionFilter(admissionControl, new ObjectMapper(), new StaticMessageSource(), true);
+
+        assertEquals(200, execute(new MockHttpServletRequest("GET", "/api/events/search")).getStatus());
+        assertEquals(200, execute(new MockHttpServletRequest("GET", "/api/events/search")).getStatus());
+        assertEquals(200, execute(request("GET", "/api/events/search")).getStatus());
+        assertEquals(429, execute(request("GET", "/api/events/search")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão de concorrência ao terminar a requisição")
+    void shouldReleaseConcurrencyAfterResponse() throws Exception {
+        assertEquals(200, execute(request("GET", "/api/events/1")).getStatus());
+        assertEquals(200, execute(request("GET", "/api/events/1")).getStatus());
+    }
+
+    @Test
+    @DisplayName("Em resposta assíncrona a permissão só volta quando o processamento termina")
+    void shouldReleaseAsyncResponseOnComplete() throws Exception {
+        MockHttpServletRequest async = request("GET", "/api/events/1");
+        async.setAsyncSupported(true);
+        MockFilterChain startsAsync = new MockFilterChain(new HttpServlet() {
+        }) {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                request.startAsync();
+            }
+        };
+        filter.doFilter(async, new MockHttpServletResponse(), startsAsync);
+
+        assertEquals(429, execute(request("GET", "/api/events/1")).getStatus());
+
+        async.getAsyncContext().complete();
+        assertEquals(200, execute(request("GET", "/api/events/1")).getStatus());
+    }
+
+    private MockHttpServletResponse execute(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader(ApiConstants.Headers.X_APP_ORIGIN, "app");
+        return request;
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GcraRateLimiter")
+class GcraRateLimiterTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("Deve admitir a rajada inteira e recusar a seguinte informando a espera")
+    void shouldAdmitBurstThenReject() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 5);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire(now));
+        }
+
+        assertEquals(SECOND / 10, limiter.tryAcquire(now));
+    }
+
+    @Test
+    @DisplayName("Deve liberar uma permissão a cada intervalo, sem acumular além da rajada")
+    void shouldRefillAtConfiguredRate() {
+        GcraRateLimiter limiter = new GcraRateLimiter(10, 2);
+        long now = 0;
+        assertEquals(0, limiter.tryAcquire(now));
+        assertEquals(0, limiter.tryAcquire(now));
+
+        now += SECOND / 10;
+        assertEquals(0, limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now) > 0);
+
+        now += 60 * SECOND;
+        assertEquals(0, limiter.tryAcquire(now));
+        assertEquals(0, limiter.tryAcquire(now));
+        assertTrue(limiter.tryAcquire(now) > 0);
+    }
+
+    @Test
+    @DisplayName("Sob disputa admite exatamente a rajada; nenhum CAS perdido vira permissão extra")
+    void shouldNeverAdmitMoreThanBurstUnderContention() throws Exception {
+        int burst = 10_000;
+        int attemptsPerThread = 20_000;
+        GcraRateLimiter limiter = new GcraRateLimiter(0.001, burst);
+        long now = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int admitted = 0;
+                    for (int i = 0; i < attemptsPerThread; i++) {
+                        if (limiter.tryAcquire(now) == 0) {
+                            admitted++;
+                        }
+                    }
+                    return admitted;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            int admitted = 0;
+            for (Future<Integer> future : futures) {
+                admitted += future.get();
+            }
+            double opsPerSecond = THREADS * (double) attemptsPerThread / ((System.nanoTime() - begin) / 1_000_000_000.0);
+
+            BenchmarkReport.publish(getClass(), "gcra", Map.of("threads", THREADS, "opsPerSecond", opsPerSecond, "admitted", admitted));
+            assertEquals(burst, admitted);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
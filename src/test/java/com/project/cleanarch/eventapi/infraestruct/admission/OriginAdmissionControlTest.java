@@ -0,0 +1,116 @@
+package com.project.cleanarch.eventapi.infraestruct.admission;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.Admission;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.Limits;
+import com.project.cleanarch.eventapi.infraestruct.admission.OriginAdmissionControl.RejectReason;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("OriginAdmissionControl")
+class OriginAdmissionControlTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private OriginAdmissionControl admissionControl;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        admissionControl = new OriginAdmissionControl(Map.of(
+                AdmissionBudget.SEARCH, new Limits(1, 2, 1),
+                AdmissionBudget.BY_ID, new Limits(100, 100, 10)),
+                Set.of("app"), 100, Duration.ofMinutes(10), meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("Uma origem que esgota o orçamento de busca não afeta outras origens nem a leitura por ID")
+    void shouldIsolateOriginsAndBudgets() {
+        admit("noisy", AdmissionBudget.SEARCH).release();
+        admit("noisy", AdmissionBudget.SEARCH).release();
+
+        Admission rejected = admissionControl.tryAdmit("noisy", AdmissionBudget.SEARCH);
+
+        assertEquals(RejectReason.RATE, rejected.rejected());
+        assertEquals(TimeUnit.SECONDS.toNanos(1), rejected.retryAfterNanos());
+        assertTrue(admissionControl.tryAdmit("quiet", AdmissionBudget.SEARCH).admitted());
+        assertTrue(admissionControl.tryAdmit("noisy", AdmissionBudget.BY_ID).admitted());
+    }
+
+    @Test
+    @DisplayName("Deve recusar por concorrência sem gastar permissão da taxa e readmitir após o release")
+    void shouldCapConcurrencyPerOrigin() {
+        Admission inFlight = admit("app", AdmissionBudget.SEARCH);
+
+        Admission rejected = admissionControl.tryAdmit("app", AdmissionBudget.SEARCH);
+        assertEquals(RejectReason.CONCURRENCY, rejected.rejected());
+
+        inFlight.release();
+        assertTrue(admissionControl.tryAdmit("app", AdmissionBudget.SEARCH).admitted());
+    }
+
+    @Test
+    @DisplayName("Requisições sem x-app-origin dividem o orçamento anônimo")
+    void shouldShareAnonymousBudget() {
+        admit(null, AdmissionBudget.SEARCH).release();
+        admit("  ", AdmissionBudget.SEARCH).release();
+
+        assertFalse(admissionControl.tryAdmit(null, AdmissionBudget.SEARCH).admitted());
+    }
+
+    @Test
+    @DisplayName("Deve exportar admitidas e recusadas por origem, orçamento e motivo")
+    void shouldExportMetricsPerOrigin() {
+        admit("app", AdmissionBudget.SEARCH).release();
+        admissionControl.tryAdmit("app", AdmissionBudget.SEARCH).release();
+        admissionControl.tryAdmit("app", AdmissionBudget.SEARCH);
+
+        assertEquals(2, meterRegistry.get("events.admission.admitted")
+                .tags("origin", "app", "budget", "search").counter().count());
+        assertEquals(1, meterRegistry.get("events.admission.rejected")
+                .tags("origin", "app", "budget", "search", "reason", "rate").counter().count());
+    }
+
+    @Test
+    @DisplayName("Origens fora de known-origins somam na série other")
+    void shouldTagUnknownOriginsAsOther() {
+        admit("random-1", AdmissionBudget.SEARCH).release();
+        admit("random-2", AdmissionBudget.SEARCH).release();
+
+        assertEquals(2, meterRegistry.get("events.admission.admitted")
+                .tags("origin", "other", "budget", "search").counter().count());
+        assertTrue(meterRegistry.find("events.admission.admitted").tag("origin", "random-1").meters().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Bucket expirado remove as séries da origem sem zerar o teto de quem ainda está em andamento")
+    void shouldRemoveMetersAndKeepConcurrencyOnExpiry() {
+        Admission inFlight = admit("app", AdmissionBudget.SEARCH);
+
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        admissionControl.tryAdmit("quiet", AdmissionBudget.SEARCH).release();
+
+        assertTrue(meterRegistry.find("events.admission.admitted").tag("origin", "app").meters().isEmpty());
+        assertEquals(RejectReason.CONCURRENCY, admissionControl.tryAdmit("app", AdmissionBudget.SEARCH).rejected());
+        inFlight.release();
+        assertTrue(admissionControl.tryAdmit("app", AdmissionBudget.SEARCH).admitted());
+    }
+
+    private Admission admit(String origin, AdmissionBudget budget) {
+        Admission admission = admissionControl.tryAdmit(origin, budget);
+        assertTrue(admission.admitted());
+        return admission;
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.EventRevision;
+import com.project.cleanarch.eventapi.core.domain.model.VersionedEvent;
+import com.project.cleanarch.eventapi.infraestruct.config.EventByIdCacheProperties;
+import com.project.cleanarch.eventapi.infraestruct.config.ReadReplicaProperties;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.DataSourceRoutingContext;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReplicaSelection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CaffeineEventCache")
+class CaffeineEventCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CaffeineEventCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cache(Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve carregar uma única vez e servir as leituras seguintes do cache")
+    void shouldLoadOnceAndServeFromCache() {
+        VersionedEvent event = createEvent();
+
+        cache.get(1L, id -> load(Optional.of(event)));
+        Optional<VersionedEvent> cached = cache.get(1L, id -> load(Optional.of(event)));
+
+        assertEquals(Optional.of(event), cached);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CaffeineEventCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve cachear IDs inexistentes até a invalidação")
+    void shouldCacheMissingIdsUntilEvicted() {
+        cache.get(2L, id -> load(Optional.empty()));
+        assertTrue(cache.get(2L, id -> load(Optional.of(createEvent()))).isEmpty());
+
+        cache.evict(2L);
+
+        assertTrue(cache.get(2L, id -> load(Optional.of(createEvent()))).isPresent());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Carga feita numa leitura roteada para réplica continua na réplica e vive no máximo max-lag")
+    void shouldBoundReplicaLoadsByMaxLag() {
+        cache = cache(Duration.ZERO);
+        VersionedEvent event = createEvent();
+
+        onReplica(() -> cache.get(3L, id -> {
+            assertTrue(DataSourceRoutingContext.isReadOnly());
+            return load(Optional.of(event));
+        }));
+        onReplica(() -> cache.get(3L, id -> load(Optional.of(event))));
+        assertEquals(2, loads.get());
+
+        cache.get(4L, id -> load(Optional.of(event)));
+        cache.get(4L, id -> load(Optional.of(event)));
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Leitura presa ao primário recarrega o valor vindo de réplica e passa a compartilhá-lo")
+    void shouldReplaceReplicaValueWhenReadingOnPrimary() {
+        VersionedEvent event = createEvent();
+
+        onReplica(() -> cache.get(5L, id -> load(Optional.empty())));
+        assertTrue(cache.get(5L, id -> load(Optional.of(event))).isPresent());
+        assertTrue(onReplica(() -> cache.get(5L, id -> load(Optional.empty()))).isPresent());
+
+        assertEquals(2, loads.get());
+    }
+
+    private CaffeineEventCache cache(Duration maxLag) {
+        return new CaffeineEventCache(new EventByIdCacheProperties(100, Duration.ofMinutes(5), Duration.ofSeconds(30)),
+                new ReadReplicaProperties(true, ReplicaSelection.ROUND_ROBIN, Duration.ofSeconds(5), maxLag,
+                        Duration.ofSeconds(5), Duration.ofSeconds(1), List.of()),
+                meterRegistry);
+    }
+
+    private static <T> T onReplica(Supplier<T> read) {
+        boolean previous = DataSourceRoutingContext.enterReadOnly();
+        try {
+            return read.get();
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+        }
+    }
+
+    private Optional<VersionedEvent> load(Optional<VersionedEvent> result) {
+        loads.incrementAndGet();
+        return result;
+    }
+
+    private VersionedEvent createEvent() {
+        Event event = new Event("Test Event", "Description", "test-event", LocalDateTime.now().plusDays(1),
+                LocalDateTime.now().plusDays(2), "Location", 100, EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+        return new VersionedEvent(event, new EventRevision(1L, 0, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,153 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventsInBatchUseCase;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Sem o cache de resultados: a partir da segunda rodada ele atenderia a busca antes da coalescência
+@TestPropertySource(properties = "events.cache.search.enabled=false")
+@DisplayName("Coalescência de leituras idênticas sob thundering herd")
+class EventReadCoalescingBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 64);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 50);
+    private static final int EVENTS = 2_000;
+    // Sem coalescência seria 1 consulta por requisição; os limites deixam folga para threads que chegam após a consulta
+    private static final double MAX_SEARCH_QUERIES_PER_REQUEST = 0.2;
+    // A leitura por chave primária termina antes de toda a rodada chegar, então sobram mais consultas por rodada
+    private static final double MAX_BY_ID_QUERIES_PER_REQUEST = 0.4;
+
+    @Autowired
+    private CreatorEventsInBatchUseCase creatorEventsInBatchUseCase;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM events");
+        List<Event> events = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < EVENTS; i++) {
+            events.add(new Event("Herd " + i, null, "herd-" + i, start.plusMinutes(i), start.plusMinutes(i + 60),
+                    i % 2 == 0 ? "Arena" : "Teatro", 100, EventType.CONFERENCE, EventStatusEnum.PUBLISHED, null));
+        }
+        for (int from = 0; from < EVENTS; from += 500) {
+            creatorEventsInBatchUseCase.execute(events.subList(from, from + 500));
+        }
+    }
+
+    @Test
+    @DisplayName("A mesma busca disparada por todas as threads vira poucas consultas, com o mesmo resultado para todas")
+    void shouldCoalesceIdenticalSearches() throws Exception {
+        EventFilterDTO filter = new EventFilterDTO();
+        filter.setLocation("arena");
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by("startAt"));
+        Page<EventDTO> expected = eventRepository.findByFilters(filter, pageable);
+
+        double queriesPerRequest = herd("events.search.page", () -> {
+            // Filtro equivalente escrito de outro jeito: a normalização faz as duas formas compartilharem a consulta
+            EventFilterDTO same = new EventFilterDTO();
+            same.setLocation("  ARENA ");
+            Page<EventDTO> page = eventRepository.findByFilters(same, pageable);
+            assertEquals(identifiers(expected), identifiers(page));
+            assertEquals(expected.getTotalElements(), page.getTotalElements());
+            return null;
+        });
+
+        assertTrue(queriesPerRequest <= MAX_SEARCH_QUERIES_PER_REQUEST,
+                () -> "consultas por requisição: " + queriesPerRequest);
+    }
+
+    @Test
+    @DisplayName("A leitura por ID disparada por todas as threads vira poucas consultas")
+    void shouldCoalesceIdenticalFindById() throws Exception {
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = 'herd-0'", Long.class);
+
+        double queriesPerRequest = herd("events.by-id", () -> {
+            assertEquals("herd-0", eventRepository.findById(id).orElseThrow().getIdentifier());
+            return null;
+        });
+
+        assertTrue(queriesPerRequest <= MAX_BY_ID_QUERIES_PER_REQUEST,
+                () -> "consultas por requisição: " + queriesPerRequest);
+    }
+
+    /**
+     * Todas as threads disparam a mesma leitura ao mesmo tempo, ROUNDS vezes; devolve as consultas feitas por requisição
+     */
+    private double herd(String flight, Callable<Void> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            double before = executions(flight);
+            CyclicBarrier barrier = new CyclicBarrier(THREADS);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        barrier.await();
+                        request.call();
+                    }
+                    return null;
+                }));
+            }
+
+            long begin = System.nanoTime();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+            int requests = THREADS * ROUNDS;
+            double queries = executions(flight) - before;
+            BenchmarkReport.publish(getClass(), flight, Map.of("threads", THREADS, "requests", requests,
+                    "queriesPerRequest", queries / requests, "opsPerSecond", requests / seconds));
+            return queries / requests;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double executions(String flight) {
+        return meterRegistry.get("events.singleflight.executions").tag("flight", flight).counter().count();
+    }
+
+    private static List<String> identifiers(Page<EventDTO> page) {
+        return page.getContent().stream().map(EventDTO::getIdentifier).toList();
+    }
+}
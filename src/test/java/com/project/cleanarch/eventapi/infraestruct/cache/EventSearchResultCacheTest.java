@@ -0,0 +1,219 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.config.EventCoalescingProperties;
+import com.project.cleanarch.eventapi.infraestruct.config.EventSearchCacheProperties;
+import com.project.cleanarch.eventapi.infraestruct.config.ReadReplicaProperties;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.DataSourceRoutingContext;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReplicaSelection;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EventSearchResultCache")
+class EventSearchResultCacheTest {
+
+    private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by("startAt"));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EventSearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cache(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Filtros equivalentes com a mesma página compartilham o resultado; outra página consulta de novo")
+    void shouldServeEquivalentFiltersFromCache() {
+        search(filter(" arena ", EventType.CONFERENCE), PAGE);
+        search(filter("ARENA", EventType.CONFERENCE), PAGE);
+        search(filter("arena", EventType.CONFERENCE), PageRequest.of(1, 20, Sort.by("startAt")));
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0 / 3, meterRegistry.get("events.search.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Uma escrita invalida só a partição do seu tipo e as buscas sem tipo")
+    void shouldInvalidateOnlyAffectedPartitions() {
+        search(filter("arena", EventType.CONFERENCE), PAGE);
+        search(filter("arena", EventType.WORKSHOP), PAGE);
+        search(filter("arena", null), PAGE);
+
+        cache.invalidate(List.of(EventType.CONFERENCE));
+
+        search(filter("arena", EventType.CONFERENCE), PAGE);
+        search(filter("arena", EventType.WORKSHOP), PAGE);
+        search(filter("arena", null), PAGE);
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("Escrita de tipo desconhecido invalida todas as partições")
+    void shouldInvalidateEverythingForUnknownType() {
+        search(filter("arena", EventType.WORKSHOP), PAGE);
+
+        cache.invalidate(Arrays.asList((EventType) null));
+
+        search(filter("arena", EventType.WORKSHOP), PAGE);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Escrita confirmada durante a consulta deixa o resultado carregado já velho")
+    void shouldNotTrustResultLoadedAcrossWrite() {
+        cache.findByFilters(filter("arena", null), PAGE, version -> {
+            cache.invalidate(List.of(EventType.CONFERENCE));
+            return load();
+        });
+
+        search(filter("arena", null), PAGE);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Com maxStaleness serve o resultado da versão anterior até essa idade")
+    void shouldServeStaleWithinBound() {
+        cache = cache(Duration.ofHours(1));
+        search(filter("arena", EventType.CONFERENCE), PAGE);
+
+        cache.invalidate(List.of(EventType.CONFERENCE));
+        search(filter("arena", EventType.CONFERENCE), PAGE);
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("events.search.cache.requests").tag("result", "stale").counter().count());
+    }
+
+    @Test
+    @DisplayName("Quem enxerga a escrita não pega carona na consulta coalescida iniciada antes dela")
+    void shouldNotCoalesceAcrossWrite() throws Exception {
+        EventReadCoalescer coalescer = new EventReadCoalescer(new EventCoalescingProperties(true, 16), meterRegistry);
+        EventFilterDTO filter = filter("arena", EventType.CONFERENCE);
+        Page<EventDTO> beforeWrite = new PageImpl<>(List.of(), PAGE, 0);
+        Page<EventDTO> afterWrite = new PageImpl<>(List.of(), PAGE, 1);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Page<EventDTO>> leader = executor.submit(() -> cache.findByFilters(filter, PAGE,
+                    version -> coalescer.findByFilters(filter, PAGE, version, () -> {
+                        leaderStarted.countDown();
+                        await(releaseLeader);
+                        return beforeWrite;
+                    })));
+            assertTrue(leaderStarted.await(1, TimeUnit.SECONDS));
+
+            // A escrita é confirmada com a consulta do líder ainda em andamento
+            cache.invalidate(List.of(EventType.CONFERENCE));
+            Page<EventDTO> reader = cache.findByFilters(filter, PAGE,
+                    version -> coalescer.findByFilters(filter, PAGE, version, () -> afterWrite));
+            releaseLeader.countDown();
+
+            assertSame(afterWrite, reader);
+            assertSame(beforeWrite, leader.get(1, TimeUnit.SECONDS));
+            assertSame(afterWrite, cache.findByFilters(filter, PAGE, version -> load()));
+            assertEquals(0, loads.get());
+        } finally {
+            releaseLeader.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private EventSearchResultCache cache(Duration maxStaleness) {
+        return cache(maxStaleness, Duration.ofMinutes(5));
+    }
+
+    private EventSearchResultCache cache(Duration maxStaleness, Duration maxLag) {
+        return new EventSearchResultCache(new EventSearchCacheProperties(true, 100, Duration.ofMinutes(5), maxStaleness),
+                new ReadReplicaProperties(true, ReplicaSelection.ROUND_ROBIN, Duration.ofSeconds(5), maxLag,
+                        Duration.ofSeconds(5), Duration.ofSeconds(1), List.of()),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Resultado lido de réplica fica no cache no máximo max-lag; o do primário, pelo ttl")
+    void shouldBoundReplicaResultsByMaxLag() {
+        cache = cache(Duration.ZERO, Duration.ZERO);
+
+        onReplica(() -> cache.findByFilters(filter("arena", null), PAGE, version -> {
+            assertTrue(DataSourceRoutingContext.isReadOnly());
+            return load();
+        }));
+        onReplica(() -> search(filter("arena", null), PAGE));
+        assertEquals(2, loads.get());
+
+        search(filter("teatro", null), PAGE);
+        search(filter("teatro", null), PAGE);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Busca presa ao primário não reaproveita o resultado de réplica; o do primário serve às duas")
+    void shouldNotServeReplicaResultToPrimaryReads() {
+        onReplica(() -> search(filter("arena", null), PAGE));
+        search(filter("arena", null), PAGE);
+        onReplica(() -> search(filter("arena", null), PAGE));
+        search(filter("arena", null), PAGE);
+
+        assertEquals(2, loads.get());
+    }
+
+    private static void onReplica(Runnable read) {
+        boolean previous = DataSourceRoutingContext.enterReadOnly();
+        try {
+            read.run();
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+        }
+    }
+
+    private void search(EventFilterDTO filter, Pageable pageable) {
+        cache.findByFilters(filter, pageable, version -> load());
+    }
+
+    private Page<EventDTO> load() {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of(), PAGE, 0);
+    }
+
+    private static EventFilterDTO filter(String location, EventType type) {
+        EventFilterDTO filter = new EventFilterDTO();
+        filter.setLocation(location);
+        filter.setType(type);
+        return filter;
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("IdentifierBloomFilter")
+class IdentifierBloomFilterTest {
+
+    private static final int INSERTIONS = 50_000;
+
+    @Test
+    @DisplayName("Nunca deve produzir falso negativo")
+    void shouldNeverReportFalseNegatives() {
+        IdentifierBloomFilter filter = new IdentifierBloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).parallel().forEach(i -> filter.put("event-" + i));
+
+        assertTrue(IntStream.range(0, INSERTIONS).allMatch(i -> filter.mightContain("event-" + i)));
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falso positivo próxima da configurada")
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        IdentifierBloomFilter filter = new IdentifierBloomFilter(INSERTIONS, 0.01);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("event-" + i));
+
+        long falsePositives = IntStream.range(0, INSERTIONS).filter(i -> filter.mightContain("absent-" + i)).count();
+
+        assertTrue(falsePositives / (double) INSERTIONS < 0.02, "falsePositives=" + falsePositives);
+    }
+}
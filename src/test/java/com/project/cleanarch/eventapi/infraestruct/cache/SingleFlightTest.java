@@ -0,0 +1,132 @@
+package com.project.cleanarch.eventapi.infraestruct.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SingleFlight")
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Chamadas simultâneas com a mesma chave compartilham uma única execução")
+    void shouldShareSingleExecution() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", CALLERS, meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> flight.execute("key", () -> {
+            executions.incrementAndGet();
+            await(release);
+            return "value";
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals("other", flight.execute("key", () -> "other"));
+    }
+
+    @Test
+    @DisplayName("A falha da execução chega a todos que aguardavam")
+    void shouldPropagateFailureToWaiters() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", CALLERS, meterRegistry);
+        IllegalStateException failure = new IllegalStateException("banco fora");
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> flight.execute("key", () -> {
+            await(release);
+            throw failure;
+        }));
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> result.get(1, TimeUnit.SECONDS));
+            assertSame(failure, exception.getCause());
+        }
+    }
+
+    @Test
+    @DisplayName("Acima de maxWaiters as chamadas executam o próprio loader em vez de aguardar")
+    void shouldBoundWaiters() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>("test", 3, meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently(() -> flight.execute("key", () -> {
+            // Só a execução líder fica presa; as excedentes devolvem na hora
+            if (executions.incrementAndGet() == 1) {
+                await(release);
+            }
+            return "value";
+        }));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (executions.get() < CALLERS - 3 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("value", result.get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(CALLERS - 3, executions.get());
+        assertEquals(CALLERS - 4, meterRegistry.get("events.singleflight.overflow").counter().count());
+    }
+
+    private List<Future<String>> callConcurrently(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private void awaitCoalesced(int waiters) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("events.singleflight.coalesced").counter().count() < waiters
+                && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(waiters, meterRegistry.get("events.singleflight.coalesced").counter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
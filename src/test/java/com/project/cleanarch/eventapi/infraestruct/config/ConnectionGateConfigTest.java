@@ -0,0 +1,53 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ConnectionGateDataSource;
+import com.project.cleanarch.eventapi.infraestruct.persistence.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest(properties = {
+        "events.connection-gate.enabled=true",
+        "events.connection-gate.max-concurrent=4",
+        "events.read-replicas.enabled=true",
+        "events.read-replicas.nodes[0].url=jdbc:h2:mem:gate-replica;MODE=MySQL",
+        "events.read-replicas.nodes[0].username=sa"
+})
+@ActiveProfiles("test")
+@DisplayName("ConnectionGateConfig")
+class ConnectionGateConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve aplicar o gate só ao pool primário, abaixo do proxy de roteamento")
+    void shouldGateOnlyThePrimaryPoolBelowTheRoutingProxy() {
+        LazyConnectionDataSourceProxy lazy = assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+        ReadWriteRoutingDataSource routing = assertInstanceOf(ReadWriteRoutingDataSource.class, lazy.getTargetDataSource());
+        ConnectionGateDataSource gate = assertInstanceOf(ConnectionGateDataSource.class, routing.getTargetDataSource());
+        assertInstanceOf(HikariDataSource.class, gate.getTargetDataSource());
+    }
+
+    @Test
+    @DisplayName("Deve publicar as métricas do gate do primário")
+    void shouldPublishPrimaryGateMetrics() {
+        assertNotNull(meterRegistry.find("events.connection.gate.available").gauge());
+        assertNotNull(meterRegistry.find("events.connection.gate.waiting").gauge());
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.cleanarch.eventapi.infraestruct.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+import com.project.cleanarch.eventapi.infraestruct.reservation.DisabledSeatInventory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("EventReservationConfig")
+class EventReservationConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(EventReservationConfig.class, PropertiesConfig.class)
+            .withBean(JdbcTemplate.class, () -> mock(JdbcTemplate.class))
+            .withBean(TransactionOperations.class, () -> TransactionOperations.withoutTransaction())
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+    @Test
+    @DisplayName("Sobe sem node-id e journal quando as reservas estão desligadas")
+    void shouldStartWithoutNodeIdWhenDisabled() {
+        runner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(context).getBean(SeatInventory.class).isInstanceOf(DisabledSeatInventory.class);
+
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> context.getBean(SeatInventory.class).reserve(1L, 1));
+            assertEquals("event.reservation.disabled", exception.getCode());
+        });
+    }
+
+    @Test
+    @DisplayName("Falha ao subir sem node-id quando as reservas estão ligadas")
+    void shouldFailFastWithoutNodeIdWhenEnabled() {
+        runner.withPropertyValues("events.reservations.enabled=true")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().rootCause().hasMessageContaining("events.reservations.node-id"));
+    }
+
+    @EnableConfigurationProperties(EventReservationProperties.class)
+    static class PropertiesConfig {
+    }
+}
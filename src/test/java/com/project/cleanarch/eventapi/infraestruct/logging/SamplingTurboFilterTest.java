@@ -0,0 +1,71 @@
+package com.project.cleanarch.eventapi.infraestruct.logging;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SamplingTurboFilter")
+class SamplingTurboFilterTest {
+
+    private static final int LINES = 20_000;
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.addSample("com.example.reads=0.1");
+        filter.addSample("com.example.reads.ById=0");
+    }
+
+    @Test
+    @DisplayName("Deve manter aproximadamente a fração configurada das linhas INFO")
+    void shouldKeepConfiguredFractionOfInfoLines() {
+        Logger logger = context.getLogger("com.example.reads.Filter");
+
+        long kept = IntStream.range(0, LINES).filter(i -> decide(logger, Level.INFO, null) == FilterReply.NEUTRAL).count();
+
+        double ratio = kept / (double) LINES;
+        assertTrue(ratio > 0.08 && ratio < 0.12, "ratio=" + ratio);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a categoria mais específica")
+    void shouldApplyMostSpecificCategory() {
+        Logger logger = context.getLogger("com.example.reads.ById");
+
+        assertTrue(IntStream.range(0, 1_000).allMatch(i -> decide(logger, Level.INFO, null) == FilterReply.DENY));
+    }
+
+    @Test
+    @DisplayName("Nunca deve descartar WARN, ERROR ou linhas com exceção")
+    void shouldNeverDropWarningsErrorsOrThrowables() {
+        Logger logger = context.getLogger("com.example.reads.ById");
+
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.WARN, null));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.ERROR, null));
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO, new IllegalStateException()));
+    }
+
+    @Test
+    @DisplayName("Não deve amostrar categorias sem regra nem prefixos parciais")
+    void shouldIgnoreUnconfiguredCategories() {
+        assertEquals(FilterReply.NEUTRAL, decide(context.getLogger("com.example.writes.Creator"), Level.INFO, null));
+        assertEquals(FilterReply.NEUTRAL, decide(context.getLogger("com.example.readsX"), Level.INFO, null));
+    }
+
+    private FilterReply decide(Logger logger, Level level, Throwable t) {
+        return filter.decide(null, logger, level, "mensagem", null, t);
+    }
+}
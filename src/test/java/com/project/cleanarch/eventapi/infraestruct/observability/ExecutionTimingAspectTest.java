@@ -0,0 +1,113 @@
+package com.project.cleanarch.eventapi.infraestruct.observability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.service.EventDomainService;
+import com.project.cleanarch.eventapi.core.gateway.EventCache;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCaseImpl;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ExecutionTimingAspect")
+class ExecutionTimingAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutionTimingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new ExecutionTimingAspect(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve registrar sucesso e erro de negócio com o código da BusinessException")
+    void shouldTagOutcomeAndBusinessErrorCode() {
+        CancellerEventUseCase useCase = proxy((id, reason) -> {
+            if (reason == null) {
+                throw new BusinessException("event.cancel.reason.required");
+            }
+        });
+
+        useCase.execute(1L, "chuva");
+        useCase.execute(1L, "chuva");
+        assertThrows(BusinessException.class, () -> useCase.execute(1L, null));
+
+        assertEquals(2, count("success", "none"));
+        assertEquals(1, count("business_error", "event.cancel.reason.required"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar exceções inesperadas sem código")
+    void shouldTagUnexpectedErrors() {
+        CancellerEventUseCase useCase = proxy((id, reason) -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThrows(IllegalStateException.class, () -> useCase.execute(1L, "chuva"));
+
+        assertEquals(1, count("unexpected_error", "none"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar como inesperada a falha embrulhada pelo use case em BusinessException *.failed")
+    void shouldTagWrappedFailuresAsUnexpected() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.update(anyLong(), any(), any())).thenThrow(new IllegalStateException("conexão perdida"));
+        UpdateEventUseCaseImpl target = new UpdateEventUseCaseImpl(eventRepository, mock(EventMapper.class),
+                mock(EventDomainService.class), mock(EventCache.class));
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(UpdateEventUseCase.class);
+        factory.addAspect(aspect);
+        UpdateEventUseCase useCase = factory.getProxy();
+
+        BusinessException error = assertThrows(BusinessException.class, () -> useCase.execute(1L, current -> current, null));
+
+        assertEquals("event.update.failed", error.getCode());
+        assertEquals(1, count("unexpected_error", "event.update.failed"));
+        assertEquals(0, meterRegistry.find(ExecutionTimingAspect.USE_CASE_METRIC).tag("outcome", "business_error").timers().size());
+    }
+
+    @Test
+    @DisplayName("Deve registrar como inesperada a BusinessException que carrega uma causa")
+    void shouldTagBusinessExceptionWithCauseAsUnexpected() {
+        CancellerEventUseCase useCase = proxy((id, reason) -> {
+            BusinessException error = new BusinessException("event.cancel.reason.required");
+            error.initCause(new IllegalStateException("boom"));
+            throw error;
+        });
+
+        assertThrows(BusinessException.class, () -> useCase.execute(1L, "chuva"));
+
+        assertEquals(1, count("unexpected_error", "event.cancel.reason.required"));
+    }
+
+    private CancellerEventUseCase proxy(CancellerEventUseCase target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(CancellerEventUseCase.class);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private long count(String outcome, String code) {
+        return meterRegistry.get(ExecutionTimingAspect.USE_CASE_METRIC)
+                .tag("outcome", outcome)
+                .tag("code", code)
+                .timer()
+                .count();
+    }
+}
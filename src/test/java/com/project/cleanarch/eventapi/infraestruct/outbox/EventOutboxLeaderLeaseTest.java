@@ -0,0 +1,77 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("EventOutboxLeaderLease")
+class EventOutboxLeaderLeaseTest {
+
+    private static final String NAME = "lease-test";
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM event_outbox_leader");
+    }
+
+    @Test
+    @DisplayName("Só uma instância é líder enquanto o prazo vale")
+    void shouldElectSingleLeader() {
+        EventOutboxLeaderLease first = lease("node-a");
+        EventOutboxLeaderLease second = lease("node-b");
+
+        assertTrue(first.acquire());
+        assertFalse(second.acquire());
+        assertTrue(first.acquire());
+        assertEquals("node-a", owner());
+    }
+
+    @Test
+    @DisplayName("Outra instância assume quando o líder libera")
+    void shouldHandOverOnRelease() {
+        EventOutboxLeaderLease first = lease("node-a");
+        EventOutboxLeaderLease second = lease("node-b");
+        assertTrue(first.acquire());
+
+        first.release();
+
+        assertTrue(second.acquire());
+        assertEquals("node-b", owner());
+    }
+
+    @Test
+    @DisplayName("Outra instância assume quando o prazo do líder vence")
+    void shouldTakeOverExpiredLeader() {
+        assertTrue(lease("node-a").acquire());
+        jdbcTemplate.update("UPDATE event_outbox_leader SET expires_at = ?", Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+
+        assertTrue(lease("node-b").acquire());
+        assertEquals("node-b", owner());
+    }
+
+    private EventOutboxLeaderLease lease(String owner) {
+        return new EventOutboxLeaderLease(jdbcTemplate, NAME, owner, TTL);
+    }
+
+    private String owner() {
+        return jdbcTemplate.queryForObject("SELECT owner FROM event_outbox_leader WHERE name = ?", String.class, NAME);
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.core.domain.enums.EventChangeType;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventOutboxEntity;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventOutboxJpaRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+@DisplayName("EventOutboxRelay")
+class EventOutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private EventOutboxJpaRepository outboxRepository;
+
+    @Mock
+    private EventOutboxLeaderLease leader;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryEventChangeSink sink = new InMemoryEventChangeSink(100);
+
+    private EventOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(leader.acquire()).thenReturn(true);
+        relay = new EventOutboxRelay(outboxRepository, leader, sink, TransactionOperations.withoutTransaction(),
+                BATCH_SIZE, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(15), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve publicar em ordem de id e remover o lote publicado")
+    void shouldPublishInOrderAndDeleteBatch() {
+        when(outboxRepository.findNextBatch(Limit.of(BATCH_SIZE))).thenReturn(entries(1, 3));
+
+        int published = relay.publishNextBatch();
+
+        assertEquals(3, published);
+        assertEquals(List.of(1L, 2L, 3L), sink.messages().stream().map(EventChangeMessage::id).toList());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        assertEquals(3.0, meterRegistry.get("events.outbox.published").counter().count());
+        assertEquals(3, meterRegistry.get("events.outbox.delivery.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve continuar drenando enquanto os lotes vêm cheios")
+    void shouldDrainWhileBatchesAreFull() {
+        when(outboxRepository.findNextBatch(Limit.of(BATCH_SIZE)))
+                .thenReturn(entries(1, 3), entries(4, 6), entries(7, 7));
+
+        long published = relay.drain();
+
+        assertEquals(7, published);
+        assertEquals(7, sink.messages().size());
+    }
+
+    @Test
+    @DisplayName("Deve manter o lote na outbox quando o sink falha")
+    void shouldKeepBatchWhenSinkFails() {
+        EventChangeSink failingSink = mock(EventChangeSink.class);
+        doThrow(new IllegalStateException("broker indisponível")).when(failingSink).publish(any());
+        relay = new EventOutboxRelay(outboxRepository, leader, failingSink, TransactionOperations.withoutTransaction(),
+                BATCH_SIZE, Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofSeconds(15), new SimpleMeterRegistry());
+        when(outboxRepository.findNextBatch(Limit.of(BATCH_SIZE))).thenReturn(entries(1, 2));
+
+        assertThrows(IllegalStateException.class, relay::publishNextBatch);
+
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("Não deve ler a outbox quando outra instância é a líder")
+    void shouldSkipWhenNotLeader() {
+        when(leader.acquire()).thenReturn(false);
+
+        assertEquals(0, relay.drain());
+
+        verify(outboxRepository, never()).findNextBatch(any());
+        assertEquals(0, sink.messages().size());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a liderança ao parar")
+    void shouldReleaseLeadershipOnClose() {
+        relay.start();
+
+        relay.close();
+
+        verify(leader).release();
+    }
+
+    @Test
+    @DisplayName("Deve expor a idade da alteração pendente mais antiga")
+    void shouldExposeOldestPendingAge() {
+        when(outboxRepository.findOccurredAtInOrder(Limit.of(1))).thenReturn(List.of(LocalDateTime.now().minusSeconds(5)));
+
+        double age = meterRegistry.get("events.outbox.oldest.age").gauge().value();
+
+        assertEquals(5000, age, 1000);
+    }
+
+    private static List<EventOutboxEntity> entries(long first, long last) {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        return LongStream.rangeClosed(first, last)
+                .mapToObj(id -> EventOutboxEntity.builder()
+                        .id(id)
+                        .eventId(id % 2)
+                        .changeType(EventChangeType.UPDATED)
+                        .payload("{\"id\":" + (id % 2) + "}")
+                        .occurredAt(occurredAt)
+                        .build())
+                .toList();
+    }
+}
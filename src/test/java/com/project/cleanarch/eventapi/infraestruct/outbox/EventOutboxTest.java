@@ -0,0 +1,93 @@
+package com.project.cleanarch.eventapi.infraestruct.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.core.domain.enums.EventChangeType;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Outbox das alterações de eventos")
+class EventOutboxTest extends AbstractMySqlIntegrationTest {
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private UpdateEventUseCase updateEventUseCase;
+
+    @Autowired
+    private CancellerEventUseCase cancellerEventUseCase;
+
+    @Autowired
+    private EventOutboxRelay relay;
+
+    @Autowired
+    private EventChangeSink sink;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        relay.drain();
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    @DisplayName("Criação, atualização e cancelamento chegam ao sink em ordem e a outbox fica vazia")
+    void shouldPublishMutationsInOrder() throws Exception {
+        creatorEventUseCase.execute(event("outbox-order", "Original"));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = 'outbox-order'", Long.class);
+        updateEventUseCase.execute(id, event("outbox-order", "Renomeado"));
+        cancellerEventUseCase.execute(id, "chuva");
+
+        relay.drain();
+
+        List<EventChangeMessage> messages = ((InMemoryEventChangeSink) sink).messages().stream()
+                .filter(message -> message.eventId() == id)
+                .toList();
+        assertEquals(List.of(EventChangeType.CREATED, EventChangeType.UPDATED, EventChangeType.CANCELLED),
+                messages.stream().map(EventChangeMessage::type).toList());
+        assertEquals("Renomeado", objectMapper.readTree(messages.get(1).payload()).get("name").asText());
+        JsonNode cancelled = objectMapper.readTree(messages.get(2).payload());
+        assertEquals("CANCELLED", cancelled.get("status").asText());
+        assertEquals("chuva", cancelled.get("cancelReason").asText());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_outbox", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Alteração recusada não grava na outbox")
+    void shouldNotRecordRejectedMutation() {
+        creatorEventUseCase.execute(event("outbox-duplicated", "Original"));
+
+        assertThrows(BusinessException.class, () -> creatorEventUseCase.execute(event("outbox-duplicated", "Outro")));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_outbox", Integer.class));
+    }
+
+    private static Event event(String identifier, String name) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new Event(name, null, identifier, start, start.plusHours(2), "Location", 100,
+                EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+    }
+}
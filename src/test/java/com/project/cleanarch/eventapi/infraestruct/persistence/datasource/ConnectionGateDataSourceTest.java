@@ -0,0 +1,68 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@MockitoSettings
+@DisplayName("ConnectionGateDataSource")
+class ConnectionGateDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    private ConnectionGateDataSource gate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        gate = new ConnectionGateDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Deve recusar conexões acima do limite até que uma seja fechada")
+    void shouldRefuseConnectionsAboveLimitUntilOneIsClosed() throws SQLException {
+        Connection first = gate.getConnection();
+        gate.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, gate::getConnection);
+
+        first.close();
+        assertNotNull(gate.getConnection());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão uma única vez mesmo com close repetido")
+    void shouldReleasePermitOnlyOnceOnRepeatedClose() throws SQLException {
+        Connection connection = gate.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(2, gate.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o pool falha ao entregar a conexão")
+    void shouldReleasePermitWhenPoolFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, gate::getConnection);
+        assertEquals(2, gate.availablePermits());
+    }
+}
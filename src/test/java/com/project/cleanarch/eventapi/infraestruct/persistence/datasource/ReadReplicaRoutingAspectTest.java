@@ -0,0 +1,101 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.RetrieverEventByIdUseCase;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ReadReplicaRoutingAspect")
+class ReadReplicaRoutingAspectTest {
+
+    private ReadReplicaRoutingAspect aspect;
+    private final AtomicBoolean routedToReplica = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        aspect = new ReadReplicaRoutingAspect(new ReadYourWritesTracker(Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Deve marcar somente a execução do use case de leitura como read-only")
+    void shouldMarkOnlyReadUseCaseExecutionAsReadOnly() {
+        requestFrom("backoffice");
+
+        reader().execute(1L);
+
+        assertTrue(routedToReplica.get());
+        assertFalse(DataSourceRoutingContext.isReadOnly());
+    }
+
+    @Test
+    @DisplayName("Deve manter as leituras do cliente no primário logo após uma escrita")
+    void shouldKeepClientOnPrimaryAfterWrite() {
+        requestFrom("backoffice");
+        canceller().execute(1L, "chuva");
+
+        reader().execute(1L);
+        assertFalse(routedToReplica.get());
+
+        requestFrom("portal");
+        reader().execute(1L);
+        assertTrue(routedToReplica.get());
+    }
+
+    @Test
+    @DisplayName("Não deve aplicar stickiness a requisições sem x-app-origin")
+    void shouldNotStickRequestsWithoutOrigin() {
+        requestFrom(null);
+        canceller().execute(1L, "chuva");
+
+        reader().execute(1L);
+
+        assertTrue(routedToReplica.get());
+    }
+
+    private RetrieverEventByIdUseCase reader() {
+        RetrieverEventByIdUseCase target = id -> {
+            routedToReplica.set(DataSourceRoutingContext.isReadOnly());
+            return null;
+        };
+        return proxy(target, RetrieverEventByIdUseCase.class);
+    }
+
+    private CancellerEventUseCase canceller() {
+        CancellerEventUseCase target = (id, reason) -> {
+        };
+        return proxy(target, CancellerEventUseCase.class);
+    }
+
+    private <T> T proxy(T target, Class<T> type) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addInterface(type);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private static void requestFrom(String origin) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (origin != null) {
+            request.addHeader(ApiConstants.Headers.X_APP_ORIGIN, origin);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,140 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReadWriteRoutingDataSource")
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSource primary = database("primary");
+    private final DataSource replica = database("replica");
+
+    @AfterEach
+    void tearDown() {
+        DataSourceRoutingContext.restore(false);
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário fora de um bloco read-only e a réplica dentro dele")
+    void shouldRouteByReadOnlyContext() throws SQLException {
+        DataSource routing = routing(new ReplicaPool(List.of(new ReplicaNode("replica-1", replica)),
+                                                     ReplicaSelection.ROUND_ROBIN, Duration.ofSeconds(1)));
+
+        assertEquals("primary", whoAmI(routing));
+
+        boolean previous = DataSourceRoutingContext.enterReadOnly();
+        try {
+            assertEquals("replica", whoAmI(routing));
+        } finally {
+            DataSourceRoutingContext.restore(previous);
+        }
+
+        assertEquals("primary", whoAmI(routing));
+    }
+
+    @Test
+    @DisplayName("Deve ejetar a réplica que falha ao abrir conexão e cair no primário")
+    void shouldEjectFailingReplicaAndFallBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("réplica fora do ar"));
+        ReplicaNode node = new ReplicaNode("replica-1", broken);
+        DataSource routing = routing(new ReplicaPool(List.of(node), ReplicaSelection.ROUND_ROBIN, Duration.ofSeconds(1)));
+
+        DataSourceRoutingContext.enterReadOnly();
+
+        assertEquals("primary", whoAmI(routing));
+        assertFalse(node.isHealthy());
+    }
+
+    @Test
+    @DisplayName("Deve readmitir a réplica quando o health check volta a passar")
+    void shouldReadmitReplicaAfterSuccessfulHealthCheck() throws SQLException {
+        ReplicaNode node = new ReplicaNode("replica-1", replica);
+        ReplicaPool pool = new ReplicaPool(List.of(node), ReplicaSelection.ROUND_ROBIN, Duration.ofSeconds(1));
+        pool.eject(node, new SQLException("timeout"));
+        DataSource routing = routing(pool);
+
+        DataSourceRoutingContext.enterReadOnly();
+        assertEquals("primary", whoAmI(routing));
+
+        pool.checkHealth();
+
+        assertTrue(node.isHealthy());
+        assertEquals("replica", whoAmI(routing));
+    }
+
+    @Test
+    @DisplayName("Deve alternar entre réplicas saudáveis no round-robin")
+    void shouldRotateBetweenHealthyReplicas() {
+        ReplicaNode first = new ReplicaNode("replica-1", replica);
+        ReplicaNode second = new ReplicaNode("replica-2", replica);
+        ReplicaNode ejected = new ReplicaNode("replica-3", replica);
+        ReplicaPool pool = new ReplicaPool(List.of(first, second, ejected), ReplicaSelection.ROUND_ROBIN, Duration.ofSeconds(1));
+        pool.eject(ejected, new SQLException("timeout"));
+
+        List<ReplicaNode> selected = List.of(pool.select(), pool.select(), pool.select(), pool.select());
+
+        assertEquals(2, selected.stream().filter(first::equals).count());
+        assertEquals(2, selected.stream().filter(second::equals).count());
+    }
+
+    @Test
+    @DisplayName("Deve escolher a réplica saudável de menor latência")
+    void shouldPickFastestHealthyReplica() {
+        ReplicaNode slow = new ReplicaNode("replica-1", replica);
+        ReplicaNode fast = new ReplicaNode("replica-2", replica);
+        slow.recordLatency(Duration.ofMillis(20).toNanos());
+        fast.recordLatency(Duration.ofMillis(2).toNanos());
+        ReplicaPool pool = new ReplicaPool(List.of(slow, fast), ReplicaSelection.LEAST_LATENCY, Duration.ofSeconds(1));
+
+        assertSame(fast, pool.select());
+
+        pool.eject(fast, new SQLException("timeout"));
+        assertSame(slow, pool.select());
+    }
+
+    private DataSource routing(ReplicaPool pool) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, pool));
+    }
+
+    private static String whoAmI(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            statement.execute("DELETE FROM node");
+            statement.execute("INSERT INTO node VALUES ('" + name + "')");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Busca textual: FULLTEXT x LIKE")
+class EventFullTextSearchBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+    private static final String[] WORDS = {"tech", "java", "cloud", "music", "data", "design", "startup", "health", "games", "finance"};
+    private static final String[] CITIES = {"São Paulo", "Rio de Janeiro", "Curitiba", "Recife", "Porto Alegre", "Salvador"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventJpaRepository jpaRepository;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+
+        Random random = new Random(42);
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " conference " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            Timestamp startAt = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[]{name, "bench-" + i, startAt, startAt, CITIES[random.nextInt(CITIES.length)], 100});
+        }
+        rows.add(new Object[]{"kotlin summit kotlin", "bench-relevance", Timestamp.valueOf(base), Timestamp.valueOf(base), "Kotlin Hall", 100});
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status)
+                VALUES (?, ?, ?, ?, ?, ?, 'CONFERENCE', 'OPEN')
+                """, rows);
+    }
+
+    @Test
+    @DisplayName("Deve medir latência média das duas estratégias para o mesmo filtro")
+    void shouldCompareLatencyOfLikeAndFullText() {
+        EventFilterDTO filter = EventFilterDTO.builder().name("cloud").location("Curitiba").build();
+
+        double likeMillis = measure(filter, TextSearchMode.LIKE);
+        double fullTextMillis = measure(filter, TextSearchMode.FULL_TEXT);
+
+        BenchmarkReport.publish(getClass(), "search", Map.of("rows", ROWS, "iterations", ITERATIONS,
+                "likeMillis", likeMillis, "fullTextMillis", fullTextMillis, "speedup", likeMillis / fullTextMillis));
+        assertFalse(search(filter, TextSearchMode.FULL_TEXT).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por relevância quando não há ordenação explícita")
+    void shouldOrderByRelevance() {
+        EventFilterDTO filter = EventFilterDTO.builder().name("kotlin").location("kotlin").build();
+
+        Page<EventEntity> page = search(filter, TextSearchMode.FULL_TEXT);
+
+        assertEquals("bench-relevance", page.getContent().get(0).getIdentifier());
+    }
+
+    private double measure(EventFilterDTO filter, TextSearchMode mode) {
+        for (int i = 0; i < 5; i++) {
+            search(filter, mode);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search(filter, mode);
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private Page<EventEntity> search(EventFilterDTO filter, TextSearchMode mode) {
+        return jpaRepository.findAll(EventSpecification.of(filter, mode).build(), PageRequest.of(0, 20));
+    }
+}
@@ -0,0 +1,171 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.core.domain.enums.EventDurationClass;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.gateway.EventRepository;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Busca por sobreposição de janela: resultado igual ao da comparação direta e latência frente aos quatro ranges
+ * Para medir na escala de produção: {@code -Dbenchmark.rows=10000000}
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.project.cleanarch.eventapi.infraestruct.persistence.repositories.SqlCapturingStatementInspector",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        // A busca por ranges é repetida com o mesmo filtro: sem o cache de resultados para medir a consulta
+        "events.cache.search.enabled=false"
+})
+@DisplayName("Busca por sobreposição de janela")
+class EventOverlapQueryBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 50);
+    private static final int BATCH = 10_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+    // Maioria de eventos curtos, alguns de dias e poucos de meses, espalhados por cinco anos
+    private static final Duration[] DURATIONS = {
+            Duration.ofMinutes(45), Duration.ofHours(2), Duration.ofHours(3), Duration.ofHours(8),
+            Duration.ofDays(3), Duration.ofDays(20), Duration.ofDays(200), Duration.ofDays(900)};
+    private static final int[] DURATION_WEIGHTS = {30, 30, 20, 10, 5, 3, 1, 1};
+    private static final long SPREAD_MINUTES = Duration.ofDays(5 * 365).toMinutes();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+
+        Random random = new Random(42);
+        EventType[] types = EventType.values();
+        List<Object[]> rows = new ArrayList<>(BATCH);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDateTime startAt = BASE.plusMinutes((long) (random.nextDouble() * SPREAD_MINUTES));
+            LocalDateTime endAt = startAt.plus(pickDuration(random));
+            rows.add(new Object[]{"event " + i, "overlap-" + i, Timestamp.valueOf(startAt), Timestamp.valueOf(endAt),
+                    types[i % types.length].name(), i % 7 == 0 ? "CANCELLED" : "OPEN", EventDurationClass.of(startAt, endAt).ordinal()});
+            if (rows.size() == BATCH) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+
+        // Linha gravada fora da aplicação: fica com o default UNBOUNDED e ainda assim precisa aparecer
+        jdbcTemplate.update("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status)
+                VALUES ('legacy', 'overlap-legacy', ?, ?, 'Hall', 100, 'CONFERENCE', 'OPEN')
+                """, Timestamp.valueOf(BASE.plusDays(400)), Timestamp.valueOf(BASE.plusDays(400).plusHours(2)));
+        jdbcTemplate.execute("ANALYZE TABLE events");
+    }
+
+    @Test
+    @DisplayName("Deve trazer exatamente os eventos que sobrepõem a janela, combinados a tipo e status")
+    void shouldMatchDirectComparison() {
+        LocalDateTime from = BASE.plusDays(400);
+        LocalDateTime to = from.plusHours(6);
+
+        assertEquals(directCount(from, to, null), overlapping(from, to, new EventFilterDTO(), Pageable.unpaged()).getNumberOfElements());
+
+        EventFilterDTO filters = EventFilterDTO.builder().type(EventType.WORKSHOP).status(EventStatusEnum.OPEN).build();
+        assertEquals(directCount(from, to, filters), overlapping(from, to, filters, Pageable.unpaged()).getNumberOfElements());
+    }
+
+    @Test
+    @DisplayName("Deve usar o índice por faixa de duração")
+    void shouldUseDurationClassIndex() {
+        LocalDateTime from = BASE.plusDays(700);
+        overlapping(from, from.plusHours(2), new EventFilterDTO(), PageRequest.of(0, 20));
+
+        Map<String, Object> explain = jdbcTemplate.queryForList("EXPLAIN " + SqlCapturingStatementInspector.lastSql()).get(0);
+        assertEquals("idx_events_duration_class_start_at", explain.get("key"), () -> "Plano inesperado: " + explain);
+        assertEquals("range", explain.get("type"), () -> "Plano inesperado: " + explain);
+    }
+
+    @Test
+    @DisplayName("Deve medir a latência da sobreposição contra os quatro ranges do filtro")
+    void shouldCompareLatencyWithRangeFilters() {
+        LocalDateTime from = BASE.plusDays(900);
+        LocalDateTime to = from.plusHours(3);
+        EventFilterDTO rangeFilters = EventFilterDTO.builder().startAtTo(to).endAtFrom(from).build();
+        Pageable page = PageRequest.of(0, 20);
+
+        double rangeMillis = measure(() -> eventRepository.findSliceByFilters(rangeFilters, page));
+        double overlapMillis = measure(() -> overlapping(from, to, new EventFilterDTO(), page));
+
+        BenchmarkReport.publish(getClass(), "overlap", Map.of("rows", ROWS, "iterations", ITERATIONS,
+                "rangesMillis", rangeMillis, "overlapMillis", overlapMillis, "speedup", rangeMillis / overlapMillis));
+    }
+
+    private Slice<EventDTO> overlapping(LocalDateTime from, LocalDateTime to, EventFilterDTO filters, Pageable pageable) {
+        return eventRepository.findOverlapping(from, to, filters, pageable);
+    }
+
+    private int directCount(LocalDateTime from, LocalDateTime to, EventFilterDTO filters) {
+        String sql = "SELECT COUNT(*) FROM events IGNORE INDEX (idx_events_duration_class_start_at) WHERE start_at < ? AND end_at > ?";
+        if (filters == null) {
+            return jdbcTemplate.queryForObject(sql, Integer.class, Timestamp.valueOf(to), Timestamp.valueOf(from));
+        }
+        return jdbcTemplate.queryForObject(sql + " AND type = ? AND status = ?", Integer.class,
+                Timestamp.valueOf(to), Timestamp.valueOf(from), filters.getType().name(), filters.getStatus().name());
+    }
+
+    private double measure(Supplier<Slice<EventDTO>> query) {
+        for (int i = 0; i < 5; i++) {
+            query.get();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status, duration_class)
+                VALUES (?, ?, ?, ?, 'Hall', 100, ?, ?, ?)
+                """, rows);
+    }
+
+    private static Duration pickDuration(Random random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < DURATIONS.length; i++) {
+            roll -= DURATION_WEIGHTS[i];
+            if (roll < 0) {
+                return DURATIONS[i];
+            }
+        }
+        return DURATIONS[0];
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.mapper.EventMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Leitura paginada: entidade gerenciada x projeção")
+class EventProjectionBenchmarkTest extends AbstractMySqlIntegrationTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 20_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventJpaRepository jpaRepository;
+
+    @Autowired
+    private EventMapper eventMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp startAt = Timestamp.valueOf(base.plusMinutes(i));
+            rows.add(new Object[]{"event " + i, "projection-" + i, startAt, startAt, "Location " + (i % 50), 100});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status)
+                VALUES (?, ?, ?, ?, ?, ?, 'CONFERENCE', 'OPEN')
+                """, rows);
+    }
+
+    @ParameterizedTest(name = "pageSize={0}")
+    @ValueSource(ints = {100, 250, 500, 1_000})
+    @DisplayName("Deve medir latência e alocação dos dois caminhos de leitura")
+    void shouldCompareEntityAndProjectionReadPaths(int pageSize) {
+        Pageable pageable = PageRequest.of(3, pageSize, Sort.by("startAt"));
+
+        // Caminho anterior: entidade gerenciada -> Event -> EventDTO, dentro de uma transação somente leitura
+        Supplier<List<EventDTO>> entityPath = () -> transactionTemplate.execute(status ->
+                jpaRepository.findAll(pageable).map(eventMapper::toModel).map(eventMapper::fromModel).getContent());
+        Supplier<List<EventDTO>> projectionPath = () ->
+                jpaRepository.findEvents(null, pageable, pageSize);
+
+        Measurement entity = measure(entityPath);
+        Measurement projection = measure(projectionPath);
+
+        BenchmarkReport.publish(getClass(), "pageSize=" + pageSize, Map.of(
+                "entityMillis", entity.millis(), "entityAllocatedKb", entity.allocatedBytes() / 1024,
+                "projectionMillis", projection.millis(), "projectionAllocatedKb", projection.allocatedBytes() / 1024));
+        assertEquals(identifiers(entityPath.get()), identifiers(projectionPath.get()));
+    }
+
+    private Measurement measure(Supplier<List<EventDTO>> readPath) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 5; i++) {
+            readPath.get();
+        }
+
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            readPath.get();
+        }
+        double millis = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+        long allocated = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ITERATIONS;
+        return new Measurement(millis, allocated);
+    }
+
+    private List<String> identifiers(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getIdentifier).toList();
+    }
+
+    private record Measurement(double millis, long allocatedBytes) {
+    }
+}
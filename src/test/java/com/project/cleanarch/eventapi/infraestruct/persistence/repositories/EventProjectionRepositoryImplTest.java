@@ -0,0 +1,71 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("EventProjectionRepositoryImpl")
+class EventProjectionRepositoryImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private EventJpaRepository jpaRepository;
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM events");
+        creatorEventUseCase.execute(event("planned-open-1", EventStatusEnum.OPEN, 0));
+        creatorEventUseCase.execute(event("planned-open-2", EventStatusEnum.OPEN, 2));
+        creatorEventUseCase.execute(event("planned-draft", EventStatusEnum.DRAFT, 1));
+    }
+
+    @Test
+    @DisplayName("Specification com dica de índice consulta e conta normalmente fora do MySQL")
+    void shouldQueryAndCountHintedSpecificationOutsideMySql() {
+        EventFilterDTO filter = EventFilterDTO.builder().status(EventStatusEnum.OPEN).startAtFrom(START.minusHours(1)).build();
+        Specification<EventEntity> specification = EventSpecification.of(filter, TextSearchMode.LIKE).build();
+        assertNotNull(PlannedEventSpecification.indexHintOf(specification));
+
+        List<EventDTO> events = jpaRepository.findEvents(specification, PageRequest.of(0, 10, Sort.by("startAt")), 10);
+
+        assertEquals(List.of("planned-open-1", "planned-open-2"), events.stream().map(EventDTO::getIdentifier).toList());
+        assertEquals(2, jpaRepository.countEvents(specification));
+    }
+
+    private static Event event(String identifier, EventStatusEnum status, int offsetHours) {
+        LocalDateTime start = START.plusHours(offsetHours);
+        return new Event("Planned " + identifier, null, identifier, start, start.plusHours(1), "Location", 100,
+                EventType.CONFERENCE, status, null);
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Executa EXPLAIN sobre o SQL realmente gerado (com a dica de índice) para cada combinação comum de filtros
+ * e garante que o MySQL usa o índice escolhido pelo planner
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.project.cleanarch.eventapi.infraestruct.persistence.repositories.SqlCapturingStatementInspector",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+@DisplayName("EventQueryPlanner x EXPLAIN")
+class EventQueryPlanExplainTest extends AbstractMySqlIntegrationTest {
+
+    private static final int ROWS = 50_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventJpaRepository jpaRepository;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+
+        EventType[] types = EventType.values();
+        EventStatusEnum[] statuses = EventStatusEnum.values();
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Timestamp startAt = Timestamp.valueOf(BASE.plusMinutes(i * 17L));
+            Timestamp endAt = Timestamp.valueOf(BASE.plusMinutes(i * 17L + 120));
+            rows.add(new Object[]{"event " + i + (i % 500 == 0 ? " kotlin" : ""), "explain-" + i, startAt, endAt,
+                    "Hall " + (i % 100), 50 + i % 1000, types[i % types.length].name(), statuses[i % statuses.length].name()});
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO events (name, identifier, start_at, end_at, location, capacity, type, status)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+        jdbcTemplate.execute("ANALYZE TABLE events");
+    }
+
+    static Stream<Arguments> commonFilters() {
+        return Stream.of(
+                Arguments.of("identifier", EventFilterDTO.builder().identifier("explain-42").status(EventStatusEnum.OPEN).build()),
+                Arguments.of("type + status", EventFilterDTO.builder().type(EventType.CONFERENCE).status(EventStatusEnum.OPEN)
+                        .startAtFrom(BASE).startAtTo(BASE.plusDays(3)).build()),
+                Arguments.of("status + start range", EventFilterDTO.builder().status(EventStatusEnum.OPEN)
+                        .startAtFrom(BASE).startAtTo(BASE.plusDays(3)).capacityMin(100).build()),
+                Arguments.of("type + start range", EventFilterDTO.builder().type(EventType.WORKSHOP)
+                        .startAtFrom(BASE).startAtTo(BASE.plusDays(3)).build()),
+                Arguments.of("start range", EventFilterDTO.builder().startAtFrom(BASE).startAtTo(BASE.plusDays(1)).build()),
+                Arguments.of("end range", EventFilterDTO.builder().endAtFrom(BASE).endAtTo(BASE.plusDays(1)).build()),
+                Arguments.of("full-text name", EventFilterDTO.builder().name("kotlin").capacityMax(900).build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("commonFilters")
+    void shouldHitPlannedIndex(String description, EventFilterDTO filter) {
+        EventSpecification specification = EventSpecification.of(filter, TextSearchMode.FULL_TEXT);
+        EventQueryPlan plan = specification.plan();
+
+        // Mesmo caminho das buscas: a projeção aplica a dica de índice do plano
+        jpaRepository.findEvents(specification.build(), Pageable.unpaged(), 0);
+        String sql = SqlCapturingStatementInspector.lastSql();
+
+        Map<String, Object> explain = jdbcTemplate.queryForList("EXPLAIN " + sql).get(0);
+        assertEquals(plan.indexName(), explain.get("key"), () -> "Índice planejado não foi usado: " + sql + " -> " + explain);
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.enums.TextSearchMode;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+import com.project.cleanarch.eventapi.infraestruct.persistence.entities.EventEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("EventQueryPlanner")
+class EventQueryPlannerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 8, 1, 0, 0);
+
+    @Test
+    @DisplayName("Deve priorizar o identificador único sobre qualquer outro filtro")
+    void shouldPreferIdentifierLookup() {
+        EventFilterDTO filter = EventFilterDTO.builder()
+                .identifier("tech-conf").status(EventStatusEnum.OPEN).type(EventType.CONFERENCE).build();
+
+        EventQueryPlan plan = EventQueryPlanner.plan(filter, TextSearchMode.LIKE);
+
+        assertEquals(EventQueryShape.IDENTIFIER_LOOKUP, plan.shape());
+        assertEquals(List.of(EventFilterField.IDENTIFIER, EventFilterField.TYPE, EventFilterField.STATUS), plan.orderedFields());
+    }
+
+    @Test
+    @DisplayName("Deve conduzir pelo índice (status, start_at) e deixar texto e capacidade como residuais")
+    void shouldDriveByStatusAndStartAt() {
+        EventFilterDTO filter = EventFilterDTO.builder()
+                .name("tech").capacityMin(10).startAtTo(NOW.plusDays(30)).status(EventStatusEnum.OPEN).startAtFrom(NOW).build();
+
+        EventQueryPlan plan = EventQueryPlanner.plan(filter, TextSearchMode.LIKE);
+
+        assertEquals("idx_events_status_start_at", plan.indexName());
+        assertEquals(List.of(EventFilterField.STATUS, EventFilterField.START_AT_FROM, EventFilterField.START_AT_TO,
+                EventFilterField.CAPACITY_MIN, EventFilterField.NAME), plan.orderedFields());
+    }
+
+    @Test
+    @DisplayName("Deve usar o índice FULLTEXT quando não há filtro seletivo em B-tree")
+    void shouldUseFullTextWhenOnlyTextIsSelective() {
+        EventFilterDTO filter = EventFilterDTO.builder().location("Curitiba").capacityMax(500).build();
+
+        assertEquals(EventQueryShape.LOCATION_FULL_TEXT, EventQueryPlanner.plan(filter, TextSearchMode.FULL_TEXT).shape());
+        assertEquals(EventQueryShape.FULL_SCAN, EventQueryPlanner.plan(filter, TextSearchMode.LIKE).shape());
+    }
+
+    @Test
+    @DisplayName("Deve combinar tipo e status no índice composto de três colunas")
+    void shouldCombineTypeAndStatus() {
+        EventFilterDTO filter = EventFilterDTO.builder().type(EventType.WORKSHOP).status(EventStatusEnum.OPEN).build();
+
+        assertEquals(EventQueryShape.TYPE_STATUS_START_AT, EventQueryPlanner.plan(filter, TextSearchMode.LIKE).shape());
+    }
+
+    @Test
+    @DisplayName("Deve dar dica só para os índices B-tree")
+    void shouldHintOnlyBTreeIndexes() {
+        EventFilterDTO byStatus = EventFilterDTO.builder().status(EventStatusEnum.OPEN).startAtFrom(NOW).build();
+        EventFilterDTO byIdentifier = EventFilterDTO.builder().identifier("tech-conf").build();
+        EventFilterDTO byLocation = EventFilterDTO.builder().location("Curitiba").build();
+
+        assertEquals("idx_events_status_start_at", EventQueryPlanner.plan(byStatus, TextSearchMode.LIKE).indexHint());
+        assertNull(EventQueryPlanner.plan(byIdentifier, TextSearchMode.LIKE).indexHint());
+        assertNull(EventQueryPlanner.plan(byLocation, TextSearchMode.FULL_TEXT).indexHint());
+        assertNull(EventQueryPlanner.plan(byLocation, TextSearchMode.LIKE).indexHint());
+    }
+
+    @Test
+    @DisplayName("Deve levar o plano na Specification montada, sem herdá-lo em combinações")
+    void shouldCarryPlanOnBuiltSpecificationOnly() {
+        EventFilterDTO filter = EventFilterDTO.builder().type(EventType.WORKSHOP).startAtFrom(NOW).build();
+
+        Specification<EventEntity> specification = EventSpecification.of(filter, TextSearchMode.LIKE).build();
+
+        assertEquals("idx_events_type_start_at", PlannedEventSpecification.indexHintOf(specification));
+        assertNull(PlannedEventSpecification.indexHintOf(specification.and(EventSpecifications.hasCapacityMin(10))));
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("EventSpecifications")
+class EventSpecificationsTest {
+
+    @Test
+    @DisplayName("Deve converter texto livre em prefixos obrigatórios do modo booleano")
+    void shouldConvertTextToBooleanModeQuery() {
+        assertEquals("+conferência* +são* +paulo*", EventSpecifications.toBooleanModeQuery("Conferência  São-Paulo"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar operadores e termos menores que o token mínimo do índice")
+    void shouldDropOperatorsAndShortTokens() {
+        assertEquals("+tech*", EventSpecifications.toBooleanModeQuery("+tech* @a \"of\""));
+        assertNull(EventSpecifications.toBooleanModeQuery("de ao"));
+        assertNull(EventSpecifications.toBooleanModeQuery(" "));
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.cleanarch.eventapi.infraestruct.persistence.repositories;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Guarda o último SQL gerado pelo Hibernate na thread atual para ser analisado com EXPLAIN
+ */
+public class SqlCapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<String> LAST_SQL = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        LAST_SQL.set(sql);
+        return sql;
+    }
+
+    public static String lastSql() {
+        return LAST_SQL.get();
+    }
+}
@@ -0,0 +1,126 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.controller;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("GET condicional em /api/events")
+class EventControllerConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private UpdateEventUseCase updateEventUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    @DisplayName("Busca por ID responde 304 para o mesmo ETag e um ETag novo depois da atualização")
+    void shouldAnswerNotModifiedUntilEventChanges() throws Exception {
+        creatorEventUseCase.execute(event("etag-event", "Original"));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = 'etag-event'", Long.class);
+
+        String eTag = mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        updateEventUseCase.execute(id, event("etag-event", "Renomeado"));
+
+        String updatedETag = mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, updatedETag);
+    }
+
+    @Test
+    @DisplayName("Cada representação negociada tem o próprio ETag e um não revalida o outro")
+    void shouldTagEachRepresentationSeparately() throws Exception {
+        creatorEventUseCase.execute(event("etag-representation", "Original"));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = 'etag-representation'", Long.class);
+
+        String jsonETag = mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cborETag = mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(jsonETag, cborETag);
+
+        mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, cborETag));
+        mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Página da listagem responde 304 quando o corpo não mudou")
+    void shouldAnswerNotModifiedForUnchangedListPage() throws Exception {
+        creatorEventUseCase.execute(event("etag-list", "Listado"));
+
+        String eTag = mockMvc.perform(get("/api/events").param("page", "0").param("size", "10")
+                        .accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/events").param("page", "0").param("size", "10")
+                        .accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    private static Event event(String identifier, String name) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        return new Event(name, null, identifier, start, start.plusHours(2), "Location", 100,
+                EventType.CONFERENCE, EventStatusEnum.OPEN, null);
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.controller;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.usecases.ExporterEventsUseCase;
+import com.project.cleanarch.eventapi.infraestruct.presentation.export.EventExportAbortedException;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Exportação em /api/events/export")
+class EventControllerExportTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ExporterEventsUseCase exporterEventsUseCase;
+
+    @Test
+    @DisplayName("Deve transmitir os blocos como NDJSON de forma assíncrona")
+    void shouldStreamChunksAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<List<EventDTO>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(event("export-1"), event("export-2")));
+            consumer.accept(List.of(event("export-3")));
+            return 3L;
+        }).when(exporterEventsUseCase).execute(any(), any());
+
+        MvcResult started = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"events.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"identifier\":\"export-1\""));
+        assertTrue(lines[2].contains("\"identifier\":\"export-3\""));
+    }
+
+    @Test
+    @DisplayName("Falha antes do primeiro bloco ainda responde com o erro de negócio")
+    void shouldAnswerBusinessErrorWhenFailingBeforeFirstChunk() throws Exception {
+        when(exporterEventsUseCase.execute(any(), any())).thenThrow(new BusinessException("event.export.failed"));
+
+        MvcResult started = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("event.export.failed"));
+    }
+
+    @Test
+    @DisplayName("Falha depois do primeiro bloco aborta a resposta em vez de anexar um corpo de erro")
+    void shouldAbortWhenFailingAfterResponseIsCommitted() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<List<EventDTO>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(event("export-1")));
+            throw new BusinessException("event.export.failed");
+        }).when(exporterEventsUseCase).execute(any(), any());
+
+        MvcResult started = mockMvc.perform(get("/api/events/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Exception failure = assertThrows(Exception.class, () -> mockMvc.perform(asyncDispatch(started)));
+
+        // Sem handler para a exceção, ela chega ao container, que encerra a conexão
+        EventExportAbortedException aborted = assertInstanceOf(EventExportAbortedException.class, failure.getCause());
+        assertInstanceOf(BusinessException.class, aborted.getCause());
+        String body = started.getResponse().getContentAsString();
+        assertEquals(1, body.split("\n").length);
+        assertTrue(body.contains("\"identifier\":\"export-1\""));
+    }
+
+    private static EventDTO event(String identifier) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        return new EventDTO(null, "Export " + identifier, null, identifier, start, start.plusHours(2), "Location", 100,
+                EventType.CONFERENCE, EventStatusEnum.OPEN, null, null, null);
+    }
+}
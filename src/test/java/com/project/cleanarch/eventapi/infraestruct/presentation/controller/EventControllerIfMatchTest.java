@@ -0,0 +1,122 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.controller;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("PUT e PATCH com If-Match em /api/events/{id}")
+class EventControllerIfMatchTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM events");
+        creatorEventUseCase.execute(new Event("Original", null, "if-match-event", START, START.plusHours(2), "Location", 100,
+                EventType.CONFERENCE, EventStatusEnum.OPEN, null));
+        id = jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = 'if-match-event'", Long.class);
+    }
+
+    @Test
+    @DisplayName("A segunda escrita com o mesmo ETag recebe 412 em vez de sobrescrever a primeira")
+    void shouldRejectStaleIfMatch() throws Exception {
+        String eTag = eTag();
+
+        String updatedETag = mockMvc.perform(put("/api/events/{id}", id).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .content(body("Primeira")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, updatedETag);
+
+        mockMvc.perform(put("/api/events/{id}", id).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .content(body("Segunda")))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.code").value("event.version.mismatch"));
+
+        assertEquals("Primeira", jdbcTemplate.queryForObject("SELECT name FROM events WHERE id = ?", String.class, id));
+    }
+
+    @Test
+    @DisplayName("PATCH altera só os campos enviados e respeita o If-Match")
+    void shouldPatchOnlyPresentFields() throws Exception {
+        String eTag = eTag();
+
+        mockMvc.perform(patch("/api/events/{id}", id).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .content("{\"location\":\"Recife\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Original"))
+                .andExpect(jsonPath("$.location").value("Recife"))
+                .andExpect(jsonPath("$.capacity").value(100));
+
+        mockMvc.perform(patch("/api/events/{id}", id).header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1)
+                        .content("{\"capacity\":50}"))
+                .andExpect(status().isPreconditionFailed());
+
+        assertEquals(100, jdbcTemplate.queryForObject("SELECT capacity FROM events WHERE id = ?", Integer.class, id));
+    }
+
+    private String eTag() throws Exception {
+        return mockMvc.perform(get("/api/events/{id}", id).accept(ApiConstants.Headers.CONTENT_NEGOTIATION_V1))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String body(String name) throws Exception {
+        return objectMapper.writeValueAsString(EventDTO.builder()
+                .name(name)
+                .identifier("if-match-event")
+                .startAt(START)
+                .endAt(START.plusHours(2))
+                .location("Location")
+                .capacity(100)
+                .type(EventType.CONFERENCE)
+                .build());
+    }
+}
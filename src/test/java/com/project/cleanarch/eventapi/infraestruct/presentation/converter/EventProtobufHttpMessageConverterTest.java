@@ -0,0 +1,124 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.converter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufField;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufMessage;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.EventBatchItemResult;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+import com.project.cleanarch.eventapi.infraestruct.presentation.constants.ApiConstants;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("EventProtobufHttpMessageConverter")
+class EventProtobufHttpMessageConverterTest {
+
+    private static final MediaType PROTOBUF = MediaType.parseMediaType(ApiConstants.Headers.CONTENT_NEGOTIATION_V1_PROTOBUF);
+
+    private EventProtobufSchemas schemas;
+    private EventProtobufHttpMessageConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        schemas = EventProtobufSchemas.load();
+        converter = new EventProtobufHttpMessageConverter(Jackson2ObjectMapperBuilder.json()
+                .factory(new ProtobufFactory())
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToEnable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+                .build(), schemas);
+    }
+
+    @Test
+    @DisplayName("Os enums do contrato .proto devem ter os mesmos valores dos enums Java")
+    void protoEnumsShouldMatchJavaEnums() {
+        ProtobufMessage event = schemas.schemaFor(EventDTO.class).getRootType();
+
+        assertEnumMatches(EventType.values(), event.field("type"));
+        assertEnumMatches(EventStatusEnum.values(), event.field("status"));
+    }
+
+    @Test
+    @DisplayName("Deve escrever uma Slice como EventPage, sem totalElements")
+    void shouldWriteSliceAsEventPage() throws IOException {
+        SliceImpl<EventDTO> slice = new SliceImpl<>(List.of(event("proto-1")), PageRequest.of(0, 1), true);
+
+        JsonNode page = write(slice, new ParameterizedTypeReference<SliceImpl<EventDTO>>() { }, EventProtobufSchemas.EventPage.class);
+
+        assertEquals("proto-1", page.at("/content/0/identifier").asText());
+        assertEquals("2030-01-01T10:00:00", page.at("/content/0/startAt").asText());
+        assertEquals(1, page.get("size").asInt());
+        assertFalse(page.get("last").asBoolean());
+        assertFalse(page.has("totalElements"));
+    }
+
+    @Test
+    @DisplayName("Deve escrever o resultado do lote no campo items")
+    void shouldWrapBatchResultInItems() throws IOException {
+        List<EventBatchItemResult> results = List.of(EventBatchItemResult.created(0, "proto-1", 10L),
+                EventBatchItemResult.rejected(1, "proto-2", "event.already.exists"));
+
+        JsonNode batch = write(results, new ParameterizedTypeReference<List<EventBatchItemResult>>() { },
+                EventProtobufSchemas.EventBatchResult.class);
+
+        assertEquals(10L, batch.at("/items/0/id").asLong());
+        assertTrue(batch.at("/items/0/created").asBoolean());
+        assertEquals("event.already.exists", batch.at("/items/1/errorCode").asText());
+    }
+
+    @Test
+    @DisplayName("Não deve escrever tipos fora do contrato nem ler requisições")
+    void shouldOnlyWriteContractTypes() {
+        assertFalse(converter.canWrite(new ParameterizedTypeReference<List<String>>() { }.getType(), List.class, PROTOBUF));
+        assertFalse(converter.canWrite(String.class, PROTOBUF));
+        assertFalse(converter.canRead(EventDTO.class, PROTOBUF));
+    }
+
+    private JsonNode write(Object body, ParameterizedTypeReference<?> type, Class<?> root) throws IOException {
+        assertTrue(converter.canWrite(type.getType(), body.getClass(), PROTOBUF));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, type.getType(), PROTOBUF, output);
+        return new ProtobufMapper().readerFor(JsonNode.class).with(schemas.schemaFor(root)).readValue(output.getBodyAsBytes());
+    }
+
+    private static void assertEnumMatches(Enum<?>[] values, ProtobufField field) {
+        assertEquals(values.length, field.getEnumValues().size());
+        for (Enum<?> value : values) {
+            assertEquals(value.ordinal(), field.findEnumIndex(value.name()), value.name());
+        }
+    }
+
+    private static EventDTO event(String identifier) {
+        return EventDTO.builder()
+                .name("Protobuf")
+                .identifier(identifier)
+                .startAt(LocalDateTime.of(2030, 1, 1, 10, 0))
+                .endAt(LocalDateTime.of(2030, 1, 1, 12, 0))
+                .location("Recife")
+                .capacity(10)
+                .type(EventType.WEBINAR)
+                .status(EventStatusEnum.OPEN)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("CsvEventExportWriter")
+class CsvEventExportWriterTest {
+
+    @Test
+    @DisplayName("Deve escrever cabeçalho e escapar campos com vírgula, aspas e quebra de linha")
+    void shouldWriteHeaderAndEscapeSpecialCharacters() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventDTO event = EventDTO.builder()
+                .name("Show \"Ao vivo\"")
+                .description("linha 1\nlinha 2")
+                .identifier("show-1")
+                .startAt(LocalDateTime.of(2030, 1, 1, 20, 0))
+                .endAt(LocalDateTime.of(2030, 1, 1, 23, 0))
+                .location("Recife, PE")
+                .capacity(100)
+                .type(EventType.CONFERENCE)
+                .status(EventStatusEnum.OPEN)
+                .build();
+
+        try (CsvEventExportWriter writer = new CsvEventExportWriter(output)) {
+            writer.write(List.of(event));
+        }
+
+        assertEquals("""
+                name,description,identifier,startAt,endAt,location,capacity,type,status,cancelReason\r
+                "Show ""Ao vivo\""","linha 1
+                linha 2",show-1,2030-01-01T20:00:00,2030-01-01T23:00:00,"Recife, PE",100,CONFERENCE,OPEN,\r
+                """, output.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("NdjsonEventExportWriter")
+class NdjsonEventExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha, com quebras de linha do conteúdo escapadas")
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (NdjsonEventExportWriter writer = new NdjsonEventExportWriter(objectMapper, output)) {
+            writer.write(List.of(event("show-1", "linha 1\nlinha 2"), event("show-2", null)));
+            writer.write(List.of(event("show-3", null)));
+        }
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(4, lines.length);
+        assertEquals("", lines[3]);
+        assertEquals("show-1", objectMapper.readTree(lines[0]).get("identifier").asText());
+        assertEquals("linha 1\nlinha 2", objectMapper.readTree(lines[0]).get("description").asText());
+        assertEquals("show-2", objectMapper.readTree(lines[1]).get("identifier").asText());
+        assertEquals("show-3", objectMapper.readTree(lines[2]).get("identifier").asText());
+    }
+
+    @Test
+    @DisplayName("Deve descarregar cada bloco no fluxo e não fechar o fluxo da resposta")
+    void shouldFlushEachChunkWithoutClosingTarget() throws Exception {
+        TrackingOutputStream output = new TrackingOutputStream();
+
+        NdjsonEventExportWriter writer = new NdjsonEventExportWriter(objectMapper, output);
+        writer.write(List.of(event("show-1", null)));
+        JsonNode first = objectMapper.readTree(output.toString(StandardCharsets.UTF_8));
+        assertEquals("show-1", first.get("identifier").asText());
+        assertEquals(1, output.flushes);
+
+        writer.close();
+        assertFalse(output.closed);
+    }
+
+    private static EventDTO event(String identifier, String description) {
+        return EventDTO.builder()
+                .name("Show " + identifier)
+                .description(description)
+                .identifier(identifier)
+                .startAt(LocalDateTime.of(2030, 1, 1, 20, 0))
+                .endAt(LocalDateTime.of(2030, 1, 1, 23, 0))
+                .location("Recife")
+                .capacity(100)
+                .type(EventType.CONFERENCE)
+                .status(EventStatusEnum.OPEN)
+                .build();
+    }
+
+    private static final class TrackingOutputStream extends ByteArrayOutputStream {
+
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.cleanarch.eventapi.infraestruct.presentation.handler;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("messages.properties")
+class MessagesPropertiesTest {
+
+    @Test
+    @DisplayName("Deve ser UTF-8 válido, sem caracteres de substituição")
+    void shouldBeValidUtf8WithoutReplacementCharacters() throws Exception {
+        byte[] bytes;
+        try (InputStream input = getClass().getResourceAsStream("/messages.properties")) {
+            bytes = input.readAllBytes();
+        }
+
+        // Um acento gravado em Latin-1 não decodifica em UTF-8 estrito
+        String content = assertDoesNotThrow(() -> StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT)
+                .decode(ByteBuffer.wrap(bytes))
+                .toString());
+        assertFalse(content.contains("�"));
+    }
+
+    @Test
+    @DisplayName("Deve resolver mensagens acentuadas com a codificação do Spring")
+    void shouldResolveAccentedMessages() {
+        ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+
+        assertEquals("O lote excede o limite de 500 eventos por requisição",
+                messageSource.getMessage("event.batch.too.large", new Object[]{500}, Locale.ROOT));
+        assertEquals("Já existe um evento com o identificador: show-1",
+                messageSource.getMessage("event.already.exists", new Object[]{"show-1"}, Locale.ROOT));
+    }
+}
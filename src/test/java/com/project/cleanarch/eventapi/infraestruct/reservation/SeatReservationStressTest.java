@@ -0,0 +1,265 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.exception.BusinessException;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+import com.project.cleanarch.eventapi.core.gateway.SeatInventory;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Reserva de assentos concorrente em um evento disputado")
+class SeatReservationStressTest extends AbstractMySqlIntegrationTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 64);
+    private static final int CAPACITY = Integer.getInteger("benchmark.capacity", 5000);
+    private static final Duration LEASE_TTL = Duration.ofMinutes(1);
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private UpdateEventUseCase updateEventUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    @TempDir
+    private Path directory;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM event_seat_reservations");
+        jdbcTemplate.update("DELETE FROM event_seat_leases");
+        jdbcTemplate.update("DELETE FROM events");
+    }
+
+    @Test
+    @DisplayName("Duas instâncias disputando o mesmo evento nunca vendem além da capacidade")
+    void shouldNeverOversellAcrossInstances() throws Exception {
+        Long eventId = createEvent("hot-event", CAPACITY);
+        List<StripedSeatInventory> instances = List.of(inventory("node-a", Duration.ofMillis(50)), inventory("node-b", Duration.ofMillis(50)));
+        AtomicLong held = new AtomicLong();
+        AtomicLong operations = new AtomicLong();
+
+        long begin = System.nanoTime();
+        race(thread -> {
+            SeatInventory inventory = instances.get(thread % instances.size());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<SeatReservation> mine = new ArrayList<>();
+            int refused = 0;
+            while (refused < 20) {
+                Optional<SeatReservation> reservation = inventory.reserve(eventId, random.nextInt(1, 5));
+                if (reservation.isPresent()) {
+                    mine.add(reservation.get());
+                    held.addAndGet(reservation.get().seats());
+                } else {
+                    refused++;
+                }
+                if (!mine.isEmpty() && random.nextInt(5) == 0) {
+                    SeatReservation released = mine.removeLast();
+                    assertTrue(inventory.release(eventId, released.id()));
+                    held.addAndGet(-released.seats());
+                }
+                operations.incrementAndGet();
+            }
+            return null;
+        });
+        double opsPerSecond = operations.get() / ((System.nanoTime() - begin) / 1_000_000_000.0);
+
+        for (StripedSeatInventory instance : instances) {
+            instance.close();
+        }
+        long reserved = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(seats), 0) FROM event_seat_reservations", Long.class);
+        long leased = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(leased_seats), 0) FROM event_seat_leases", Long.class);
+
+        BenchmarkReport.publish(getClass(), "seat reservation", Map.of("threads", THREADS, "capacity", CAPACITY,
+                "opsPerSecond", opsPerSecond, "reserved", reserved));
+        assertEquals(held.get(), reserved);
+        assertTrue(reserved <= CAPACITY);
+        assertEquals(reserved, leased);
+    }
+
+    @Test
+    @DisplayName("Reserva confirmada e ainda não gravada no banco sobrevive a uma queda pelo journal")
+    void shouldRecoverUnflushedReservations() throws Exception {
+        Long eventId = createEvent("crash-event", 10);
+        Path journal = directory.resolve("node-a.journal");
+        // Sem flush durante o teste: as reservas só existem no journal quando a instância "cai"
+        StripedSeatInventory crashed = inventory("node-a", journal, Duration.ofHours(1));
+        SeatReservation kept = crashed.reserve(eventId, 3).orElseThrow();
+        SeatReservation released = crashed.reserve(eventId, 2).orElseThrow();
+        assertTrue(crashed.release(eventId, released.id()));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_seat_reservations", Long.class));
+
+        StripedSeatInventory restarted = inventory("node-a", journal, Duration.ofMillis(50));
+
+        assertEquals(List.of(kept.id()), jdbcTemplate.queryForList("SELECT id FROM event_seat_reservations", String.class));
+        assertTrue(restarted.reserve(eventId, 7).isPresent());
+        assertFalse(restarted.reserve(eventId, 1).isPresent());
+        assertTrue(restarted.release(eventId, kept.id()));
+        assertTrue(restarted.reserve(eventId, 3).isPresent());
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("Lease de uma instância sem renovação só volta ao evento quando ela é cercada")
+    void shouldKeepLeaseOfDeadInstanceUntilFenced() throws Exception {
+        Long eventId = createEvent("dead-node-event", 100);
+        Timestamp expired = Timestamp.valueOf(LocalDateTime.now().minus(LEASE_TTL).minusSeconds(1));
+        jdbcTemplate.update("INSERT INTO event_seat_leases (event_id, node_id, leased_seats, updated_at) VALUES (?, 'dead', 100, ?)",
+                eventId, expired);
+        jdbcTemplate.update("INSERT INTO event_seat_reservations (id, event_id, node_id, seats, reserved_at) VALUES ('r-1', ?, 'dead', 4, ?)",
+                eventId, expired);
+        SeatReservationStore store = new SeatReservationStore(jdbcTemplate, transactionOperations, LEASE_TTL);
+
+        StripedSeatInventory alive = inventory("node-a", Duration.ofMillis(50));
+        // A instância morta pode ter reservas confirmadas no journal: o lease dela continua valendo
+        assertFalse(alive.reserve(eventId, 1).isPresent());
+        assertEquals(100, jdbcTemplate.queryForObject("SELECT leased_seats FROM event_seat_leases WHERE node_id = 'dead'", Integer.class));
+        // Instância viva (renovada no start) não é cercada
+        assertEquals(0, store.fence("node-a"));
+        alive.close();
+
+        assertEquals(1, store.fence("dead"));
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT leased_seats FROM event_seat_leases WHERE node_id = 'dead'", Integer.class));
+
+        StripedSeatInventory next = inventory("node-b", Duration.ofMillis(50));
+        assertTrue(next.reserve(eventId, 96).isPresent());
+        assertFalse(next.reserve(eventId, 1).isPresent());
+        next.close();
+    }
+
+    @Test
+    @DisplayName("Reservas do journal de uma instância que volta continuam cobertas pelo lease dela")
+    void shouldCoverJournaledReservationsWhenDeadInstanceReturns() throws Exception {
+        Long eventId = createEvent("returning-node-event", 100);
+        Path journal = directory.resolve("returning.journal");
+        // Flush longo: as reservas ficam só no journal quando a instância "cai"
+        StripedSeatInventory crashed = inventory("returning", journal, Duration.ofHours(1));
+        assertTrue(crashed.reserve(eventId, 10).isPresent());
+        jdbcTemplate.update("UPDATE event_seat_leases SET updated_at = ? WHERE node_id = 'returning'",
+                Timestamp.valueOf(LocalDateTime.now().minus(LEASE_TTL).minusSeconds(1)));
+
+        // O primeiro lease levou o evento todo (lease-block 100), e continua com ela mesmo vencido
+        StripedSeatInventory other = inventory("node-a", Duration.ofMillis(50));
+        assertFalse(other.reserve(eventId, 1).isPresent());
+        other.close();
+
+        StripedSeatInventory restarted = inventory("returning", journal, Duration.ofMillis(50));
+        assertTrue(restarted.reserve(eventId, 90).isPresent());
+        assertFalse(restarted.reserve(eventId, 1).isPresent());
+        restarted.close();
+
+        assertEquals(100, jdbcTemplate.queryForObject("SELECT SUM(seats) FROM event_seat_reservations", Long.class));
+        assertEquals(100, jdbcTemplate.queryForObject("SELECT SUM(leased_seats) FROM event_seat_leases", Long.class));
+    }
+
+    @Test
+    @DisplayName("Capacidade não pode ficar abaixo dos assentos já concedidos às instâncias")
+    void shouldRejectCapacityBelowLeasedSeats() throws Exception {
+        Long eventId = createEvent("shrinking-event", 500);
+        StripedSeatInventory instance = inventory("node-a", Duration.ofMillis(50));
+        // Primeira reserva: a instância recebe um bloco de 100 assentos
+        assertTrue(instance.reserve(eventId, 1).isPresent());
+
+        BusinessException error = assertThrows(BusinessException.class,
+                () -> updateEventUseCase.execute(eventId, event("shrinking-event", 99)));
+
+        assertEquals("event.capacity.below.leased", error.getCode());
+        updateEventUseCase.execute(eventId, event("shrinking-event", 100));
+        assertEquals(100, jdbcTemplate.queryForObject("SELECT capacity FROM events WHERE id = ?", Integer.class, eventId));
+        instance.close();
+    }
+
+    private StripedSeatInventory inventory(String nodeId, Duration flushInterval) throws Exception {
+        return inventory(nodeId, directory.resolve(nodeId + ".journal"), flushInterval);
+    }
+
+    private StripedSeatInventory inventory(String nodeId, Path journal, Duration flushInterval) throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SeatReservationStore store = new SeatReservationStore(jdbcTemplate, transactionOperations, LEASE_TTL);
+        SeatReservationWriteBehind writeBehind = new SeatReservationWriteBehind(new SeatReservationJournal(journal), store, nodeId,
+                500, flushInterval, Duration.ofSeconds(1), meterRegistry);
+        writeBehind.recover();
+        writeBehind.start();
+        StripedSeatInventory inventory = new StripedSeatInventory(store, writeBehind, nodeId, 16, 100, Duration.ofMillis(100),
+                Duration.ofSeconds(5), LEASE_TTL, meterRegistry);
+        inventory.start();
+        return inventory;
+    }
+
+    private void race(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int current = thread;
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    return task.run(current);
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long createEvent(String identifier, int capacity) {
+        creatorEventUseCase.execute(event(identifier, capacity));
+        return jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = ?", Long.class, identifier);
+    }
+
+    private static Event event(String identifier, int capacity) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        return new Event("Event", null, identifier, start, start.plusHours(2), "Location", capacity,
+                EventType.CONCERT, EventStatusEnum.OPEN, null);
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        Void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import com.project.cleanarch.eventapi.core.domain.model.SeatReservation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@MockitoSettings
+@DisplayName("SeatReservationWriteBehind")
+class SeatReservationWriteBehindTest {
+
+    private static final String NODE = "node-a";
+
+    @Mock
+    private SeatReservationStore store;
+
+    @TempDir
+    private Path directory;
+
+    private SeatReservationWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (writeBehind != null) {
+            writeBehind.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve confirmar a reserva no journal e gravá-la no banco no lote seguinte")
+    void shouldFlushJournaledReservations() throws Exception {
+        writeBehind = start(Duration.ofMillis(20));
+        SeatReservation reservation = reservation("r-1");
+
+        writeBehind.reserved(reservation).get(1, TimeUnit.SECONDS);
+
+        verify(store, timeout(1000)).insert(NODE, List.of(reservation), 100);
+        waitUntilFlushed("r-1");
+        assertNull(writeBehind.pending("r-1"));
+    }
+
+    @Test
+    @DisplayName("Reserva liberada antes do lote não chega ao banco")
+    void shouldSkipReleasedReservations() throws Exception {
+        writeBehind = start(Duration.ofMillis(200));
+        SeatReservation reservation = reservation("r-1");
+        writeBehind.reserved(reservation).get(1, TimeUnit.SECONDS);
+
+        PendingReservation entry = writeBehind.pending("r-1");
+        assertTrue(entry.release());
+        writeBehind.released(entry).get(1, TimeUnit.SECONDS);
+        writeBehind.close();
+        writeBehind = null;
+
+        verify(store, never()).insert(any(), anyList(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Com o banco fora, as reservas ficam no journal e são gravadas na recuperação")
+    void shouldRecoverJournalAfterDatabaseFailure() throws Exception {
+        doThrow(new IllegalStateException("banco fora")).when(store).insert(eq(NODE), anyList(), anyInt());
+        writeBehind = start(Duration.ofMillis(10));
+        SeatReservation kept = reservation("r-1");
+        writeBehind.reserved(kept).get(1, TimeUnit.SECONDS);
+        writeBehind.reserved(reservation("r-2")).get(1, TimeUnit.SECONDS);
+
+        PendingReservation released = writeBehind.pending("r-2");
+        while (!released.release()) {
+            Thread.onSpinWait();
+        }
+        writeBehind.released(released).get(1, TimeUnit.SECONDS);
+        writeBehind.close();
+
+        SeatReservationStore recovered = mock(SeatReservationStore.class);
+        writeBehind = new SeatReservationWriteBehind(journal(), recovered, NODE, 100,
+                Duration.ofMillis(10), Duration.ofMillis(50), new SimpleMeterRegistry());
+
+        assertEquals(1, writeBehind.recover());
+        verify(recovered).insert(NODE, List.of(kept), 100);
+        assertEquals(0, writeBehind.recover());
+    }
+
+    private SeatReservationWriteBehind start(Duration flushInterval) throws Exception {
+        SeatReservationWriteBehind started = new SeatReservationWriteBehind(journal(), store, NODE, 100,
+                flushInterval, Duration.ofMillis(50), new SimpleMeterRegistry());
+        started.start();
+        return started;
+    }
+
+    private SeatReservationJournal journal() throws Exception {
+        return new SeatReservationJournal(directory.resolve("seats.journal"));
+    }
+
+    private void waitUntilFlushed(String reservationId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (writeBehind.pending(reservationId) != null && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static SeatReservation reservation(String id) {
+        return new SeatReservation(id, 1L, 2, LocalDateTime.of(2030, 1, 1, 10, 0));
+    }
+}
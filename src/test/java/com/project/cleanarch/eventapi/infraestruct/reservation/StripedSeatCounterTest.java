@@ -0,0 +1,148 @@
+package com.project.cleanarch.eventapi.infraestruct.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import com.project.cleanarch.eventapi.BenchmarkReport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("StripedSeatCounter")
+class StripedSeatCounterTest {
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 32);
+
+    @Test
+    @DisplayName("Deve reservar de uma vez o saldo espalhado em várias faixas")
+    void shouldReserveAcrossStripes() {
+        StripedSeatCounter counter = new StripedSeatCounter(8);
+        SeatPool pool = new SeatPool(10);
+
+        assertTrue(counter.reserve(1, pool));
+        assertTrue(counter.reserve(9, pool));
+        assertFalse(counter.reserve(1, pool));
+        assertEquals(0, counter.available());
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar assentos liberados antes de pedir mais ao lease")
+    void shouldReuseReleasedSeats() {
+        StripedSeatCounter counter = new StripedSeatCounter(4);
+        SeatPool pool = new SeatPool(2);
+
+        assertTrue(counter.reserve(2, pool));
+        counter.release(2);
+
+        assertTrue(counter.reserve(2, pool));
+        assertEquals(1, pool.requests.get());
+    }
+
+    @Test
+    @DisplayName("Depois de fechado recusa reservas e devolve o saldo uma única vez")
+    void shouldRefuseAfterClose() {
+        StripedSeatCounter counter = new StripedSeatCounter(4);
+        SeatPool pool = new SeatPool(10);
+        assertTrue(counter.reserve(3, pool));
+
+        assertEquals(7, counter.close());
+        assertEquals(0, counter.close());
+        assertFalse(counter.reserve(1, pool));
+    }
+
+    @Test
+    @DisplayName("Reservas e liberações concorrentes nunca passam da capacidade nem perdem assentos")
+    void shouldNeverOversellUnderContention() throws Exception {
+        int capacity = 20_000;
+        StripedSeatCounter counter = new StripedSeatCounter(THREADS);
+        SeatPool pool = new SeatPool(capacity);
+        AtomicLong held = new AtomicLong();
+        AtomicLong maxHeld = new AtomicLong();
+        AtomicLong operations = new AtomicLong();
+
+        long begin = System.nanoTime();
+        race(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Integer> mine = new ArrayList<>();
+            int refused = 0;
+            while (refused < 50) {
+                int seats = random.nextInt(1, 5);
+                if (counter.reserve(seats, pool)) {
+                    mine.add(seats);
+                    maxHeld.accumulateAndGet(held.addAndGet(seats), Math::max);
+                } else {
+                    refused++;
+                }
+                if (!mine.isEmpty() && random.nextInt(4) == 0) {
+                    int released = mine.removeLast();
+                    held.addAndGet(-released);
+                    counter.release(released);
+                }
+                operations.incrementAndGet();
+            }
+            return null;
+        });
+        double opsPerSecond = operations.get() / ((System.nanoTime() - begin) / 1_000_000_000.0);
+
+        BenchmarkReport.publish(getClass(), "seat counter", Map.of("threads", THREADS, "opsPerSecond", opsPerSecond,
+                "held", held.get(), "leaseRequests", pool.requests.get()));
+        assertTrue(maxHeld.get() <= capacity);
+        assertEquals(capacity, pool.granted.get());
+        assertEquals(capacity, held.get() + counter.available());
+    }
+
+    private static void race(Callable<Void> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Lease em memória: concede em blocos de 100 até esgotar a capacidade
+     */
+    private static final class SeatPool implements IntUnaryOperator {
+
+        private final int capacity;
+        private final AtomicInteger granted = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+
+        private SeatPool(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public int applyAsInt(int missing) {
+            requests.incrementAndGet();
+            int grant = Math.min(Math.max(missing, 100), capacity - granted.get());
+            granted.addAndGet(grant);
+            return grant;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.project.cleanarch.eventapi.infraestruct.summary;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.infraestruct.persistence.repositories.EventSummaryState;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@MockitoSettings
+@DisplayName("EventDailySummaries")
+class EventDailySummariesTest {
+
+    private static final LocalDateTime DAY_ONE = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final LocalDateTime DAY_TWO = DAY_ONE.plusDays(1);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Captor
+    private ArgumentCaptor<List<Object[]>> rows;
+
+    private EventDailySummaries summaries;
+
+    @BeforeEach
+    void setUp() {
+        summaries = new EventDailySummaries(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve somar os eventos da mesma linha em um único upsert")
+    void shouldMergeDeltasOfSameRow() {
+        summaries.apply(List.of(), List.of(
+                state(1L, DAY_ONE, EventStatusEnum.OPEN, 10),
+                state(2L, DAY_ONE.plusHours(3), EventStatusEnum.OPEN, 5)));
+
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(1, rows.getValue().size());
+        assertArrayEquals(new Object[]{Date.valueOf(DAY_ONE.toLocalDate()), "CONFERENCE", "OPEN", 2L, 15L, 2L, 15L}, rows.getValue().get(0));
+    }
+
+    @Test
+    @DisplayName("Deve mover o evento de linha no cancelamento, em ordem de chave primária")
+    void shouldMoveEventBetweenRowsInKeyOrder() {
+        EventSummaryState open = state(1L, DAY_TWO, EventStatusEnum.OPEN, 10);
+
+        summaries.apply(List.of(open, state(2L, DAY_ONE, EventStatusEnum.OPEN, 4)),
+                List.of(open.withStatus(EventStatusEnum.CANCELLED), state(2L, DAY_ONE, EventStatusEnum.OPEN, 4)));
+
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        List<Object[]> upserts = rows.getValue();
+        assertEquals(2, upserts.size());
+        assertArrayEquals(new Object[]{Date.valueOf(DAY_TWO.toLocalDate()), "CONFERENCE", "CANCELLED", 1L, 10L, 1L, 10L}, upserts.get(0));
+        assertArrayEquals(new Object[]{Date.valueOf(DAY_TWO.toLocalDate()), "CONFERENCE", "OPEN", -1L, -10L, -1L, -10L}, upserts.get(1));
+    }
+
+    @Test
+    @DisplayName("Não deve escrever quando a alteração não muda nenhuma linha")
+    void shouldSkipWhenNothingChanges() {
+        EventSummaryState state = state(1L, DAY_ONE, EventStatusEnum.OPEN, 10);
+
+        summaries.apply(List.of(state), List.of(state));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    private static EventSummaryState state(Long id, LocalDateTime startAt, EventStatusEnum status, int capacity) {
+        return new EventSummaryState(id, startAt, EventType.CONFERENCE, status, capacity);
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.cleanarch.eventapi.infraestruct.summary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import com.project.cleanarch.eventapi.AbstractMySqlIntegrationTest;
+import com.project.cleanarch.eventapi.core.domain.enums.EventStatusEnum;
+import com.project.cleanarch.eventapi.core.domain.enums.EventType;
+import com.project.cleanarch.eventapi.core.domain.model.Event;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CancellerEventsByFilterUseCase;
+import com.project.cleanarch.eventapi.core.usecases.CreatorEventUseCase;
+import com.project.cleanarch.eventapi.core.usecases.UpdateEventUseCase;
+import com.project.cleanarch.eventapi.infraestruct.dtos.EventFilterDTO;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Resumo diário mantido pelas escritas")
+class EventDailySummaryTest extends AbstractMySqlIntegrationTest {
+
+    private static final String ACTUAL = """
+            SELECT CAST(start_at AS DATE) AS summary_day, type, status, COUNT(*) AS event_count, SUM(capacity) AS total_capacity
+            FROM events GROUP BY CAST(start_at AS DATE), type, status ORDER BY 1, 2, 3
+            """;
+    private static final String STORED = """
+            SELECT summary_day, type, status, event_count, total_capacity
+            FROM event_daily_summaries WHERE event_count <> 0 OR total_capacity <> 0 ORDER BY 1, 2, 3
+            """;
+
+    @Autowired
+    private CreatorEventUseCase creatorEventUseCase;
+
+    @Autowired
+    private UpdateEventUseCase updateEventUseCase;
+
+    @Autowired
+    private CancellerEventUseCase cancellerEventUseCase;
+
+    @Autowired
+    private CancellerEventsByFilterUseCase cancellerEventsByFilterUseCase;
+
+    @Autowired
+    private EventDailySummaryRebuilder rebuilder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(10).withNano(0);
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM event_daily_summaries");
+    }
+
+    @Test
+    @DisplayName("Criação, atualização e cancelamentos mantêm o resumo igual ao GROUP BY em events")
+    void shouldMatchAggregateAfterEveryWrite() {
+        for (int i = 0; i < 20; i++) {
+            creatorEventUseCase.execute(event("summary-" + i, base.plusDays(i % 4), i % 2 == 0 ? "Recife" : "Natal",
+                    10 + i, EventType.values()[i % 3]));
+        }
+        assertEquals(actual(), stored());
+
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM events WHERE identifier = 'summary-0'", Long.class);
+        updateEventUseCase.execute(id, event("summary-0", base.plusDays(7), "Recife", 99, EventType.SEMINAR));
+        assertEquals(actual(), stored());
+
+        cancellerEventUseCase.execute(id, "chuva");
+        assertEquals(actual(), stored());
+
+        cancellerEventsByFilterUseCase.execute(EventFilterDTO.builder().location("Natal").build(), "fechado", false);
+        assertEquals(actual(), stored());
+    }
+
+    @Test
+    @DisplayName("O rebuild corrige linhas divergentes e não mexe em um resumo correto")
+    void shouldRebuildDrift() {
+        for (int i = 0; i < 6; i++) {
+            creatorEventUseCase.execute(event("drift-" + i, base.plusDays(i), "Recife", 10, EventType.CONFERENCE));
+        }
+        assertEquals(0, rebuilder.rebuild());
+
+        jdbcTemplate.update("UPDATE event_daily_summaries SET event_count = event_count + 5");
+        jdbcTemplate.update("""
+                INSERT INTO event_daily_summaries (summary_day, type, status, event_count, total_capacity)
+                VALUES ('2020-01-01', 'CONFERENCE', 'OPEN', 3, 30)
+                """);
+
+        assertEquals(7, rebuilder.rebuild());
+        assertEquals(actual(), stored());
+    }
+
+    private List<Map<String, Object>> actual() {
+        return jdbcTemplate.queryForList(ACTUAL);
+    }
+
+    private List<Map<String, Object>> stored() {
+        return jdbcTemplate.queryForList(STORED);
+    }
+
+    private static Event event(String identifier, LocalDateTime start, String location, int capacity, EventType type) {
+        return new Event("Event", null, identifier, start, start.plusHours(2), location, capacity, type, EventStatusEnum.OPEN, null);
+    }
+}